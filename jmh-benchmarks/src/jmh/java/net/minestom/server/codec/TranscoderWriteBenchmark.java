@@ -0,0 +1,94 @@
+package net.minestom.server.codec;
+
+import net.kyori.adventure.nbt.BinaryTag;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.component.DataComponents;
+import net.minestom.server.item.ItemStack;
+import net.minestom.server.item.Material;
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.registry.Registries;
+import net.minestom.server.registry.RegistryTranscoder;
+import net.minestom.server.world.biome.Biome;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares encoding through an intermediate tree ({@link Transcoder#NBT}/{@link Transcoder#JSON}) followed by its
+ * serialization, with the streaming writers behind {@link Encoder#encodeNbtBytes(Registries, Object)}
+ * and {@link Encoder#encodeJsonString(Registries, Object)}.
+ */
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class TranscoderWriteBenchmark {
+    private Registries registries;
+    private List<Biome> biomes;
+    private ItemStack item;
+    private NetworkBuffer buffer;
+
+    @Setup
+    public void setup() {
+        MinecraftServer.init();
+        registries = MinecraftServer.process();
+        biomes = List.copyOf(registries.biome().values());
+        item = ItemStack.builder(Material.DIAMOND_SWORD)
+                .set(DataComponents.CUSTOM_NAME, Component.text("Benchmark", NamedTextColor.GOLD))
+                .set(DataComponents.LORE, List.of(Component.text("first line"), Component.text("second line")))
+                .set(DataComponents.DAMAGE, 12)
+                .build();
+        buffer = NetworkBuffer.resizableBuffer(1024, registries);
+    }
+
+    @Benchmark
+    public void registryDataTree(Blackhole blackhole) {
+        final Transcoder<BinaryTag> coder = new RegistryTranscoder<>(Transcoder.NBT, registries);
+        buffer.clear();
+        for (Biome biome : biomes) {
+            buffer.write(NetworkBuffer.NBT, Biome.REGISTRY_CODEC.encode(coder, biome).orElseThrow());
+        }
+        blackhole.consume(buffer.writeIndex());
+    }
+
+    @Benchmark
+    public void registryDataStream(Blackhole blackhole) {
+        buffer.clear();
+        for (Biome biome : biomes) {
+            buffer.write(NetworkBuffer.RAW_BYTES, Biome.REGISTRY_CODEC.encodeNbtBytes(registries, biome).orElseThrow());
+        }
+        blackhole.consume(buffer.writeIndex());
+    }
+
+    @Benchmark
+    public void itemNbtTree(Blackhole blackhole) {
+        final Transcoder<BinaryTag> coder = new RegistryTranscoder<>(Transcoder.NBT, registries);
+        buffer.clear();
+        buffer.write(NetworkBuffer.NBT, ItemStack.CODEC.encode(coder, item).orElseThrow());
+        blackhole.consume(buffer.writeIndex());
+    }
+
+    @Benchmark
+    public void itemNbtStream(Blackhole blackhole) {
+        buffer.clear();
+        buffer.write(NetworkBuffer.RAW_BYTES, ItemStack.CODEC.encodeNbtBytes(registries, item).orElseThrow());
+        blackhole.consume(buffer.writeIndex());
+    }
+
+    @Benchmark
+    public void itemJsonTree(Blackhole blackhole) {
+        final var coder = new RegistryTranscoder<>(Transcoder.JSON, registries);
+        blackhole.consume(ItemStack.CODEC.encode(coder, item).orElseThrow().toString());
+    }
+
+    @Benchmark
+    public void itemJsonStream(Blackhole blackhole) {
+        blackhole.consume(ItemStack.CODEC.encodeJsonString(registries, item).orElseThrow());
+    }
+}
@@ -0,0 +1,85 @@
+package net.minestom.server.entity.pathfinding;
+
+import net.minestom.server.collision.BoundingBox;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.pathfinding.generators.GroundNodeGenerator;
+import net.minestom.server.instance.block.Block;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class PathGeneratorBenchmark {
+    private static final int SIZE = 65; // 64 blocks between the start and the target
+    private static final BoundingBox BOUNDING_BOX = new BoundingBox(0.6, 1.95, 0.6);
+    private static final Pos START = new Pos(1.5, 1, 1.5);
+    private static final Pos TARGET = new Pos(SIZE - 1.5, 1, SIZE - 1.5);
+
+    // Seed of the maze, 0 for an empty area
+    @Param({"0", "1", "2"})
+    public long seed;
+
+    Block.Getter getter;
+
+    @Setup
+    public void setup() {
+        final boolean[][] walls = seed == 0 ? new boolean[SIZE][SIZE] : maze(seed);
+        this.getter = (x, y, z, condition) -> {
+            if (y <= 0) return Block.STONE; // Floor
+            if (y > 3) return Block.AIR;
+            if (x < 0 || z < 0 || x >= SIZE || z >= SIZE) return Block.STONE;
+            return walls[x][z] ? Block.STONE : Block.AIR;
+        };
+    }
+
+    @Benchmark
+    public PPath path() {
+        return PathGenerator.generate(getter, START, TARGET, 0, 512, 4096,
+                BOUNDING_BOX, true, new GroundNodeGenerator(), null);
+    }
+
+    /**
+     * Generates a perfect maze with one block wide corridors, using a depth-first search.
+     */
+    private static boolean[][] maze(long seed) {
+        final Random random = new Random(seed);
+        final boolean[][] walls = new boolean[SIZE][SIZE];
+        for (boolean[] column : walls) Arrays.fill(column, true);
+        final int cells = SIZE / 2;
+        final boolean[][] visited = new boolean[cells][cells];
+        final Deque<int[]> stack = new ArrayDeque<>();
+        stack.push(new int[]{0, 0});
+        visited[0][0] = true;
+        walls[1][1] = false;
+        final int[][] directions = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}};
+        while (!stack.isEmpty()) {
+            final int[] cell = stack.peek();
+            int[] next = null;
+            int count = 0;
+            for (int[] direction : directions) {
+                final int x = cell[0] + direction[0], z = cell[1] + direction[1];
+                if (x < 0 || z < 0 || x >= cells || z >= cells || visited[x][z]) continue;
+                // Pick a random unvisited neighbor
+                if (random.nextInt(++count) == 0) next = new int[]{x, z};
+            }
+            if (next == null) {
+                stack.pop();
+                continue;
+            }
+            visited[next[0]][next[1]] = true;
+            walls[cell[0] + next[0] + 1][cell[1] + next[1] + 1] = false;
+            walls[next[0] * 2 + 1][next[1] * 2 + 1] = false;
+            stack.push(next);
+        }
+        return walls;
+    }
+}
@@ -12,9 +12,13 @@ import java.util.concurrent.TimeUnit;
 @State(Scope.Benchmark)
 public class SchedulerTickBenchmark {
 
-    @Param({"0", "1", "5"})
+    @Param({"0", "1", "5", "100000"})
     public int tickTasks;
 
+    // Tasks waiting in the wheels during the benchmark
+    @Param({"0", "100000"})
+    public int delayedTasks;
+
     Scheduler scheduler;
 
     @Setup
@@ -24,6 +28,13 @@ public class SchedulerTickBenchmark {
             this.scheduler.scheduleTask(() -> {
             }, TaskSchedule.nextTick(), TaskSchedule.nextTick());
         }
+        for (int i = 0; i < this.delayedTasks; i++) {
+            final TaskSchedule delay = i % 2 == 0 ? TaskSchedule.tick(Integer.MAX_VALUE - i) : TaskSchedule.hours(1);
+            this.scheduler.scheduleTask(() -> {
+            }, delay, TaskSchedule.stop());
+        }
+        // Move the delayed tasks to the wheels
+        this.scheduler.process();
     }
 
     @Benchmark
@@ -25,8 +25,12 @@ public final class ServerFlag {
     // Network rate limiting
     public static final int PLAYER_PACKET_PER_TICK = intProperty("minestom.packet-per-tick", 50);
     public static final int PLAYER_PACKET_QUEUE_SIZE = intProperty("minestom.packet-queue-size", 1000);
+    public static final boolean PLAYER_MOVEMENT_COALESCING = booleanProperty("minestom.movement-coalescing", false); // Merge the movement packets received during a server tick, changes the number of move events
+    public static final boolean ASYNC_TAB_COMPLETE = booleanProperty("minestom.tab-complete.async", false); // Suggestion callbacks must then be thread-safe, parsed arguments are reused across the requests of a player
+    public static final int TAB_COMPLETE_PARALLELISM = intProperty("minestom.tab-complete.parallelism", 16, 1, Integer.MAX_VALUE);
     public static final long KEEP_ALIVE_DELAY = longProperty("minestom.keep-alive-delay", 10_000);
     public static final long KEEP_ALIVE_KICK = longProperty("minestom.keep-alive-kick", 15_000);
+    public static final int CONFIGURATION_PARALLEL_THRESHOLD = intProperty("minestom.configuration.parallel-threshold", 64, 1, Integer.MAX_VALUE);
     public static final int PLAYER_CHUNK_UPDATE_LIMITER_HISTORY_SIZE = intProperty("minestom.player.chunk-update-limiter-history-size", 5, 0, Integer.MAX_VALUE);
 
     // Network buffers
@@ -47,6 +51,8 @@ public final class ServerFlag {
     public static final boolean GROUPED_PACKET = booleanProperty("minestom.grouped-packet", true);
     public static final boolean CACHED_PACKET = booleanProperty("minestom.cached-packet", true);
     public static final boolean VIEWABLE_PACKET = booleanProperty("minestom.viewable-packet", true);
+    public static final boolean ITEM_NETWORK_CACHE = booleanProperty("minestom.item-network-cache", false);
+    public static final int ITEM_NETWORK_CACHE_SIZE = intProperty("minestom.item-network-cache-size", 4096, 1, 1 << 24);
 
     // Tags
     public static final boolean TAG_HANDLER_CACHE_ENABLED = booleanProperty("minestom.tag-handler-cache", true);
@@ -58,19 +64,30 @@ public final class ServerFlag {
 
     // World
     public static final int WORLD_BORDER_SIZE = intProperty("minestom.world-border-size", 29999984);
+    public static final int CHUNK_TICKET_GRACE_PERIOD = intProperty("minestom.chunk-tickets.grace-period", -1); // Ticks before unloading a chunk without ticket, negative to disable
+    public static final int CHUNK_TICKET_BATCH_SIZE = intProperty("minestom.chunk-tickets.batch-size", 64, 1, Integer.MAX_VALUE); // Chunks saved and unloaded per second
+    public static final int PARALLEL_BLOCK_TICK_THRESHOLD = intProperty("minestom.parallel-block-tick.threshold", 16, 1, Integer.MAX_VALUE); // Parallel tickable handlers of a chunk before using the common pool
+    public static final int RANDOM_TICK_SPEED = intProperty("minestom.random-tick-speed", 3, 0, 4096); // Default random ticks per section and tick of instances
 
     // Maps
     public static final String MAP_RGB_MAPPING = stringProperty("minestom.map.rgbmapping", "lazy");
     public static final int MAP_RGB_REDUCTION = intProperty("minestom.map.rgbreduction", -1); // Only used if rgb mapping is "approximate"
+    public static final @Nullable String MAP_RGB_CACHE = stringProperty("minestom.map.rgbcache"); // File persisting the table of the "precise" rgb mapping
 
     // Entities
     public static final boolean ENFORCE_INTERACTION_LIMIT = booleanProperty("minestom.enforce-entity-interaction-range", true);
+    public static final int PATHFINDING_THREADS = intProperty("minestom.pathfinding.threads", 1, 1, Integer.MAX_VALUE);
+    public static final int PATHFINDING_TICK_BUDGET = intProperty("minestom.pathfinding.tick-budget", 10, 1, Integer.MAX_VALUE); // Milliseconds per tick and thread
+    public static final int AI_SELECTION_INTERVAL = intProperty("minestom.ai.selection-interval", 1, 1, Integer.MAX_VALUE); // Ticks between goal selections
+    public static final int AI_UNVIEWED_SELECTION_INTERVAL = intProperty("minestom.ai.unviewed-selection-interval", 1, 1, Integer.MAX_VALUE); // Same for creatures without viewer
+    public static final int AI_SELECTION_BUDGET = intProperty("minestom.ai.selection-budget", -1); // Goal selections per tick, negative for unlimited
 
     // Experimental/Unstable
     public static final boolean REGISTRY_UNSAFE_OPS = booleanProperty("minestom.registry.unsafe-ops");
     public static final boolean EVENT_NODE_ALLOW_MULTIPLE_PARENTS = booleanProperty("minestom.event.multiple-parents");
     public static final boolean FASTER_SOCKET_WRITES = booleanProperty("minestom.new-socket-write-lock"); // TODO: promote to default
     public static final boolean ACQUIRABLE_STRICT = booleanProperty("minestom.acquirable-strict", false);
+    public static final boolean BATCHED_PHYSICS = booleanProperty("minestom.batched-physics", false);
 
     public static boolean INSIDE_TEST = booleanProperty("minestom.inside-test", false);
 
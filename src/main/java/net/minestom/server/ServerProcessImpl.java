@@ -8,6 +8,7 @@ import net.minestom.server.command.CommandManager;
 import net.minestom.server.component.DataComponents;
 import net.minestom.server.dialog.Dialog;
 import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.ai.GoalScheduler;
 import net.minestom.server.entity.damage.DamageType;
 import net.minestom.server.entity.metadata.animal.ChickenVariant;
 import net.minestom.server.entity.metadata.animal.CowVariant;
@@ -43,6 +44,7 @@ import net.minestom.server.network.packet.client.ClientPacket;
 import net.minestom.server.network.socket.Server;
 import net.minestom.server.recipe.RecipeManager;
 import net.minestom.server.registry.DynamicRegistry;
+import net.minestom.server.scoreboard.ScoreboardUpdates;
 import net.minestom.server.scoreboard.TeamManager;
 import net.minestom.server.snapshot.*;
 import net.minestom.server.thread.Acquirable;
@@ -453,6 +455,7 @@ final class ServerProcessImpl implements ServerProcess {
             var serverTickEvent = EventsJFR.newServerTick();
             serverTickEvent.begin();
             scheduler().processTick();
+            GoalScheduler.nextTick();
 
             // Connection tick (let waiting clients in, send keep alives, handle configuration players packets)
             connection().tick(nanoTime);
@@ -463,6 +466,7 @@ final class ServerProcessImpl implements ServerProcess {
             scheduler().processTickEnd();
 
             // Flush all waiting packets
+            ScoreboardUpdates.flush();
             PacketViewableUtils.flush();
 
             // Monitoring
@@ -1,5 +1,10 @@
 package net.minestom.server.codec;
 
+import com.google.gson.JsonElement;
+import net.kyori.adventure.nbt.BinaryTag;
+import net.minestom.server.registry.Registries;
+import net.minestom.server.registry.RegistryTranscoder;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.UnknownNullability;
 
@@ -53,4 +58,35 @@ public interface Encoder<T extends @UnknownNullability Object> {
      */
     <D> Result<D> encode(Transcoder<D> coder, @Nullable T value);
 
+    /**
+     * Encodes a value of {@link T} straight to its nameless network NBT form (the tag type id followed by its payload),
+     * without building an intermediate {@link BinaryTag} tree.
+     *
+     * @param registries the registries used to resolve registry references, can be null
+     * @param value      the value to encode
+     * @return the {@link Result} of the encoding
+     */
+    @ApiStatus.Experimental
+    default Result<byte[]> encodeNbtBytes(@Nullable Registries registries, @Nullable T value) {
+        final Transcoder<TranscoderNbtWriterImpl.Value> coder = registries != null
+                ? new RegistryTranscoder<>(TranscoderNbtWriterImpl.INSTANCE, registries)
+                : TranscoderNbtWriterImpl.INSTANCE;
+        return encode(coder, value).mapResult(TranscoderNbtWriterImpl.Value::toByteArray);
+    }
+
+    /**
+     * Encodes a value of {@link T} straight to JSON text, without building an intermediate {@link JsonElement} tree.
+     *
+     * @param registries the registries used to resolve registry references, can be null
+     * @param value      the value to encode
+     * @return the {@link Result} of the encoding
+     */
+    @ApiStatus.Experimental
+    default Result<String> encodeJsonString(@Nullable Registries registries, @Nullable T value) {
+        final Transcoder<TranscoderJsonWriterImpl.Value> coder = registries != null
+                ? new RegistryTranscoder<>(TranscoderJsonWriterImpl.INSTANCE, registries)
+                : TranscoderJsonWriterImpl.INSTANCE;
+        return encode(coder, value).mapResult(TranscoderJsonWriterImpl.Value::json);
+    }
+
 }
@@ -0,0 +1,270 @@
+package net.minestom.server.codec;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+import net.minestom.server.utils.json.JsonUtil;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Streaming variant of {@link TranscoderJsonImpl} writing values straight to JSON text.
+ * <p>
+ * Every value is already serialized once created, so objects and arrays only concatenate the text of their children
+ * instead of building a {@link JsonElement} tree to be serialized afterward. Reading is supported but slow as it
+ * requires parsing the text back into a tree, this transcoder is meant for encoding.
+ */
+@ApiStatus.Internal
+final class TranscoderJsonWriterImpl implements Transcoder<TranscoderJsonWriterImpl.Value> {
+    static final TranscoderJsonWriterImpl INSTANCE = new TranscoderJsonWriterImpl();
+
+    private static final Value NULL = new Value("null", null);
+    private static final Value FALSE = new Value("false", null);
+    private static final Value TRUE = new Value("true", null);
+    private static final Value EMPTY_LIST = new Value("[]", null);
+    private static final Value EMPTY_MAP = new Value("{}", null);
+
+    /**
+     * An encoded JSON value.
+     *
+     * @param json   the JSON text
+     * @param string the value of string primitives, used when the value is an object key
+     */
+    record Value(String json, @Nullable String string) {
+        JsonElement toElement() {
+            return JsonUtil.fromJson(json);
+        }
+    }
+
+    @Override
+    public Value createNull() {
+        return NULL;
+    }
+
+    @Override
+    public Result<Boolean> getBoolean(Value value) {
+        return Transcoder.JSON.getBoolean(value.toElement());
+    }
+
+    @Override
+    public Value createBoolean(boolean value) {
+        return value ? TRUE : FALSE;
+    }
+
+    @Override
+    public Result<Byte> getByte(Value value) {
+        return Transcoder.JSON.getByte(value.toElement());
+    }
+
+    @Override
+    public Value createByte(byte value) {
+        return new Value(Byte.toString(value), null);
+    }
+
+    @Override
+    public Result<Short> getShort(Value value) {
+        return Transcoder.JSON.getShort(value.toElement());
+    }
+
+    @Override
+    public Value createShort(short value) {
+        return new Value(Short.toString(value), null);
+    }
+
+    @Override
+    public Result<Integer> getInt(Value value) {
+        return Transcoder.JSON.getInt(value.toElement());
+    }
+
+    @Override
+    public Value createInt(int value) {
+        return new Value(Integer.toString(value), null);
+    }
+
+    @Override
+    public Result<Long> getLong(Value value) {
+        return Transcoder.JSON.getLong(value.toElement());
+    }
+
+    @Override
+    public Value createLong(long value) {
+        return new Value(Long.toString(value), null);
+    }
+
+    @Override
+    public Result<Float> getFloat(Value value) {
+        return Transcoder.JSON.getFloat(value.toElement());
+    }
+
+    @Override
+    public Value createFloat(float value) {
+        checkFinite(value);
+        return new Value(Float.toString(value), null);
+    }
+
+    @Override
+    public Result<Double> getDouble(Value value) {
+        return Transcoder.JSON.getDouble(value.toElement());
+    }
+
+    @Override
+    public Value createDouble(double value) {
+        checkFinite(value);
+        return new Value(Double.toString(value), null);
+    }
+
+    @Override
+    public Result<String> getString(Value value) {
+        if (value.string() != null) return new Result.Ok<>(value.string());
+        return Transcoder.JSON.getString(value.toElement());
+    }
+
+    @Override
+    public Value createString(String value) {
+        final StringBuilder builder = new StringBuilder(value.length() + 2);
+        appendString(builder, value);
+        return new Value(builder.toString(), value);
+    }
+
+    @Override
+    public Result<List<Value>> getList(Value value) {
+        return Transcoder.JSON.getList(value.toElement()).mapResult(elements -> {
+            final List<Value> values = new ArrayList<>(elements.size());
+            for (JsonElement element : elements) values.add(fromElement(element));
+            return List.copyOf(values);
+        });
+    }
+
+    @Override
+    public Value emptyList() {
+        return EMPTY_LIST;
+    }
+
+    @Override
+    public ListBuilder<Value> createList(int expectedSize) {
+        final StringBuilder builder = new StringBuilder().append('[');
+        return new ListBuilder<>() {
+            private boolean empty = true;
+
+            @Override
+            public ListBuilder<Value> add(Value value) {
+                if (!empty) builder.append(',');
+                builder.append(value.json());
+                empty = false;
+                return this;
+            }
+
+            @Override
+            public Value build() {
+                if (empty) return EMPTY_LIST;
+                return new Value(builder.append(']').toString(), null);
+            }
+        };
+    }
+
+    @Override
+    public Result<MapLike<Value>> getMap(Value value) {
+        return Transcoder.JSON.getMap(value.toElement()).mapResult(map -> new MapLike<>() {
+            @Override
+            public Collection<String> keys() {
+                return map.keys();
+            }
+
+            @Override
+            public boolean hasValue(String key) {
+                return map.hasValue(key);
+            }
+
+            @Override
+            public Result<Value> getValue(String key) {
+                return map.getValue(key).mapResult(TranscoderJsonWriterImpl::fromElement);
+            }
+
+            @Override
+            public int size() {
+                return map.size();
+            }
+        });
+    }
+
+    @Override
+    public Value emptyMap() {
+        return EMPTY_MAP;
+    }
+
+    @Override
+    public MapBuilder<Value> createMap() {
+        final TranscoderWriterEntries<Value> entries = new TranscoderWriterEntries<>();
+        return new MapBuilder<>() {
+            @Override
+            public MapBuilder<Value> put(Value key, Value value) {
+                final String string = key.string();
+                return put(string != null ? string : key.json(), value);
+            }
+
+            @Override
+            public MapBuilder<Value> put(String key, Value value) {
+                if (value != NULL) entries.put(key, value);
+                return this;
+            }
+
+            @Override
+            public Value build() {
+                final int size = entries.size();
+                if (size == 0) return EMPTY_MAP;
+                final StringBuilder builder = new StringBuilder().append('{');
+                for (int i = 0; i < size; i++) {
+                    if (i != 0) builder.append(',');
+                    appendString(builder, entries.key(i));
+                    builder.append(':').append(entries.value(i).json());
+                }
+                return new Value(builder.append('}').toString(), null);
+            }
+        };
+    }
+
+    @Override
+    public <O> Result<O> convertTo(Transcoder<O> coder, Value value) {
+        return Transcoder.JSON.convertTo(coder, value.toElement());
+    }
+
+    // Converting through #convertTo would turn every number into a double
+    private static Value fromElement(JsonElement element) {
+        final String string = element instanceof JsonPrimitive primitive && primitive.isString()
+                ? primitive.getAsString() : null;
+        return new Value(JsonUtil.toJson(element), string);
+    }
+
+    // JSON has no representation for NaN and infinities, the strict Gson writer used by JsonUtil rejects them as well
+    private static void checkFinite(double value) {
+        if (!Double.isFinite(value))
+            throw new IllegalArgumentException("Numeric values must be finite, but was " + value);
+    }
+
+    private static void appendString(StringBuilder builder, String value) {
+        builder.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '"' -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> builder.append("\\r");
+                case '\t' -> builder.append("\\t");
+                case '\b' -> builder.append("\\b");
+                case '\f' -> builder.append("\\f");
+                default -> {
+                    if (c < 0x20 || c == 0x2028 || c == 0x2029) {
+                        builder.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        builder.append(c);
+                    }
+                }
+            }
+        }
+        builder.append('"');
+    }
+}
@@ -0,0 +1,528 @@
+package net.minestom.server.codec;
+
+import net.kyori.adventure.nbt.BinaryTag;
+import net.minestom.server.utils.nbt.BinaryTagUtil;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Streaming variant of {@link TranscoderNbtImpl} writing values straight to their binary NBT form.
+ * <p>
+ * Primitives are serialized once created, maps and lists only keep their children along with the size of their payload.
+ * The outermost value is then written with a single heap allocation instead of building a {@link BinaryTag} tree to be
+ * written afterward. Reading is supported but slow as it requires parsing the payload back into a tree, this transcoder
+ * is meant for encoding.
+ */
+@ApiStatus.Internal
+final class TranscoderNbtWriterImpl implements Transcoder<TranscoderNbtWriterImpl.Value> {
+    static final TranscoderNbtWriterImpl INSTANCE = new TranscoderNbtWriterImpl();
+
+    private static final byte TAG_END = 0;
+    private static final byte TAG_BYTE = 1;
+    private static final byte TAG_SHORT = 2;
+    private static final byte TAG_INT = 3;
+    private static final byte TAG_LONG = 4;
+    private static final byte TAG_FLOAT = 5;
+    private static final byte TAG_DOUBLE = 6;
+    private static final byte TAG_BYTE_ARRAY = 7;
+    private static final byte TAG_STRING = 8;
+    private static final byte TAG_LIST = 9;
+    private static final byte TAG_COMPOUND = 10;
+    private static final byte TAG_INT_ARRAY = 11;
+    private static final byte TAG_LONG_ARRAY = 12;
+
+    private static final Value NULL = new Leaf(TAG_END, new byte[0], null);
+    private static final Value FALSE = new Leaf(TAG_BYTE, new byte[]{0}, null);
+    private static final Value TRUE = new Leaf(TAG_BYTE, new byte[]{1}, null);
+    private static final Value EMPTY_LIST = new Leaf(TAG_LIST, new byte[]{TAG_END, 0, 0, 0, 0}, null);
+    private static final Value EMPTY_MAP = new Leaf(TAG_COMPOUND, new byte[]{TAG_END}, null);
+    private static final byte[] EMPTY_KEY = new byte[]{0, 0};
+
+    /**
+     * An encoded tag.
+     * <p>
+     * Maps and lists only reference their children and know their payload size, the whole tree is copied once into a
+     * single heap array when the outermost tag is written with {@link #toByteArray()}.
+     */
+    abstract static sealed class Value permits Leaf, Compound, ListTag {
+        private final byte type;
+        private final int size;
+
+        Value(byte type, int size) {
+            this.type = type;
+            this.size = size;
+        }
+
+        /**
+         * Gets the tag type id.
+         *
+         * @return the type id
+         */
+        byte type() {
+            return type;
+        }
+
+        /**
+         * Gets the value of string tags, used when the tag is a map key.
+         *
+         * @return the string value, null if the tag is not a string
+         */
+        @Nullable String string() {
+            return null;
+        }
+
+        /**
+         * Gets if the tag is a compound with a single empty key, see {@link ListBuilderImpl}.
+         *
+         * @return true if the tag is a wrapper compound
+         */
+        boolean wrapper() {
+            return false;
+        }
+
+        /**
+         * Writes the payload, without its type id.
+         *
+         * @param bytes  the destination, with at least {@code size} bytes remaining after {@code offset}
+         * @param offset the index to write at
+         * @return the index following the payload
+         */
+        abstract int writePayload(byte[] bytes, int offset);
+
+        /**
+         * Gets the nameless network form of the tag.
+         *
+         * @return the type id followed by the payload
+         */
+        byte[] toByteArray() {
+            final byte[] bytes = new byte[size + 1];
+            bytes[0] = type;
+            writePayload(bytes, 1);
+            return bytes;
+        }
+
+        BinaryTag toTag() {
+            final byte[] payload = new byte[size];
+            writePayload(payload, 0);
+            try {
+                return BinaryTagUtil.nbtTypeFromId(type).read(new DataInputStream(new ByteArrayInputStream(payload)));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    static final class Leaf extends Value {
+        private final byte[] payload;
+        private final @Nullable String string;
+
+        Leaf(byte type, byte[] payload, @Nullable String string) {
+            super(type, payload.length);
+            this.payload = payload;
+            this.string = string;
+        }
+
+        @Override
+        @Nullable String string() {
+            return string;
+        }
+
+        @Override
+        int writePayload(byte[] bytes, int offset) {
+            System.arraycopy(payload, 0, bytes, offset, payload.length);
+            return offset + payload.length;
+        }
+    }
+
+    static final class Compound extends Value {
+        private final byte[][] keys;
+        private final Value[] values;
+        private final boolean wrapper;
+
+        Compound(byte[][] keys, Value[] values, boolean wrapper) {
+            super(TAG_COMPOUND, size(keys, values));
+            this.keys = keys;
+            this.values = values;
+            this.wrapper = wrapper;
+        }
+
+        private static int size(byte[][] keys, Value[] values) {
+            int size = 1; // TAG_END
+            for (int i = 0; i < keys.length; i++) size += 1 + keys[i].length + values[i].size;
+            return size;
+        }
+
+        @Override
+        boolean wrapper() {
+            return wrapper;
+        }
+
+        @Override
+        int writePayload(byte[] bytes, int offset) {
+            for (int i = 0; i < keys.length; i++) {
+                final Value value = values[i];
+                bytes[offset++] = value.type;
+                System.arraycopy(keys[i], 0, bytes, offset, keys[i].length);
+                offset = value.writePayload(bytes, offset + keys[i].length);
+            }
+            bytes[offset++] = TAG_END;
+            return offset;
+        }
+    }
+
+    /**
+     * Mirrors the heterogeneous list handling of {@link TranscoderNbtImpl}: lists of mixed types are written as a list
+     * of compounds, wrapping every element which is not already a (non-wrapper) compound into {@code {"": element}}.
+     */
+    static final class ListTag extends Value {
+        private final byte elementType;
+        private final boolean heterogeneous;
+        private final Value[] elements;
+
+        ListTag(byte elementType, boolean heterogeneous, Value[] elements) {
+            super(TAG_LIST, size(heterogeneous, elements));
+            this.elementType = elementType;
+            this.heterogeneous = heterogeneous;
+            this.elements = elements;
+        }
+
+        private static int size(boolean heterogeneous, Value[] elements) {
+            int size = 5; // Element type and length
+            for (Value element : elements) {
+                size += element.size;
+                if (wrap(heterogeneous, element)) size += 2 + EMPTY_KEY.length;
+            }
+            return size;
+        }
+
+        private static boolean wrap(boolean heterogeneous, Value element) {
+            return heterogeneous && (element.type != TAG_COMPOUND || element.wrapper());
+        }
+
+        @Override
+        int writePayload(byte[] bytes, int offset) {
+            bytes[offset] = heterogeneous ? TAG_COMPOUND : elementType;
+            writeInt(bytes, offset + 1, elements.length);
+            offset += 5;
+            for (Value element : elements) {
+                final boolean wrap = wrap(heterogeneous, element);
+                if (wrap) {
+                    bytes[offset++] = element.type;
+                    System.arraycopy(EMPTY_KEY, 0, bytes, offset, EMPTY_KEY.length);
+                    offset += EMPTY_KEY.length;
+                }
+                offset = element.writePayload(bytes, offset);
+                if (wrap) bytes[offset++] = TAG_END;
+            }
+            return offset;
+        }
+    }
+
+    @Override
+    public Value createNull() {
+        return NULL;
+    }
+
+    @Override
+    public Result<Boolean> getBoolean(Value value) {
+        return Transcoder.NBT.getBoolean(value.toTag());
+    }
+
+    @Override
+    public Value createBoolean(boolean value) {
+        return value ? TRUE : FALSE;
+    }
+
+    @Override
+    public Result<Byte> getByte(Value value) {
+        return Transcoder.NBT.getByte(value.toTag());
+    }
+
+    @Override
+    public Value createByte(byte value) {
+        return new Leaf(TAG_BYTE, new byte[]{value}, null);
+    }
+
+    @Override
+    public Result<Short> getShort(Value value) {
+        return Transcoder.NBT.getShort(value.toTag());
+    }
+
+    @Override
+    public Value createShort(short value) {
+        return new Leaf(TAG_SHORT, new byte[]{(byte) (value >>> 8), (byte) value}, null);
+    }
+
+    @Override
+    public Result<Integer> getInt(Value value) {
+        return Transcoder.NBT.getInt(value.toTag());
+    }
+
+    @Override
+    public Value createInt(int value) {
+        return new Leaf(TAG_INT, intBytes(value), null);
+    }
+
+    @Override
+    public Result<Long> getLong(Value value) {
+        return Transcoder.NBT.getLong(value.toTag());
+    }
+
+    @Override
+    public Value createLong(long value) {
+        return new Leaf(TAG_LONG, longBytes(value), null);
+    }
+
+    @Override
+    public Result<Float> getFloat(Value value) {
+        return Transcoder.NBT.getFloat(value.toTag());
+    }
+
+    @Override
+    public Value createFloat(float value) {
+        return new Leaf(TAG_FLOAT, intBytes(Float.floatToIntBits(value)), null);
+    }
+
+    @Override
+    public Result<Double> getDouble(Value value) {
+        return Transcoder.NBT.getDouble(value.toTag());
+    }
+
+    @Override
+    public Value createDouble(double value) {
+        return new Leaf(TAG_DOUBLE, longBytes(Double.doubleToLongBits(value)), null);
+    }
+
+    @Override
+    public Result<String> getString(Value value) {
+        if (value.string() != null) return new Result.Ok<>(value.string());
+        return new Result.Error<>("Not a string: " + value.toTag());
+    }
+
+    @Override
+    public Value createString(String value) {
+        return new Leaf(TAG_STRING, modifiedUtf8(value), value);
+    }
+
+    @Override
+    public Result<List<Value>> getList(Value value) {
+        return Transcoder.NBT.getList(value.toTag()).map(tags -> {
+            final List<Value> values = new ArrayList<>(tags.size());
+            for (int i = 0; i < tags.size(); i++) {
+                switch (Transcoder.NBT.convertTo(this, tags.get(i))) {
+                    case Result.Ok(Value element) -> values.add(element);
+                    case Result.Error(String message) -> {
+                        return new Result.Error<>(i + ": " + message);
+                    }
+                }
+            }
+            return new Result.Ok<>(List.copyOf(values));
+        });
+    }
+
+    @Override
+    public Value emptyList() {
+        return EMPTY_LIST;
+    }
+
+    @Override
+    public ListBuilder<Value> createList(int expectedSize) {
+        return new ListBuilderImpl(expectedSize);
+    }
+
+    @Override
+    public Result<MapLike<Value>> getMap(Value value) {
+        return Transcoder.NBT.getMap(value.toTag()).mapResult(map -> new MapLike<>() {
+            @Override
+            public Collection<String> keys() {
+                return map.keys();
+            }
+
+            @Override
+            public boolean hasValue(String key) {
+                return map.hasValue(key);
+            }
+
+            @Override
+            public Result<Value> getValue(String key) {
+                return map.getValue(key).map(tag -> Transcoder.NBT.convertTo(TranscoderNbtWriterImpl.this, tag));
+            }
+
+            @Override
+            public int size() {
+                return map.size();
+            }
+        });
+    }
+
+    @Override
+    public Value emptyMap() {
+        return EMPTY_MAP;
+    }
+
+    @Override
+    public MapBuilder<Value> createMap() {
+        final TranscoderWriterEntries<Value> entries = new TranscoderWriterEntries<>();
+        return new MapBuilder<>() {
+            @Override
+            public MapBuilder<Value> put(Value key, Value value) {
+                if (key.string() != null) put(key.string(), value);
+                return this;
+            }
+
+            @Override
+            public MapBuilder<Value> put(String key, Value value) {
+                if (value.type() != TAG_END) entries.put(key, value);
+                return this;
+            }
+
+            @Override
+            public Value build() {
+                final int size = entries.size();
+                if (size == 0) return EMPTY_MAP;
+                final byte[][] keys = new byte[size][];
+                final Value[] values = new Value[size];
+                for (int i = 0; i < size; i++) {
+                    keys[i] = modifiedUtf8(entries.key(i));
+                    values[i] = entries.value(i);
+                }
+                return new Compound(keys, values, size == 1 && entries.key(0).isEmpty());
+            }
+        };
+    }
+
+    @Override
+    public Result<byte[]> getByteArray(Value value) {
+        return Transcoder.NBT.getByteArray(value.toTag());
+    }
+
+    @Override
+    public Value createByteArray(byte[] value) {
+        final byte[] payload = new byte[4 + value.length];
+        writeInt(payload, 0, value.length);
+        System.arraycopy(value, 0, payload, 4, value.length);
+        return new Leaf(TAG_BYTE_ARRAY, payload, null);
+    }
+
+    @Override
+    public Result<int[]> getIntArray(Value value) {
+        return Transcoder.NBT.getIntArray(value.toTag());
+    }
+
+    @Override
+    public Value createIntArray(int[] value) {
+        final byte[] payload = new byte[4 + value.length * 4];
+        writeInt(payload, 0, value.length);
+        for (int i = 0; i < value.length; i++) writeInt(payload, 4 + i * 4, value[i]);
+        return new Leaf(TAG_INT_ARRAY, payload, null);
+    }
+
+    @Override
+    public Result<long[]> getLongArray(Value value) {
+        return Transcoder.NBT.getLongArray(value.toTag());
+    }
+
+    @Override
+    public Value createLongArray(long[] value) {
+        final byte[] payload = new byte[4 + value.length * 8];
+        writeInt(payload, 0, value.length);
+        for (int i = 0; i < value.length; i++) writeLong(payload, 4 + i * 8, value[i]);
+        return new Leaf(TAG_LONG_ARRAY, payload, null);
+    }
+
+    @Override
+    public <O> Result<O> convertTo(Transcoder<O> coder, Value value) {
+        return Transcoder.NBT.convertTo(coder, value.toTag());
+    }
+
+    private static final class ListBuilderImpl implements ListBuilder<Value> {
+        private final List<Value> elements;
+        private byte elementType = TAG_END;
+        private boolean heterogeneous;
+
+        ListBuilderImpl(int expectedSize) {
+            this.elements = new ArrayList<>(expectedSize);
+        }
+
+        @Override
+        public ListBuilder<Value> add(Value value) {
+            if (value.type() == TAG_END) return this;
+            if (elements.isEmpty()) {
+                elementType = value.type();
+            } else if (elementType != value.type()) {
+                heterogeneous = true;
+            }
+            elements.add(value);
+            return this;
+        }
+
+        @Override
+        public Value build() {
+            if (elements.isEmpty()) return EMPTY_LIST;
+            return new ListTag(elementType, heterogeneous, elements.toArray(Value[]::new));
+        }
+    }
+
+    /**
+     * Encodes a string like {@link java.io.DataOutput#writeUTF(String)}, prefixed by its unsigned short length.
+     */
+    private static byte[] modifiedUtf8(String value) {
+        final int length = value.length();
+        int utfLength = length;
+        for (int i = 0; i < length; i++) {
+            final char c = value.charAt(i);
+            if (c >= 0x80 || c == 0) utfLength += c >= 0x800 ? 2 : 1;
+        }
+        if (utfLength > 65535) throw new IllegalArgumentException("UTF-8 string too long");
+        final byte[] bytes = new byte[2 + utfLength];
+        bytes[0] = (byte) (utfLength >>> 8);
+        bytes[1] = (byte) utfLength;
+        int offset = 2;
+        for (int i = 0; i < length; i++) {
+            final char c = value.charAt(i);
+            if (c < 0x80 && c != 0) {
+                bytes[offset++] = (byte) c;
+            } else if (c < 0x800) {
+                bytes[offset++] = (byte) (0xC0 | (c >> 6));
+                bytes[offset++] = (byte) (0x80 | (c & 0x3F));
+            } else {
+                bytes[offset++] = (byte) (0xE0 | (c >> 12));
+                bytes[offset++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                bytes[offset++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        return bytes;
+    }
+
+    private static byte[] intBytes(int value) {
+        final byte[] bytes = new byte[4];
+        writeInt(bytes, 0, value);
+        return bytes;
+    }
+
+    private static byte[] longBytes(long value) {
+        final byte[] bytes = new byte[8];
+        writeLong(bytes, 0, value);
+        return bytes;
+    }
+
+    private static void writeInt(byte[] bytes, int offset, int value) {
+        bytes[offset] = (byte) (value >>> 24);
+        bytes[offset + 1] = (byte) (value >>> 16);
+        bytes[offset + 2] = (byte) (value >>> 8);
+        bytes[offset + 3] = (byte) value;
+    }
+
+    private static void writeLong(byte[] bytes, int offset, long value) {
+        writeInt(bytes, offset, (int) (value >>> 32));
+        writeInt(bytes, offset + 4, (int) value);
+    }
+}
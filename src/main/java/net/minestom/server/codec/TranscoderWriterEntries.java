@@ -0,0 +1,60 @@
+package net.minestom.server.codec;
+
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Insertion ordered entries of a map being written by a streaming transcoder.
+ * <p>
+ * Putting a key twice replaces the previous value in place, like the tree based transcoders do.
+ * Codec maps are usually tiny, so duplicates are found with a linear scan until the map grows.
+ *
+ * @param <V> the encoded value type
+ */
+final class TranscoderWriterEntries<V> {
+    private static final int INDEX_THRESHOLD = 16;
+
+    private final List<String> keys = new ArrayList<>();
+    private final List<V> values = new ArrayList<>();
+    private @Nullable Object2IntOpenHashMap<String> index;
+
+    void put(String key, V value) {
+        final int existing = indexOf(key);
+        if (existing != -1) {
+            values.set(existing, value);
+            return;
+        }
+        keys.add(key);
+        values.add(value);
+        if (index != null) {
+            index.put(key, keys.size() - 1);
+        } else if (keys.size() > INDEX_THRESHOLD) {
+            index = new Object2IntOpenHashMap<>(keys.size() * 2);
+            index.defaultReturnValue(-1);
+            for (int i = 0; i < keys.size(); i++) index.put(keys.get(i), i);
+        }
+    }
+
+    int size() {
+        return keys.size();
+    }
+
+    String key(int i) {
+        return keys.get(i);
+    }
+
+    V value(int i) {
+        return values.get(i);
+    }
+
+    private int indexOf(String key) {
+        if (index != null) return index.getInt(key);
+        for (int i = 0; i < keys.size(); i++) {
+            if (keys.get(i).equals(key)) return i;
+        }
+        return -1;
+    }
+}
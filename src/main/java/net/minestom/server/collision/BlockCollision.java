@@ -6,11 +6,17 @@ import net.minestom.server.coordinate.Vec;
 import net.minestom.server.entity.Entity;
 import net.minestom.server.entity.Player;
 import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.Section;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.utils.block.BlockIterator;
+import net.minestom.server.utils.chunk.ChunkCache;
 import org.jetbrains.annotations.Nullable;
 
 final class BlockCollision {
+    // Shapes shared by all the blocks without collision and all the full cubes
+    private static final Shape EMPTY_SHAPE = Block.AIR.registry().collisionShape();
+    private static final Shape FULL_SHAPE = Block.STONE.registry().collisionShape();
+
     /**
      * Moves an entity with physics applied (ie checking against blocks)
      * <p>
@@ -37,23 +43,31 @@ final class BlockCollision {
     }
 
     static Entity canPlaceBlockAt(Instance instance, Point blockPos, Block b) {
-        for (Entity entity : instance.getNearbyEntities(blockPos, 3)) {
-            if (!entity.preventBlockPlacement())
-                continue;
-
-            final boolean intersects;
-            if (entity instanceof Player) {
-                // Need to move player slightly away from block we're placing.
-                // If player is at block 40 we cannot place a block at block 39 with side length 1 because the block will be in [39, 40]
-                // For this reason we subtract a small amount from the player position
-                Point playerPos = entity.getPosition().add(entity.getPosition().sub(blockPos).mul(0.0000001));
-                intersects = b.registry().collisionShape().intersectBox(playerPos.sub(blockPos), entity.getBoundingBox());
-            } else {
-                intersects = b.registry().collisionShape().intersectBox(entity.getPosition().sub(blockPos), entity.getBoundingBox());
-            }
-            if (intersects) return entity;
-        }
-        return null;
+        final Shape shape = b.registry().collisionShape();
+        final Point start = shape.relativeStart();
+        final Point end = shape.relativeEnd();
+        final Entity[] found = new Entity[1];
+        instance.getEntityBroadphase().query(
+                blockPos.x() + start.x() - Vec.EPSILON, blockPos.y() + start.y() - Vec.EPSILON, blockPos.z() + start.z() - Vec.EPSILON,
+                blockPos.x() + end.x() + Vec.EPSILON, blockPos.y() + end.y() + Vec.EPSILON, blockPos.z() + end.z() + Vec.EPSILON,
+                entity -> {
+                    if (found[0] != null) return;
+                    if (blockPos.distanceSquared(entity.getPosition()) > 3 * 3) return;
+                    if (!entity.preventBlockPlacement()) return;
+
+                    final boolean intersects;
+                    if (entity instanceof Player) {
+                        // Need to move player slightly away from block we're placing.
+                        // If player is at block 40 we cannot place a block at block 39 with side length 1 because the block will be in [39, 40]
+                        // For this reason we subtract a small amount from the player position
+                        Point playerPos = entity.getPosition().add(entity.getPosition().sub(blockPos).mul(0.0000001));
+                        intersects = shape.intersectBox(playerPos.sub(blockPos), entity.getBoundingBox());
+                    } else {
+                        intersects = shape.intersectBox(entity.getPosition().sub(blockPos), entity.getBoundingBox());
+                    }
+                    if (intersects) found[0] = entity;
+                });
+        return found[0];
     }
 
     private static PhysicsResult cachedPhysics(Vec velocity, Pos entityPosition,
@@ -289,8 +303,7 @@ final class BlockCollision {
                                     Vec entityVelocity, Pos entityPosition, BoundingBox boundingBox,
                                     Block.Getter getter, SweepResult finalResult) {
         // Don't step if chunk isn't loaded yet
-        final Block currentBlock = getter.getBlock(blockX, blockY, blockZ, Block.Getter.Condition.TYPE);
-        final Shape currentShape = currentBlock.registry().collisionShape();
+        final Shape currentShape = collisionShape(getter, blockX, blockY, blockZ);
 
         final boolean currentCollidable = !currentShape.relativeEnd().isZero();
         final boolean currentShort = currentShape.relativeEnd().y() < 0.5;
@@ -299,8 +312,7 @@ final class BlockCollision {
         if (currentShort && shouldCheckLower(entityVelocity, entityPosition, blockX, blockY, blockZ)) {
             // we need to check below for a tall block (fence, wall, ...)
             final Vec belowPos = new Vec(blockX, blockY - 1, blockZ);
-            final Block belowBlock = getter.getBlock(belowPos, Block.Getter.Condition.TYPE);
-            final Shape belowShape = belowBlock.registry().collisionShape();
+            final Shape belowShape = collisionShape(getter, blockX, blockY - 1, blockZ);
 
             final Vec currentPos = new Vec(blockX, blockY, blockZ);
             // don't fall out of if statement, we could end up redundantly grabbing a block, and we only need to
@@ -320,8 +332,7 @@ final class BlockCollision {
             // if the current collision is sufficiently short, we might need to collide against the block below too
             if (currentShort) {
                 final Vec belowPos = new Vec(blockX, blockY - 1, blockZ);
-                final Block belowBlock = getter.getBlock(belowPos, Block.Getter.Condition.TYPE);
-                final Shape belowShape = belowBlock.registry().collisionShape();
+                final Shape belowShape = collisionShape(getter, blockX, blockY - 1, blockZ);
                 // only do sweep if the below block is big enough to possibly hit
                 if (belowShape.relativeEnd().y() > 1)
                     belowShape.intersectBoxSwept(entityPosition, entityVelocity, belowPos, boundingBox, finalResult);
@@ -331,6 +342,26 @@ final class BlockCollision {
         return false;
     }
 
+    /**
+     * Gets the collision shape of a block, using the chunk occupancy bitmap to skip the block lookup
+     * for empty blocks and full cubes.
+     */
+    private static Shape collisionShape(Block.Getter getter, int blockX, int blockY, int blockZ) {
+        if (getter instanceof ChunkCache cache) {
+            switch (cache.getCollision(blockX, blockY, blockZ)) {
+                case Section.NO_COLLISION -> {
+                    return EMPTY_SHAPE;
+                }
+                case Section.FULL_COLLISION -> {
+                    return FULL_SHAPE;
+                }
+                default -> {
+                }
+            }
+        }
+        return getter.getBlock(blockX, blockY, blockZ, Block.Getter.Condition.TYPE).registry().collisionShape();
+    }
+
     private static boolean shouldCheckLower(Vec entityVelocity, Pos entityPosition, int blockX, int blockY, int blockZ) {
         final double yVelocity = entityVelocity.y();
         // if moving horizontally, just check if the floor of the entity's position is the same as the blockY
@@ -0,0 +1,234 @@
+package net.minestom.server.collision;
+
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.instance.Instance;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Finds the entities of an instance which may overlap an area, shared by all the entity collision checks of a tick.
+ * <p>
+ * Entities are bucketed in a uniform grid using their bounding box at the time it is built, padded by {@link #MARGIN}.
+ * Entities leaving their padded box afterward (or added to the instance) are moved to a small set scanned by every query,
+ * results are therefore a superset of the overlapping entities and must be checked against their current position.
+ * <p>
+ * The grid is rebuilt once per tick by {@link #refresh()}, only if it has been queried since the previous refresh.
+ */
+@ApiStatus.Internal
+public final class EntityBroadphase {
+    private static final int CELL_SHIFT = 2; // 4 blocks
+    private static final double MARGIN = 1;
+
+    private final Instance instance;
+    private volatile Grid grid;
+    private volatile boolean queried;
+
+    public EntityBroadphase(Instance instance) {
+        this.instance = instance;
+    }
+
+    /**
+     * Rebuilds the grid from the current entity positions, or releases it if unused during the last tick.
+     * <p>
+     * Called by the instance tick, before the entities are ticked.
+     */
+    public synchronized void refresh() {
+        if (queried) {
+            this.queried = false;
+            publish(build());
+        } else {
+            this.grid = null;
+        }
+    }
+
+    /**
+     * Notifies the broadphase that the position or the bounding box of an entity changed.
+     *
+     * @param entity the entity, part of the instance
+     */
+    public void update(Entity entity) {
+        final Grid grid = this.grid;
+        if (grid != null) grid.update(entity);
+    }
+
+    /**
+     * Gets the entities whose bounding box may overlap the given area.
+     *
+     * @param consumer consumer of the candidates, called at most once per entity
+     */
+    public void query(double minX, double minY, double minZ,
+                      double maxX, double maxY, double maxZ,
+                      Consumer<Entity> consumer) {
+        if (!queried) this.queried = true;
+        Grid grid = this.grid;
+        if (grid == null) grid = initGrid();
+        grid.query(minX, minY, minZ, maxX, maxY, maxZ, consumer);
+    }
+
+    private synchronized Grid initGrid() {
+        Grid grid = this.grid;
+        if (grid != null) return grid;
+        grid = build();
+        publish(grid);
+        return grid;
+    }
+
+    private void publish(Grid grid) {
+        this.grid = grid;
+        // Catch entities which moved or spawned during the build, their update went to the previous grid
+        for (Entity entity : instance.getEntityTracker().entities()) grid.update(entity);
+    }
+
+    private Grid build() {
+        final Entity[] tracked = instance.getEntityTracker().entities().toArray(Entity[]::new);
+        final int size = tracked.length;
+        final double[] trackedBounds = new double[size * 6];
+        final long[] keys = new long[size];
+        final Long2IntOpenHashMap counts = new Long2IntOpenHashMap();
+        double maxWidth = 0, maxDepth = 0;
+        for (int i = 0; i < size; i++) {
+            final Entity entity = tracked[i];
+            final Pos position = entity.getPosition();
+            final BoundingBox boundingBox = entity.getBoundingBox();
+            final int offset = i * 6;
+            trackedBounds[offset] = position.x() + boundingBox.minX() - MARGIN;
+            trackedBounds[offset + 1] = position.y() + boundingBox.minY() - MARGIN;
+            trackedBounds[offset + 2] = position.z() + boundingBox.minZ() - MARGIN;
+            trackedBounds[offset + 3] = position.x() + boundingBox.maxX() + MARGIN;
+            trackedBounds[offset + 4] = position.y() + boundingBox.maxY() + MARGIN;
+            trackedBounds[offset + 5] = position.z() + boundingBox.maxZ() + MARGIN;
+            maxWidth = Math.max(maxWidth, trackedBounds[offset + 3] - trackedBounds[offset]);
+            maxDepth = Math.max(maxDepth, trackedBounds[offset + 5] - trackedBounds[offset + 2]);
+            // Entities are only part of the cell containing their minimum corner
+            final long key = cellIndex(cell(trackedBounds[offset]), cell(trackedBounds[offset + 2]));
+            keys[i] = key;
+            counts.addTo(key, 1);
+        }
+        // Sort the entities by cell, each cell is a range of the arrays
+        final Long2LongOpenHashMap cells = new Long2LongOpenHashMap(counts.size());
+        int start = 0;
+        for (Long2IntMap.Entry entry : counts.long2IntEntrySet()) {
+            cells.put(entry.getLongKey(), (long) start << 32 | start);
+            start += entry.getIntValue();
+        }
+        final Entity[] entities = new Entity[size];
+        final double[] bounds = new double[size * 6];
+        final Int2IntOpenHashMap indexes = new Int2IntOpenHashMap(size);
+        indexes.defaultReturnValue(-1);
+        for (int i = 0; i < size; i++) {
+            final long range = cells.get(keys[i]);
+            final int index = (int) range;
+            entities[index] = tracked[i];
+            System.arraycopy(trackedBounds, i * 6, bounds, index * 6, 6);
+            indexes.put(tracked[i].getEntityId(), index);
+            cells.put(keys[i], range + 1);
+        }
+        return new Grid(instance, entities, bounds, cells, indexes, maxWidth, maxDepth);
+    }
+
+    private static int cell(double coordinate) {
+        return (int) Math.floor(coordinate) >> CELL_SHIFT;
+    }
+
+    private static long cellIndex(int cellX, int cellZ) {
+        return (long) cellX << 32 | (cellZ & 0xFFFFFFFFL);
+    }
+
+    private record Grid(Instance instance, Entity[] entities, double[] bounds,
+                        Long2LongOpenHashMap cells, Int2IntOpenHashMap indexes,
+                        double maxWidth, double maxDepth, Set<Entity> overflow) {
+        Grid(Instance instance, Entity[] entities, double[] bounds,
+             Long2LongOpenHashMap cells, Int2IntOpenHashMap indexes,
+             double maxWidth, double maxDepth) {
+            this(instance, entities, bounds, cells, indexes, maxWidth, maxDepth, ConcurrentHashMap.newKeySet());
+        }
+
+        void update(Entity entity) {
+            if (!overflow.isEmpty() && overflow.contains(entity)) return;
+            final int index = indexes.get(entity.getEntityId());
+            if (index == -1 || entities[index] != entity || !isInside(index, entity)) {
+                overflow.add(entity);
+            }
+        }
+
+        void query(double minX, double minY, double minZ,
+                   double maxX, double maxY, double maxZ,
+                   Consumer<Entity> consumer) {
+            final boolean hasOverflow = !overflow.isEmpty();
+            if (hasOverflow) {
+                for (Entity entity : overflow) {
+                    if (isValid(entity) && intersects(entity, minX, minY, minZ, maxX, maxY, maxZ)) {
+                        consumer.accept(entity);
+                    }
+                }
+            }
+            final int minCellX = cell(minX - maxWidth), maxCellX = cell(maxX);
+            final int minCellZ = cell(minZ - maxDepth), maxCellZ = cell(maxZ);
+            final long cellCount = (long) (maxCellX - minCellX + 1) * (maxCellZ - minCellZ + 1);
+            if (cellCount > entities.length) {
+                // Faster to check every entity
+                for (int i = 0; i < entities.length; i++) {
+                    check(i, hasOverflow, minX, minY, minZ, maxX, maxY, maxZ, consumer);
+                }
+                return;
+            }
+            for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+                for (int cellZ = minCellZ; cellZ <= maxCellZ; cellZ++) {
+                    final long range = cells.get(cellIndex(cellX, cellZ));
+                    final int start = (int) (range >>> 32), end = (int) range;
+                    for (int i = start; i < end; i++) {
+                        check(i, hasOverflow, minX, minY, minZ, maxX, maxY, maxZ, consumer);
+                    }
+                }
+            }
+        }
+
+        private void check(int index, boolean hasOverflow,
+                           double minX, double minY, double minZ,
+                           double maxX, double maxY, double maxZ,
+                           Consumer<Entity> consumer) {
+            final int offset = index * 6;
+            final double[] bounds = this.bounds;
+            if (bounds[offset] > maxX || bounds[offset + 3] < minX ||
+                    bounds[offset + 1] > maxY || bounds[offset + 4] < minY ||
+                    bounds[offset + 2] > maxZ || bounds[offset + 5] < minZ) return;
+            final Entity entity = entities[index];
+            if (!isValid(entity) || (hasOverflow && overflow.contains(entity))) return;
+            consumer.accept(entity);
+        }
+
+        private boolean isValid(Entity entity) {
+            return !entity.isRemoved() && entity.getInstance() == instance;
+        }
+
+        private boolean isInside(int index, Entity entity) {
+            final Pos position = entity.getPosition();
+            final BoundingBox boundingBox = entity.getBoundingBox();
+            final int offset = index * 6;
+            return position.x() + boundingBox.minX() >= bounds[offset] &&
+                    position.y() + boundingBox.minY() >= bounds[offset + 1] &&
+                    position.z() + boundingBox.minZ() >= bounds[offset + 2] &&
+                    position.x() + boundingBox.maxX() <= bounds[offset + 3] &&
+                    position.y() + boundingBox.maxY() <= bounds[offset + 4] &&
+                    position.z() + boundingBox.maxZ() <= bounds[offset + 5];
+        }
+
+        private static boolean intersects(Entity entity,
+                                          double minX, double minY, double minZ,
+                                          double maxX, double maxY, double maxZ) {
+            final Pos position = entity.getPosition();
+            final BoundingBox boundingBox = entity.getBoundingBox();
+            return position.x() + boundingBox.minX() <= maxX && position.x() + boundingBox.maxX() >= minX &&
+                    position.y() + boundingBox.minY() <= maxY && position.y() + boundingBox.maxY() >= minY &&
+                    position.z() + boundingBox.minZ() <= maxZ && position.z() + boundingBox.maxZ() >= minZ;
+        }
+    }
+}
@@ -18,18 +18,29 @@ final class EntityCollision {
 
         var maxDistance = Math.pow(boundingBox.height() * boundingBox.height() + boundingBox.depth() / 2 * boundingBox.depth() / 2 + boundingBox.width() / 2 * boundingBox.width() / 2, 1 / 3.0);
         double projectileDistance = entityVelocity.length();
-
-        for (Entity e : instance.getNearbyEntities(point, extendRadius + maxDistance + projectileDistance)) {
+        final double range = extendRadius + maxDistance + projectileDistance;
+        final double squaredRange = range * range;
+
+        // Area swept by the bounding box, entities outside of it cannot be hit
+        final double minX = point.x() + boundingBox.minX() + Math.min(0, entityVelocity.x()) - Vec.EPSILON;
+        final double minY = point.y() + boundingBox.minY() + Math.min(0, entityVelocity.y()) - Vec.EPSILON;
+        final double minZ = point.z() + boundingBox.minZ() + Math.min(0, entityVelocity.z()) - Vec.EPSILON;
+        final double maxX = point.x() + boundingBox.maxX() + Math.max(0, entityVelocity.x()) + Vec.EPSILON;
+        final double maxY = point.y() + boundingBox.maxY() + Math.max(0, entityVelocity.y()) + Vec.EPSILON;
+        final double maxZ = point.z() + boundingBox.maxZ() + Math.max(0, entityVelocity.z()) + Vec.EPSILON;
+
+        instance.getEntityBroadphase().query(minX, minY, minZ, maxX, maxY, maxZ, e -> {
+            if (point.distanceSquared(e.getPosition()) > squaredRange) return;
             SweepResult sweepResult = new SweepResult(minimumRes, 0, 0, 0, null, 0, 0, 0, 0, 0, 0);
 
-            if (!entityFilter.apply(e)) continue;
-            if (!e.hasEntityCollision()) continue;
+            if (!entityFilter.apply(e)) return;
+            if (!e.hasEntityCollision()) return;
 
             // Overlapping with entity, math can't be done we return the entity
             if (e.getBoundingBox().intersectBox(e.getPosition().sub(point), boundingBox)) {
                 var p = point.asPos();
                 result.add(new EntityCollisionResult(p, e, Vec.ZERO, 0));
-                continue;
+                return;
             }
 
             // Check collisions with entity
@@ -40,7 +51,7 @@ final class EntityCollision {
                 Vec direction = new Vec(sweepResult.collidedPositionX, sweepResult.collidedPositionY, sweepResult.collidedPositionZ);
                 result.add(new EntityCollisionResult(p, e, direction, sweepResult.res));
             }
-        }
+        });
 
         return result;
     }
@@ -0,0 +1,341 @@
+package net.minestom.server.collision;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.Section;
+import net.minestom.server.instance.WorldBorder;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.utils.chunk.ChunkCache;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.Arrays;
+
+/**
+ * Simulates the movement physics of many simple entities in a single pass.
+ * <p>
+ * Entity states are stored in primitive arrays, and blocks are retrieved once per pass
+ * so that entities close to each other share the same lookups.
+ * Collisions are resolved one axis at a time (Y, X then Z) against the collision boxes of the blocks,
+ * which suits the small movements of items, falling blocks or projectiles.
+ * Large movements fall back to the swept collision of {@link CollisionUtils}, and velocity is updated like {@link PhysicsUtils}.
+ * <p>
+ * Not thread-safe, a batch is meant to be reused by a single thread.
+ */
+@ApiStatus.Experimental
+public final class PhysicsBatch {
+    // Movement after which the swept collision is used
+    private static final double MAX_AXIS_MOVEMENT = 4;
+    private static final double EPSILON = 1.0E-7;
+
+    private static final byte NO_GRAVITY = 1;
+    private static final byte HAS_PHYSICS = 1 << 1;
+    private static final byte ON_GROUND = 1 << 2;
+
+    private int size;
+    // Inputs, replaced by the results after a step
+    private double[] x = new double[0], y = new double[0], z = new double[0];
+    private double[] velocityX = new double[0], velocityY = new double[0], velocityZ = new double[0];
+    private byte[] flags = new byte[0];
+    // Bounding boxes relative to the positions
+    private double[] minX = new double[0], minY = new double[0], minZ = new double[0];
+    private double[] maxX = new double[0], maxY = new double[0], maxZ = new double[0];
+    private double[] gravity = new double[0], horizontalAirResistance = new double[0], verticalAirResistance = new double[0];
+    private BoundingBox[] boundingBoxes = new BoundingBox[0];
+
+    // Blocks retrieved during the current step
+    private final Long2ObjectOpenHashMap<Block> blocks = new Long2ObjectOpenHashMap<>();
+    // Collision boxes around the current entity, 6 values per box
+    private double[] boxes = new double[6 * 16];
+    private int boxCount;
+
+    /**
+     * Adds an entity to the batch.
+     *
+     * @param position    the entity position
+     * @param velocity    the entity velocity in blocks/tick
+     * @param boundingBox the entity bounding box
+     * @param noGravity   whether the entity has no gravity
+     * @param hasPhysics  whether the entity collides with blocks
+     * @param onGround    whether the entity is on the ground
+     * @return the index of the entity in the batch
+     */
+    public int add(Pos position, Vec velocity, BoundingBox boundingBox, Aerodynamics aerodynamics,
+                   boolean noGravity, boolean hasPhysics, boolean onGround) {
+        final int index = size;
+        if (index == x.length) grow(Math.max(16, index * 2));
+        this.x[index] = position.x();
+        this.y[index] = position.y();
+        this.z[index] = position.z();
+        this.velocityX[index] = velocity.x();
+        this.velocityY[index] = velocity.y();
+        this.velocityZ[index] = velocity.z();
+        this.flags[index] = (byte) ((noGravity ? NO_GRAVITY : 0) | (hasPhysics ? HAS_PHYSICS : 0) | (onGround ? ON_GROUND : 0));
+        this.minX[index] = boundingBox.minX();
+        this.minY[index] = boundingBox.minY();
+        this.minZ[index] = boundingBox.minZ();
+        this.maxX[index] = boundingBox.maxX();
+        this.maxY[index] = boundingBox.maxY();
+        this.maxZ[index] = boundingBox.maxZ();
+        this.gravity[index] = aerodynamics.gravity();
+        this.horizontalAirResistance[index] = aerodynamics.horizontalAirResistance();
+        this.verticalAirResistance[index] = aerodynamics.verticalAirResistance();
+        this.boundingBoxes[index] = boundingBox;
+        this.size = index + 1;
+        return index;
+    }
+
+    /**
+     * Moves all the entities of the batch by one tick.
+     * <p>
+     * Results are available through {@link #x(int)}, {@link #velocityX(int)}, {@link #isOnGround(int)}, etc...
+     *
+     * @param getter      the block getter to test block collisions against
+     * @param worldBorder the world border to test bounds against
+     */
+    public void step(Block.Getter getter, WorldBorder worldBorder) {
+        try {
+            for (int i = 0; i < size; i++) step(i, getter, worldBorder);
+        } finally {
+            this.blocks.clear();
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        Arrays.fill(boundingBoxes, 0, size, null);
+        this.size = 0;
+    }
+
+    public double x(int index) {
+        return x[index];
+    }
+
+    public double y(int index) {
+        return y[index];
+    }
+
+    public double z(int index) {
+        return z[index];
+    }
+
+    public double velocityX(int index) {
+        return velocityX[index];
+    }
+
+    public double velocityY(int index) {
+        return velocityY[index];
+    }
+
+    public double velocityZ(int index) {
+        return velocityZ[index];
+    }
+
+    public boolean isOnGround(int index) {
+        return (flags[index] & ON_GROUND) != 0;
+    }
+
+    private void step(int i, Block.Getter getter, WorldBorder worldBorder) {
+        final double startX = x[i], startY = y[i], startZ = z[i];
+        final double velocityX = this.velocityX[i], velocityY = this.velocityY[i], velocityZ = this.velocityZ[i];
+        final int flags = this.flags[i];
+        final boolean onGround = (flags & ON_GROUND) != 0;
+
+        double newX = startX + velocityX, newY = startY + velocityY, newZ = startZ + velocityZ;
+        boolean collisionX = false, collisionY = false, collisionZ = false;
+        if ((flags & HAS_PHYSICS) != 0 && (velocityX != 0 || velocityY != 0 || velocityZ != 0)) {
+            if (Math.abs(velocityX) > MAX_AXIS_MOVEMENT || Math.abs(velocityY) > MAX_AXIS_MOVEMENT ||
+                    Math.abs(velocityZ) > MAX_AXIS_MOVEMENT) {
+                final PhysicsResult result = BlockCollision.handlePhysics(boundingBoxes[i],
+                        new Vec(velocityX, velocityY, velocityZ), new Pos(startX, startY, startZ), getter, null, false);
+                newX = result.newPosition().x();
+                newY = result.newPosition().y();
+                newZ = result.newPosition().z();
+                collisionX = result.collisionX();
+                collisionY = result.collisionY();
+                collisionZ = result.collisionZ();
+            } else {
+                double entityMinX = startX + minX[i], entityMaxX = startX + maxX[i];
+                double entityMinY = startY + minY[i], entityMaxY = startY + maxY[i];
+                double entityMinZ = startZ + minZ[i], entityMaxZ = startZ + maxZ[i];
+                collectBoxes(getter,
+                        Math.min(entityMinX, entityMinX + velocityX), Math.min(entityMinY, entityMinY + velocityY), Math.min(entityMinZ, entityMinZ + velocityZ),
+                        Math.max(entityMaxX, entityMaxX + velocityX), Math.max(entityMaxY, entityMaxY + velocityY), Math.max(entityMaxZ, entityMaxZ + velocityZ));
+                final double[] boxes = this.boxes;
+                final int count = boxCount * 6;
+                double deltaX = velocityX, deltaY = velocityY, deltaZ = velocityZ;
+                // Y axis
+                if (deltaY != 0) {
+                    for (int b = 0; b < count; b += 6) {
+                        if (boxes[b + 3] - EPSILON <= entityMinX || boxes[b] + EPSILON >= entityMaxX ||
+                                boxes[b + 5] - EPSILON <= entityMinZ || boxes[b + 2] + EPSILON >= entityMaxZ) continue;
+                        if (deltaY > 0 && boxes[b + 1] >= entityMaxY - EPSILON) {
+                            deltaY = Math.min(deltaY, boxes[b + 1] - entityMaxY);
+                        } else if (deltaY < 0 && boxes[b + 4] <= entityMinY + EPSILON) {
+                            deltaY = Math.max(deltaY, boxes[b + 4] - entityMinY);
+                        }
+                    }
+                    collisionY = deltaY != velocityY;
+                    entityMinY += deltaY;
+                    entityMaxY += deltaY;
+                }
+                // X axis
+                if (deltaX != 0) {
+                    for (int b = 0; b < count; b += 6) {
+                        if (boxes[b + 4] - EPSILON <= entityMinY || boxes[b + 1] + EPSILON >= entityMaxY ||
+                                boxes[b + 5] - EPSILON <= entityMinZ || boxes[b + 2] + EPSILON >= entityMaxZ) continue;
+                        if (deltaX > 0 && boxes[b] >= entityMaxX - EPSILON) {
+                            deltaX = Math.min(deltaX, boxes[b] - entityMaxX);
+                        } else if (deltaX < 0 && boxes[b + 3] <= entityMinX + EPSILON) {
+                            deltaX = Math.max(deltaX, boxes[b + 3] - entityMinX);
+                        }
+                    }
+                    collisionX = deltaX != velocityX;
+                    entityMinX += deltaX;
+                    entityMaxX += deltaX;
+                }
+                // Z axis
+                if (deltaZ != 0) {
+                    for (int b = 0; b < count; b += 6) {
+                        if (boxes[b + 3] - EPSILON <= entityMinX || boxes[b] + EPSILON >= entityMaxX ||
+                                boxes[b + 4] - EPSILON <= entityMinY || boxes[b + 1] + EPSILON >= entityMaxY) continue;
+                        if (deltaZ > 0 && boxes[b + 2] >= entityMaxZ - EPSILON) {
+                            deltaZ = Math.min(deltaZ, boxes[b + 2] - entityMaxZ);
+                        } else if (deltaZ < 0 && boxes[b + 5] <= entityMinZ + EPSILON) {
+                            deltaZ = Math.max(deltaZ, boxes[b + 5] - entityMinZ);
+                        }
+                    }
+                    collisionZ = deltaZ != velocityZ;
+                }
+                newX = startX + (Math.abs(deltaX) < Vec.EPSILON ? 0 : deltaX);
+                newY = startY + (Math.abs(deltaY) < Vec.EPSILON ? 0 : deltaY);
+                newZ = startZ + (Math.abs(deltaZ) < Vec.EPSILON ? 0 : deltaZ);
+            }
+        }
+
+        // World border, prevent the entity from moving forward on the colliding axis
+        final double radius = worldBorder.diameter() / 2;
+        if (newX > worldBorder.centerX() + radius || newX < worldBorder.centerX() - radius) newX = startX;
+        if (newZ > worldBorder.centerZ() + radius || newZ < worldBorder.centerZ() - radius) newZ = startZ;
+
+        // Velocity
+        final boolean noGravity = (flags & NO_GRAVITY) != 0;
+        final boolean positionChanged = Double.compare(newX, startX) != 0 ||
+                Double.compare(newY, startY) != 0 || Double.compare(newZ, startZ) != 0;
+        double newVelocityX, newVelocityY, newVelocityZ;
+        if (!positionChanged) {
+            newVelocityX = 0;
+            newVelocityY = noGravity ? 0 : -gravity[i] * verticalAirResistance[i];
+            newVelocityZ = 0;
+        } else {
+            final double drag = onGround ?
+                    block(getter, (int) Math.floor(startX), (int) Math.floor(startY - 0.5000001), (int) Math.floor(startZ)).registry().friction() * horizontalAirResistance[i] :
+                    horizontalAirResistance[i];
+            newVelocityX = (collisionX ? 0 : velocityX) * drag;
+            newVelocityY = noGravity ? (collisionY ? 0 : velocityY) : ((collisionY ? 0 : velocityY) - gravity[i]) * verticalAirResistance[i];
+            newVelocityZ = (collisionZ ? 0 : velocityZ) * drag;
+            if (Math.abs(newVelocityX) < Vec.EPSILON) newVelocityX = 0;
+            if (Math.abs(newVelocityY) < Vec.EPSILON) newVelocityY = 0;
+            if (Math.abs(newVelocityZ) < Vec.EPSILON) newVelocityZ = 0;
+        }
+
+        this.x[i] = newX;
+        this.y[i] = newY;
+        this.z[i] = newZ;
+        this.velocityX[i] = newVelocityX;
+        this.velocityY[i] = newVelocityY;
+        this.velocityZ[i] = newVelocityZ;
+        final boolean newOnGround = collisionY && velocityY < 0;
+        this.flags[i] = (byte) (newOnGround ? flags | ON_GROUND : flags & ~ON_GROUND);
+    }
+
+    /**
+     * Collects the collision boxes of the blocks intersecting the given area,
+     * including the layer below for tall blocks such as fences.
+     */
+    private void collectBoxes(Block.Getter getter,
+                              double minX, double minY, double minZ,
+                              double maxX, double maxY, double maxZ) {
+        this.boxCount = 0;
+        final int startX = (int) Math.floor(minX), endX = (int) Math.floor(maxX);
+        final int startY = (int) Math.floor(minY) - 1, endY = (int) Math.floor(maxY);
+        final int startZ = (int) Math.floor(minZ), endZ = (int) Math.floor(maxZ);
+        for (int blockX = startX; blockX <= endX; blockX++) {
+            for (int blockZ = startZ; blockZ <= endZ; blockZ++) {
+                for (int blockY = startY; blockY <= endY; blockY++) {
+                    if (getter instanceof ChunkCache cache) {
+                        // Skip the block lookup for empty blocks and full cubes
+                        final int collision = cache.getCollision(blockX, blockY, blockZ);
+                        if (collision == Section.NO_COLLISION) continue;
+                        if (collision == Section.FULL_COLLISION) {
+                            if (blockY != startY) addBox(blockX, blockY, blockZ, blockX + 1, blockY + 1, blockZ + 1);
+                            continue;
+                        }
+                    }
+                    final Shape shape = block(getter, blockX, blockY, blockZ).registry().collisionShape();
+                    final Point end = shape.relativeEnd();
+                    if (end.isZero()) continue;
+                    // Only tall blocks can reach the entity from the layer below
+                    if (blockY == startY && end.y() <= 1) continue;
+                    if (shape instanceof ShapeImpl shapeImpl) {
+                        for (BoundingBox box : shapeImpl.collisionBoundingBoxes()) {
+                            addBox(blockX + box.minX(), blockY + box.minY(), blockZ + box.minZ(),
+                                    blockX + box.maxX(), blockY + box.maxY(), blockZ + box.maxZ());
+                        }
+                    } else {
+                        final Point start = shape.relativeStart();
+                        addBox(blockX + start.x(), blockY + start.y(), blockZ + start.z(),
+                                blockX + end.x(), blockY + end.y(), blockZ + end.z());
+                    }
+                }
+            }
+        }
+    }
+
+    private void addBox(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+        final int offset = boxCount * 6;
+        if (offset == boxes.length) this.boxes = Arrays.copyOf(boxes, boxes.length * 2);
+        final double[] boxes = this.boxes;
+        boxes[offset] = minX;
+        boxes[offset + 1] = minY;
+        boxes[offset + 2] = minZ;
+        boxes[offset + 3] = maxX;
+        boxes[offset + 4] = maxY;
+        boxes[offset + 5] = maxZ;
+        this.boxCount++;
+    }
+
+    private Block block(Block.Getter getter, int blockX, int blockY, int blockZ) {
+        final long key = ((long) blockX & 0x3FFFFFF) << 38 | ((long) blockZ & 0x3FFFFFF) << 12 | (blockY & 0xFFF);
+        Block block = blocks.get(key);
+        if (block == null) {
+            block = getter.getBlock(blockX, blockY, blockZ, Block.Getter.Condition.TYPE);
+            blocks.put(key, block);
+        }
+        return block;
+    }
+
+    private void grow(int capacity) {
+        this.x = Arrays.copyOf(x, capacity);
+        this.y = Arrays.copyOf(y, capacity);
+        this.z = Arrays.copyOf(z, capacity);
+        this.velocityX = Arrays.copyOf(velocityX, capacity);
+        this.velocityY = Arrays.copyOf(velocityY, capacity);
+        this.velocityZ = Arrays.copyOf(velocityZ, capacity);
+        this.flags = Arrays.copyOf(flags, capacity);
+        this.minX = Arrays.copyOf(minX, capacity);
+        this.minY = Arrays.copyOf(minY, capacity);
+        this.minZ = Arrays.copyOf(minZ, capacity);
+        this.maxX = Arrays.copyOf(maxX, capacity);
+        this.maxY = Arrays.copyOf(maxY, capacity);
+        this.maxZ = Arrays.copyOf(maxZ, capacity);
+        this.gravity = Arrays.copyOf(gravity, capacity);
+        this.horizontalAirResistance = Arrays.copyOf(horizontalAirResistance, capacity);
+        this.verticalAirResistance = Arrays.copyOf(verticalAirResistance, capacity);
+        this.boundingBoxes = Arrays.copyOf(boundingBoxes, capacity);
+    }
+}
@@ -7,12 +7,16 @@ import net.minestom.server.command.builder.ParsedCommand;
 import net.minestom.server.entity.Player;
 import net.minestom.server.event.EventDispatcher;
 import net.minestom.server.event.player.PlayerCommandEvent;
+import net.minestom.server.network.packet.server.CachedPacket;
+import net.minestom.server.network.packet.server.SendablePacket;
 import net.minestom.server.network.packet.server.play.DeclareCommandsPacket;
 import net.minestom.server.utils.callback.CommandCallback;
 import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Manager used to register {@link Command commands}.
@@ -22,6 +26,7 @@ import java.util.*;
 public final class CommandManager {
 
     public static final String COMMAND_PREFIX = "/";
+    private static final int MAX_CACHED_PACKETS = 256;
 
     private final ServerSender serverSender = new ServerSender();
     private final ConsoleSender consoleSender = new ConsoleSender();
@@ -32,6 +37,7 @@ public final class CommandManager {
 
     private CommandCallback unknownCommandCallback;
     private volatile @Nullable Graph cachedGraph;
+    private volatile @Nullable PacketCache cachedPackets;
 
     public CommandManager() {
     }
@@ -190,6 +196,33 @@ public final class CommandManager {
         return GraphConverter.createPacket(getGraph(), player);
     }
 
+    /**
+     * Gets the commands packet for a specific player, shared with the players seeing the same commands.
+     * <p>
+     * Packets are cached per set of visible nodes, the conditions are still evaluated for each call.
+     * Invalidated when a command is registered or unregistered.
+     *
+     * @param player the player to get the commands packet
+     * @return the {@link DeclareCommandsPacket} for {@code player}
+     */
+    public SendablePacket declareCommandsPacket(Player player) {
+        final Graph graph = getGraph();
+        PacketCache cache = this.cachedPackets;
+        if (cache == null || cache.graph() != graph) {
+            cache = new PacketCache(graph, new ConcurrentHashMap<>());
+            this.cachedPackets = cache;
+        }
+        final BitSet fingerprint = GraphConverter.fingerprint(graph, player);
+        final Map<BitSet, CachedPacket> packets = cache.packets();
+        CachedPacket packet = packets.get(fingerprint);
+        if (packet == null) {
+            packet = new CachedPacket(GraphConverter.createPacket(graph, player));
+            // Prevent unbounded growth with many distinct permission sets
+            if (packets.size() < MAX_CACHED_PACKETS) packets.putIfAbsent(fingerprint, packet);
+        }
+        return packet;
+    }
+
     public Set<Command> getCommands() {
         return Collections.unmodifiableSet(commands);
     }
@@ -204,6 +237,18 @@ public final class CommandManager {
         return parser.parse(sender, getGraph(), input);
     }
 
+    /**
+     * Parses the command based on the registered commands, reusing the arguments parsed for previous inputs.
+     *
+     * @param input commands string without prefix
+     * @param cache the parse cache of the sender
+     * @return the parsing result
+     */
+    @ApiStatus.Internal
+    public CommandParser.Result parseCommand(CommandSender sender, String input, CommandParser.Cache cache) {
+        return parser.parse(sender, getGraph(), input, cache);
+    }
+
     private Graph getGraph() {
         Graph graph = cachedGraph;
         if (graph == null) {
@@ -220,6 +265,7 @@ public final class CommandManager {
 
     private void invalidateGraphCache() {
         cachedGraph = null;
+        cachedPackets = null;
     }
 
     private static CommandResult resultConverter(ExecutableCommand executable,
@@ -232,4 +278,7 @@ public final class CommandManager {
             case UNKNOWN -> CommandResult.Type.UNKNOWN;
         }, input, ParsedCommand.fromExecutable(executable), newResult.commandData());
     }
+
+    private record PacketCache(Graph graph, Map<BitSet, CachedPacket> packets) {
+    }
 }
@@ -14,6 +14,10 @@ public interface CommandParser {
         return CommandParserImpl.PARSER;
     }
 
+    static Cache cache() {
+        return new CommandParserImpl.CacheImpl();
+    }
+
     /**
      * Parses the command by following the graph
      *
@@ -24,6 +28,25 @@ public interface CommandParser {
     @Contract("_, _ -> new")
     Result parse(CommandSender sender, Graph graph, String input);
 
+    /**
+     * Parses the command by following the graph, reusing the arguments parsed for the previous inputs.
+     * <p>
+     * Meant for repeated parsing of a changing input from the same sender, like tab completion.
+     *
+     * @param graph structure to use for parsing
+     * @param input command string without prefix
+     * @param cache the cache of the sender, see {@link #cache()}
+     * @return the parsed command
+     */
+    @Contract("_, _, _, _ -> new")
+    Result parse(CommandSender sender, Graph graph, String input, Cache cache);
+
+    /**
+     * Arguments parsed for previous inputs, thread-safe.
+     */
+    sealed interface Cache permits CommandParserImpl.CacheImpl {
+    }
+
     sealed interface Result {
         ExecutableCommand executable();
 
@@ -15,10 +15,7 @@ import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayDeque;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -97,11 +94,24 @@ final class CommandParserImpl implements CommandParser {
 
     @Override
     public CommandParser.Result parse(CommandSender sender, Graph graph, String input) {
+        return parseInput(sender, graph, input, null);
+    }
+
+    @Override
+    public CommandParser.Result parse(CommandSender sender, Graph graph, String input, Cache cache) {
+        final CacheImpl cacheImpl = (CacheImpl) cache;
+        synchronized (cacheImpl) {
+            cacheImpl.begin(graph);
+            return parseInput(sender, graph, input, cacheImpl);
+        }
+    }
+
+    private CommandParser.Result parseInput(CommandSender sender, Graph graph, String input, @Nullable CacheImpl cache) {
         final CommandStringReader reader = new CommandStringReader(input);
         Chain chain = new Chain();
         Node parent = graph.root();
 
-        NodeResult result = parseNode(sender, parent, chain, reader);
+        NodeResult result = parseNode(sender, parent, chain, reader, cache);
         chain = result.chain;
 
         NodeResult lastNodeResult = chain.nodeResults.peekLast();
@@ -128,14 +138,15 @@ final class CommandParserImpl implements CommandParser {
         return obj == null ? null : getter.apply(obj);
     }
 
-    private static NodeResult parseNode(CommandSender sender, Node node, Chain chain, CommandStringReader reader) {
+    private static NodeResult parseNode(CommandSender sender, Node node, Chain chain, CommandStringReader reader,
+                                        @Nullable CacheImpl cache) {
         chain = chain.fork();
         Argument<?> argument = node.argument();
         int start = reader.cursor();
 
         if (reader.hasRemaining()) {
             SuggestionCallback suggestionCallback = argument.getSuggestionCallback();
-            ArgumentResult<?> result = parseArgument(sender, argument, reader);
+            ArgumentResult<?> result = parseArgument(sender, argument, reader, cache);
             NodeResult nodeResult = new NodeResult(node, chain, (ArgumentResult<Object>) result, suggestionCallback);
             chain.append(nodeResult);
             if (suggestionCallback != null) chain.suggestionCallback = suggestionCallback;
@@ -171,7 +182,7 @@ final class CommandParserImpl implements CommandParser {
 
         NodeResult error = null;
         for (Node child : node.next()) {
-            NodeResult childResult = parseNode(sender, child, chain, reader);
+            NodeResult childResult = parseNode(sender, child, chain, reader, cache);
             if (childResult.argumentResult instanceof ArgumentResult.Success<Object>) {
                 // Assume that there is only one successful node for a given chain of arguments
                 return childResult;
@@ -431,14 +442,15 @@ final class CommandParserImpl implements CommandParser {
 
     // ARGUMENT
 
-    private static <T> ArgumentResult<T> parseArgument(CommandSender sender, Argument<T> argument, CommandStringReader reader) {
+    private static <T> ArgumentResult<T> parseArgument(CommandSender sender, Argument<T> argument, CommandStringReader reader,
+                                                       @Nullable CacheImpl cache) {
+        // Single word argument
+        if (!argument.allowSpace()) {
+            final String word = reader.readWord();
+            return cache != null ? cache.parseWord(sender, argument, word) : parseWord(sender, argument, word);
+        }
         // Handle specific type without loop
         try {
-            // Single word argument
-            if (!argument.allowSpace()) {
-                final String word = reader.readWord();
-                return new ArgumentResult.Success<>(argument.parse(sender, word), word);
-            }
             // Complete input argument
             if (argument.useRemaining()) {
                 final String remaining = reader.readRemaining();
@@ -463,6 +475,45 @@ final class CommandParserImpl implements CommandParser {
         return new ArgumentResult.IncompatibleType<>();
     }
 
+    private static <T> ArgumentResult<T> parseWord(CommandSender sender, Argument<T> argument, String word) {
+        try {
+            return new ArgumentResult.Success<>(argument.parse(sender, word), word);
+        } catch (ArgumentSyntaxException ignored) {
+            return new ArgumentResult.IncompatibleType<>();
+        }
+    }
+
+    /**
+     * Keeps the single word arguments parsed for the current and the previous input of a sender.
+     * <p>
+     * Consecutive inputs usually share everything but their last word, the parsing of the unchanged words is reused.
+     * Entries unused by an input are dropped at the next one, and everything is dropped when the graph changes.
+     */
+    static final class CacheImpl implements Cache {
+        private Graph graph;
+        private Map<Argument<?>, Map<String, ArgumentResult<?>>> previous = new IdentityHashMap<>();
+        private Map<Argument<?>, Map<String, ArgumentResult<?>>> current = new IdentityHashMap<>();
+
+        void begin(Graph graph) {
+            this.previous = this.graph == graph ? current : new IdentityHashMap<>();
+            this.current = new IdentityHashMap<>();
+            this.graph = graph;
+        }
+
+        @SuppressWarnings("unchecked")
+        <T> ArgumentResult<T> parseWord(CommandSender sender, Argument<T> argument, String word) {
+            final Map<String, ArgumentResult<?>> results = current.computeIfAbsent(argument, a -> new HashMap<>());
+            ArgumentResult<?> result = results.get(word);
+            if (result == null) {
+                final Map<String, ArgumentResult<?>> previousResults = previous.get(argument);
+                if (previousResults != null) result = previousResults.get(word);
+                if (result == null) result = CommandParserImpl.parseWord(sender, argument, word);
+                results.put(word, result);
+            }
+            return (ArgumentResult<T>) result;
+        }
+    }
+
     private sealed interface ArgumentResult<R> {
         record Success<T>(T value, String input)
                 implements ArgumentResult<T> {
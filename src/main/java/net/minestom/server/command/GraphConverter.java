@@ -29,6 +29,31 @@ final class GraphConverter {
         return new DeclareCommandsPacket(nodes, rootId);
     }
 
+    /**
+     * Computes the visibility of the graph nodes for a player, two players with the same fingerprint
+     * receive the same {@link #createPacket(Graph, Player)} tree.
+     * <p>
+     * Conditions are evaluated in the same order as the packet creation, skipping the children of hidden nodes.
+     * The first differing condition is therefore at the same index for both players.
+     */
+    public static BitSet fingerprint(Graph graph, Player player) {
+        BitSet fingerprint = new BitSet();
+        fingerprint(graph.root(), player, fingerprint, new int[1]);
+        return fingerprint;
+    }
+
+    private static void fingerprint(Graph.Node graphNode, Player player, BitSet fingerprint, int[] index) {
+        final Graph.Execution execution = graphNode.execution();
+        if (execution != null) {
+            final int nodeIndex = index[0]++;
+            if (!execution.test(player)) return;
+            fingerprint.set(nodeIndex);
+        }
+        for (Graph.Node child : graphNode.next()) {
+            fingerprint(child, player, fingerprint, index);
+        }
+    }
+
     private static int[] append(Graph.Node graphNode, List<DeclareCommandsPacket.Node> to,
                                 List<BiConsumer<Graph, Integer>> redirects, AtomicInteger id, @Nullable AtomicInteger redirect,
                                 @Nullable Player player, Map<Argument<?>, Integer> argToPacketId) {
@@ -125,6 +125,10 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
 
     protected BoundingBox boundingBox;
     private PhysicsResult previousPhysicsResult = null;
+    // Movement computed ahead by the thread, see EntityPhysicsBatch
+    private EntityPhysicsBatch physicsBatch;
+    private int physicsBatchIndex;
+    private long physicsBatchGeneration;
 
     protected Entity vehicle;
 
@@ -183,6 +187,7 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
     // Network synchronization, send the absolute position of the entity every n ticks
     private long synchronizationTicks = ServerFlag.ENTITY_SYNCHRONIZATION_TICKS;
     private long nextSynchronizationTick = synchronizationTicks;
+    private EntityMovementLodTracker movementLodTracker;
 
     protected MetadataHolder metadata = new MetadataHolder(this);
     protected EntityMeta entityMeta;
@@ -534,6 +539,8 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
         }
         // Head position
         player.sendPacket(new EntityHeadLookPacket(getEntityId(), position.yaw()));
+        final EntityMovementLodTracker movementLodTracker = this.movementLodTracker;
+        if (movementLodTracker != null) movementLodTracker.reset(player, position);
     }
 
     /**
@@ -552,6 +559,8 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
         }
         leashedEntities.forEach(entity -> player.sendPacket(new AttachEntityPacket(entity.getEntityId(), -1)));
         player.sendPacket(destroyPacketCache);
+        final EntityMovementLodTracker movementLodTracker = this.movementLodTracker;
+        if (movementLodTracker != null) movementLodTracker.remove(player);
     }
 
     @Override
@@ -591,6 +600,9 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
         Set<Player> viewers = new HashSet<>(getViewers());
         getViewers().forEach(this::updateOldViewer);
         viewers.forEach(this::updateNewViewer);
+
+        final Instance instance = this.instance;
+        if (instance != null) instance.getEntityTracker().refresh(this); // Entity type targets
     }
 
     /**
@@ -631,6 +643,17 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
             synchronizePosition();
             sendPacketToViewers(getVelocityPacket());
         }
+        // Distance based movement updates
+        if (movementLodTracker != null && vehicle == null) {
+            final EntityMovementLod lod = EntityMovementLod.get(entityType);
+            if (lod != null) {
+                movementLodTracker.update(this, lod, ticks);
+            } else {
+                // Viewers may know different positions, bring them back to the same one
+                this.movementLodTracker = null;
+                synchronizePosition();
+            }
+        }
         // End of tick scheduled tasks
         this.scheduler.processTickEnd();
     }
@@ -640,23 +663,46 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
         this.gravityTickCount = onGround ? 0 : gravityTickCount + 1;
         if (vehicle != null) return;
 
+        final EntityPhysicsBatch physicsBatch = this.physicsBatch;
+        if (physicsBatch != null) {
+            this.physicsBatch = null;
+            final int index = this.physicsBatchIndex;
+            if (physicsBatch.isValid(this, index, physicsBatchGeneration)) {
+                this.previousPhysicsResult = null;
+                applyMovement(physicsBatch.position(index), physicsBatch.velocity(index), physicsBatch.isOnGround(index));
+                return;
+            }
+        }
+
         boolean entityIsPlayer = this instanceof Player;
         boolean entityFlying = entityIsPlayer && ((Player) this).isFlying();
         final Block.Getter chunkCache = new ChunkCache(instance, currentChunk, Block.STONE);
         PhysicsResult physicsResult = PhysicsUtils.simulateMovement(position, velocity.div(ServerFlag.SERVER_TICKS_PER_SECOND), boundingBox,
                 instance.getWorldBorder(), chunkCache, aerodynamics, hasNoGravity(), hasPhysics, onGround, entityFlying, previousPhysicsResult);
         this.previousPhysicsResult = physicsResult;
+        applyMovement(physicsResult.newPosition(), physicsResult.newVelocity(), physicsResult.isOnGround());
+    }
 
-        Chunk finalChunk = ChunkUtils.retrieve(instance, currentChunk, physicsResult.newPosition());
+    private void applyMovement(Pos newPosition, Vec newVelocity, boolean newOnGround) {
+        Chunk finalChunk = ChunkUtils.retrieve(instance, currentChunk, newPosition);
         if (!ChunkUtils.isLoaded(finalChunk)) return;
 
-        velocity = physicsResult.newVelocity().mul(ServerFlag.SERVER_TICKS_PER_SECOND);
+        velocity = newVelocity.mul(ServerFlag.SERVER_TICKS_PER_SECOND);
         if (!(this instanceof Player)) {
-            onGround = physicsResult.isOnGround();
-            refreshPosition(physicsResult.newPosition(), true, !SYNCHRONIZE_ONLY_ENTITIES.contains(entityType));
+            onGround = newOnGround;
+            refreshPosition(newPosition, true, !SYNCHRONIZE_ONLY_ENTITIES.contains(entityType));
         }
     }
 
+    /**
+     * Registers the movement computed for the next {@link #movementTick()}.
+     */
+    void prepareBatchedMovement(EntityPhysicsBatch physicsBatch, int index, long generation) {
+        this.physicsBatch = physicsBatch;
+        this.physicsBatchIndex = index;
+        this.physicsBatchGeneration = generation;
+    }
+
     private void touchTick() {
         if (!hasPhysics) return;
 
@@ -790,6 +836,8 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
      */
     public void setBoundingBox(BoundingBox boundingBox) {
         this.boundingBox = boundingBox;
+        final Instance instance = this.instance;
+        if (instance != null) instance.getEntityBroadphase().update(this);
     }
 
     /**
@@ -856,6 +904,7 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
                     player.sendPackets(instance.getWeather().createWeatherPackets());
                 }
                 instance.getEntityTracker().register(this, spawnPosition, trackingTarget, trackingUpdate);
+                instance.getEntityBroadphase().update(this);
                 spawn();
                 EventDispatcher.call(new EntitySpawnEvent(this, instance));
             } catch (Exception e) {
@@ -1206,6 +1255,8 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
      */
     public void setPose(EntityPose pose) {
         this.entityMeta.setPose(pose);
+        final Instance instance = this.instance;
+        if (instance != null) instance.getEntityBroadphase().update(this);
     }
 
     protected void updatePose() {
@@ -1307,6 +1358,17 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
             // not returning here will duplicate position packets
             return;
         }
+        if (EntityMovementLod.get(entityType) != null) {
+            // Viewers are updated at the end of the tick depending on their distance
+            if (movementLodTracker == null) {
+                // Viewers received every update until now
+                this.movementLodTracker = new EntityMovementLodTracker();
+                for (Player viewer : getViewers()) movementLodTracker.reset(viewer, lastSyncedPosition);
+            }
+            this.movementLodTracker.markMoved();
+            this.lastSyncedPosition = position;
+            return;
+        }
         // Update viewers
         final boolean viewChange = !position.sameView(lastSyncedPosition);
         final double distanceX = Math.abs(position.x() - lastSyncedPosition.x());
@@ -1388,6 +1450,7 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
         final Instance instance = getInstance();
         assert instance != null;
         instance.getEntityTracker().move(this, newPosition, trackingTarget, trackingUpdate);
+        instance.getEntityBroadphase().update(this);
         final int lastChunkX = currentChunk.getChunkX();
         final int lastChunkZ = currentChunk.getChunkZ();
         final int newChunkX = newPosition.chunkX();
@@ -1536,7 +1599,10 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
 
         MinecraftServer.process().dispatcher().removeElement(this);
         this.removed = true;
-        if (!permanent) {
+        if (permanent) {
+            // Drop the tasks of the entity, it will never be ticked again
+            this.scheduler.cancelAll();
+        } else {
             // Reset some state to be ready for re-use
             setPositionInternal(Pos.ZERO);
             this.previousPosition = Pos.ZERO;
@@ -1628,7 +1694,15 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
     protected void synchronizePosition() {
         final Pos posCache = this.position;
         final Pos delta = posCache.sub(lastSyncedPosition);
-        PacketViewableUtils.prepareViewablePacket(currentChunk, new EntityPositionSyncPacket(getEntityId(), posCache, delta, posCache.yaw(), posCache.pitch(), isOnGround()), this);
+        final EntityPositionSyncPacket packet = new EntityPositionSyncPacket(getEntityId(), posCache, delta, posCache.yaw(), posCache.pitch(), isOnGround());
+        final EntityMovementLodTracker movementLodTracker = this.movementLodTracker;
+        if (movementLodTracker != null) {
+            // Sent immediately like the level of detail updates, keeping the packets of the entity ordered
+            sendPacketToViewers(packet);
+            movementLodTracker.resetAll(posCache);
+        } else {
+            PacketViewableUtils.prepareViewablePacket(currentChunk, packet, this);
+        }
         nextSynchronizationTick = ticks + synchronizationTicks;
         this.lastSyncedPosition = posCache;
     }
@@ -3,6 +3,7 @@ package net.minestom.server.entity;
 import net.minestom.server.coordinate.Pos;
 import net.minestom.server.entity.ai.EntityAI;
 import net.minestom.server.entity.ai.EntityAIGroup;
+import net.minestom.server.entity.ai.GoalScheduler;
 import net.minestom.server.entity.pathfinding.NavigableEntity;
 import net.minestom.server.entity.pathfinding.Navigator;
 import net.minestom.server.event.EventDispatcher;
@@ -25,6 +26,7 @@ public class EntityCreature extends LivingEntity implements NavigableEntity, Ent
     private int removalAnimationDelay = 1000;
 
     private final Set<EntityAIGroup> aiGroups = new CopyOnWriteArraySet<>();
+    private final GoalScheduler goalScheduler = new GoalScheduler();
 
     private final Navigator navigator = new Navigator(this);
 
@@ -54,6 +56,15 @@ public class EntityCreature extends LivingEntity implements NavigableEntity, Ent
         super.update(time);
     }
 
+    @Override
+    public void aiTick(long time) {
+        if (aiGroups.isEmpty()) return;
+        final boolean selectGoals = goalScheduler.shouldSelect(this);
+        for (EntityAIGroup group : aiGroups) {
+            group.tick(time, selectGoals);
+        }
+    }
+
     @Override
     public CompletableFuture<Void> setInstance(Instance instance, Pos spawnPosition) {
         this.navigator.reset();
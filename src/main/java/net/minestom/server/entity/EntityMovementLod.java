@@ -0,0 +1,81 @@
+package net.minestom.server.entity;
+
+import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Level of detail of the movement updates sent to the viewers of an entity, based on their distance to it.
+ * <p>
+ * Viewers closer than the first tier receive every movement update, farther viewers only receive the movement
+ * accumulated since their previous update every {@link Tier#interval()} ticks. Positions are tracked per viewer,
+ * so skipped updates are merged and never lost.
+ * <p>
+ * Disabled by default, policies are registered per {@link EntityType} using {@link #register(EntityType, EntityMovementLod)}.
+ *
+ * @param tiers the tiers, sorted by distance
+ */
+public record EntityMovementLod(List<Tier> tiers) {
+    private static final Map<EntityType, EntityMovementLod> POLICIES = new ConcurrentHashMap<>();
+
+    public EntityMovementLod {
+        Check.argCondition(tiers.isEmpty(), "A level of detail policy requires at least one tier");
+        tiers = tiers.stream().sorted(Comparator.comparingDouble(Tier::distance)).toList();
+    }
+
+    public EntityMovementLod(Tier... tiers) {
+        this(List.of(tiers));
+    }
+
+    /**
+     * Sets the movement level of detail of an entity type.
+     *
+     * @param entityType the entity type
+     * @param lod        the level of detail, null to send every update to all viewers
+     */
+    public static void register(EntityType entityType, @Nullable EntityMovementLod lod) {
+        if (lod != null) POLICIES.put(entityType, lod);
+        else POLICIES.remove(entityType);
+    }
+
+    /**
+     * Gets the movement level of detail of an entity type.
+     *
+     * @param entityType the entity type
+     * @return the level of detail, null if not registered
+     */
+    public static @Nullable EntityMovementLod get(EntityType entityType) {
+        if (POLICIES.isEmpty()) return null;
+        return POLICIES.get(entityType);
+    }
+
+    /**
+     * Gets the update interval of a viewer.
+     *
+     * @param distanceSquared the squared distance between the viewer and the entity
+     * @return the interval in ticks between two updates
+     */
+    public int interval(double distanceSquared) {
+        int interval = 1;
+        for (Tier tier : tiers) {
+            if (distanceSquared < tier.distance() * tier.distance()) break;
+            interval = tier.interval();
+        }
+        return interval;
+    }
+
+    /**
+     * @param distance the distance from which the tier applies
+     * @param interval the interval in ticks between two updates
+     */
+    public record Tier(double distance, int interval) {
+        public Tier {
+            Check.argCondition(distance < 0, "Distance cannot be negative");
+            Check.argCondition(interval < 1, "Interval must be at least 1 tick");
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package net.minestom.server.entity;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.network.packet.server.play.EntityHeadLookPacket;
+import net.minestom.server.network.packet.server.play.EntityPositionAndRotationPacket;
+import net.minestom.server.network.packet.server.play.EntityPositionSyncPacket;
+import net.minestom.server.utils.PacketSendingUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks the position known by each viewer of an entity using an {@link EntityMovementLod}.
+ * <p>
+ * Viewers knowing the same position share the same packets, which is the case of every viewer receiving all updates.
+ */
+final class EntityMovementLodTracker {
+    private final Map<Player, Pos> known = new ConcurrentHashMap<>();
+    private boolean moved;
+    private boolean lagging;
+
+    void markMoved() {
+        this.moved = true;
+    }
+
+    /**
+     * Registers the position sent to a new viewer in its spawn packet.
+     */
+    void reset(Player viewer, Pos position) {
+        known.put(viewer, position);
+    }
+
+    /**
+     * Registers a position sent to all the viewers.
+     */
+    void resetAll(Pos position) {
+        known.replaceAll((viewer, pos) -> position);
+        this.lagging = false;
+    }
+
+    void remove(Player viewer) {
+        known.remove(viewer);
+    }
+
+    /**
+     * Sends the accumulated movement to the viewers due for an update.
+     *
+     * @param entity the tracked entity
+     * @param lod    the level of detail of the entity
+     * @param tick   the entity tick, used to stagger the updates of different entities
+     */
+    void update(Entity entity, EntityMovementLod lod, long tick) {
+        if (!moved && !lagging) return;
+        this.moved = false;
+        this.lagging = false;
+        final Pos position = entity.getPosition();
+        final long phase = tick + entity.getEntityId();
+        Map<Pos, List<Player>> groups = null;
+        for (Player viewer : entity.getViewers()) {
+            final Pos from = known.get(viewer);
+            if (position.equals(from)) continue;
+            if (from != null) {
+                final int interval = lod.interval(viewer.getPosition().distanceSquared(position));
+                if (interval > 1 && phase % interval != 0) {
+                    this.lagging = true;
+                    continue;
+                }
+            }
+            known.put(viewer, position);
+            if (groups == null) groups = new HashMap<>();
+            // Unknown positions are grouped under the entity position, which triggers an absolute update
+            groups.computeIfAbsent(from != null ? from : position, pos -> new ArrayList<>()).add(viewer);
+        }
+        if (groups == null) return;
+        for (Map.Entry<Pos, List<Player>> entry : groups.entrySet()) {
+            final Pos from = entry.getKey();
+            final List<Player> viewers = entry.getValue();
+            for (ServerPacket packet : packets(entity, from, position)) {
+                PacketSendingUtils.sendGroupedPacket(viewers, packet);
+            }
+        }
+    }
+
+    private static List<ServerPacket> packets(Entity entity, Pos from, Pos to) {
+        final int entityId = entity.getEntityId();
+        final boolean onGround = entity.isOnGround();
+        if (from.equals(to) || Math.abs(to.x() - from.x()) > 8 ||
+                Math.abs(to.y() - from.y()) > 8 || Math.abs(to.z() - from.z()) > 8) {
+            // Absolute update, send relative 0 velocity to avoid affecting it
+            return List.of(new EntityPositionSyncPacket(entityId, to, Vec.ZERO, to.yaw(), to.pitch(), onGround));
+        }
+        final ServerPacket movement = EntityPositionAndRotationPacket.getPacket(entityId, to, from, onGround);
+        if (to.sameView(from)) return List.of(movement);
+        // Fix head rotation
+        return List.of(movement, new EntityHeadLookPacket(entityId, to.yaw()));
+    }
+}
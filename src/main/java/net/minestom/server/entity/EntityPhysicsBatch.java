@@ -0,0 +1,183 @@
+package net.minestom.server.entity;
+
+import net.minestom.server.ServerFlag;
+import net.minestom.server.Tickable;
+import net.minestom.server.collision.Aerodynamics;
+import net.minestom.server.collision.BoundingBox;
+import net.minestom.server.collision.PhysicsBatch;
+import net.minestom.server.coordinate.CoordConversion;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.utils.chunk.ChunkCache;
+import net.minestom.server.utils.chunk.ChunkUtils;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Computes the movement of the simple entities of a chunk in a single {@link PhysicsBatch}, right before they are ticked.
+ * <p>
+ * Each entity uses its result in {@link Entity#movementTick()}, unless its movement state changed in-between
+ * (e.g. from a scheduled task) or a block of a chunk the batch may have collided with was modified,
+ * in which case its movement is computed again individually.
+ * <p>
+ * Enabled with {@link ServerFlag#BATCHED_PHYSICS}, one instance per tick thread.
+ */
+@ApiStatus.Internal
+public final class EntityPhysicsBatch {
+    private static final Set<EntityType> TYPES = Set.of(
+            EntityType.ITEM, EntityType.EXPERIENCE_ORB, EntityType.FALLING_BLOCK, EntityType.TNT,
+            EntityType.ARROW, EntityType.SPECTRAL_ARROW, EntityType.SNOWBALL, EntityType.EGG, EntityType.ENDER_PEARL,
+            EntityType.BLOCK_DISPLAY, EntityType.ITEM_DISPLAY, EntityType.TEXT_DISPLAY);
+
+    private final PhysicsBatch batch = new PhysicsBatch();
+    private long generation;
+    // Entities and the state used to compute their movement
+    private Entity[] entities = new Entity[0];
+    private Pos[] positions = new Pos[0];
+    private Vec[] velocities = new Vec[0];
+    private BoundingBox[] boundingBoxes = new BoundingBox[0];
+    private Aerodynamics[] aerodynamics = new Aerodynamics[0];
+    private byte[] flags = new byte[0];
+    // Chunks reachable by the batched movements and their modification count before the step
+    private Chunk[] chunks = new Chunk[0];
+    private long[] chunkVersions = new long[0];
+    private int chunkCount;
+
+    /**
+     * Computes the movement of the batched entities in {@code elements}.
+     * <p>
+     * Must be called by the thread owning the elements, before ticking them.
+     *
+     * @param elements the elements of a chunk
+     */
+    public void step(List<Tickable> elements) {
+        this.generation++;
+        final int previousSize = batch.size();
+        Arrays.fill(entities, 0, previousSize, null);
+        Arrays.fill(positions, 0, previousSize, null);
+        Arrays.fill(velocities, 0, previousSize, null);
+        Arrays.fill(chunks, 0, chunkCount, null);
+        this.chunkCount = 0;
+        this.batch.clear();
+        Instance instance = null;
+        Chunk chunk = null;
+        for (Tickable element : elements) {
+            if (!(element instanceof Entity entity) || !isBatched(entity)) continue;
+            if (instance == null) {
+                instance = entity.getInstance();
+                chunk = entity.getChunk();
+            } else if (entity.getInstance() != instance) {
+                // Should only happen while the entity is moved to another partition
+                continue;
+            }
+            add(entity);
+        }
+        if (instance == null) return;
+        snapshotChunks(instance);
+        batch.step(new ChunkCache(instance, chunk, Block.STONE), instance.getWorldBorder());
+    }
+
+    /**
+     * Records the modification count of every chunk the batched entities can collide with during the step,
+     * their bounding box swept by their velocity and extended by a block.
+     */
+    private void snapshotChunks(Instance instance) {
+        double minX = Double.POSITIVE_INFINITY, minZ = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY, maxZ = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < batch.size(); i++) {
+            final Pos position = positions[i];
+            final BoundingBox boundingBox = boundingBoxes[i];
+            final double velocityX = batch.velocityX(i), velocityZ = batch.velocityZ(i);
+            minX = Math.min(minX, position.x() + boundingBox.minX() + Math.min(0, velocityX));
+            minZ = Math.min(minZ, position.z() + boundingBox.minZ() + Math.min(0, velocityZ));
+            maxX = Math.max(maxX, position.x() + boundingBox.maxX() + Math.max(0, velocityX));
+            maxZ = Math.max(maxZ, position.z() + boundingBox.maxZ() + Math.max(0, velocityZ));
+        }
+        final int minChunkX = CoordConversion.globalToChunk(minX - 1), maxChunkX = CoordConversion.globalToChunk(maxX + 1);
+        final int minChunkZ = CoordConversion.globalToChunk(minZ - 1), maxChunkZ = CoordConversion.globalToChunk(maxZ + 1);
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                final Chunk chunk = instance.getChunk(chunkX, chunkZ);
+                if (chunk == null) continue;
+                final int index = chunkCount++;
+                if (index == chunks.length) {
+                    final int capacity = Math.max(4, index * 2);
+                    this.chunks = Arrays.copyOf(chunks, capacity);
+                    this.chunkVersions = Arrays.copyOf(chunkVersions, capacity);
+                }
+                this.chunks[index] = chunk;
+                this.chunkVersions[index] = chunk.modificationCount();
+            }
+        }
+    }
+
+    private void add(Entity entity) {
+        final Pos position = entity.getPosition();
+        final Vec velocity = entity.getVelocity();
+        final BoundingBox boundingBox = entity.getBoundingBox();
+        final Aerodynamics aerodynamics = entity.getAerodynamics();
+        final int index = batch.add(position, velocity.div(ServerFlag.SERVER_TICKS_PER_SECOND), boundingBox, aerodynamics,
+                entity.hasNoGravity(), entity.hasPhysics, entity.onGround);
+        if (index == entities.length) {
+            final int capacity = Math.max(16, index * 2);
+            this.entities = Arrays.copyOf(entities, capacity);
+            this.positions = Arrays.copyOf(positions, capacity);
+            this.velocities = Arrays.copyOf(velocities, capacity);
+            this.boundingBoxes = Arrays.copyOf(boundingBoxes, capacity);
+            this.aerodynamics = Arrays.copyOf(this.aerodynamics, capacity);
+            this.flags = Arrays.copyOf(flags, capacity);
+        }
+        this.entities[index] = entity;
+        this.positions[index] = position;
+        this.velocities[index] = velocity;
+        this.boundingBoxes[index] = boundingBox;
+        this.aerodynamics[index] = aerodynamics;
+        this.flags[index] = flags(entity);
+        entity.prepareBatchedMovement(this, index, generation);
+    }
+
+    /**
+     * Gets if the movement computed for an entity is still valid.
+     */
+    boolean isValid(Entity entity, int index, long generation) {
+        return generation == this.generation && entities[index] == entity &&
+                positions[index] == entity.getPosition() && velocities[index] == entity.getVelocity() &&
+                boundingBoxes[index] == entity.getBoundingBox() && aerodynamics[index] == entity.getAerodynamics() &&
+                flags[index] == flags(entity) && chunksUnchanged();
+    }
+
+    private boolean chunksUnchanged() {
+        for (int i = 0; i < chunkCount; i++) {
+            if (chunks[i].modificationCount() != chunkVersions[i]) return false;
+        }
+        return true;
+    }
+
+    Pos position(int index) {
+        return positions[index].withCoord(batch.x(index), batch.y(index), batch.z(index));
+    }
+
+    Vec velocity(int index) {
+        return new Vec(batch.velocityX(index), batch.velocityY(index), batch.velocityZ(index));
+    }
+
+    boolean isOnGround(int index) {
+        return batch.isOnGround(index);
+    }
+
+    private static byte flags(Entity entity) {
+        return (byte) ((entity.hasNoGravity() ? 1 : 0) | (entity.hasPhysics ? 2 : 0) | (entity.onGround ? 4 : 0));
+    }
+
+    static boolean isBatched(Entity entity) {
+        return TYPES.contains(entity.getEntityType()) && !(entity instanceof LivingEntity) &&
+                !(entity instanceof EntityProjectile) && entity.getVehicle() == null &&
+                entity.getInstance() != null && !entity.isRemoved() && ChunkUtils.isLoaded(entity.getChunk());
+    }
+}
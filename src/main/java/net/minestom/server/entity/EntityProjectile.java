@@ -10,19 +10,14 @@ import net.minestom.server.event.entity.EntityShootEvent;
 import net.minestom.server.event.entity.projectile.ProjectileCollideWithBlockEvent;
 import net.minestom.server.event.entity.projectile.ProjectileCollideWithEntityEvent;
 import net.minestom.server.event.entity.projectile.ProjectileUncollideEvent;
-import net.minestom.server.instance.Chunk;
 import net.minestom.server.instance.Instance;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.thread.Acquirable;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Collection;
-import java.util.Optional;
 import java.util.Random;
 import java.util.concurrent.ThreadLocalRandom;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * Class that allows to instantiate entities with projectile-like physics handling.
@@ -129,8 +124,6 @@ public class EntityProjectile extends Entity {
             return instance.getBlock(pos).isSolid();
         }
 
-        Chunk chunk = null;
-        Collection<LivingEntity> entities = null;
         final BoundingBox bb = getBoundingBox();
 
         /*
@@ -160,27 +153,22 @@ public class EntityProjectile extends Entity {
                     return true;
                 }
             }
-            if (currentChunk != chunk) {
-                chunk = currentChunk;
-                entities = instance.getChunkEntities(chunk)
-                        .stream()
-                        .filter(entity -> entity instanceof LivingEntity)
-                        .map(entity -> (LivingEntity) entity)
-                        .collect(Collectors.toSet());
-            }
             final Point currentPos = pos;
-            Stream<LivingEntity> victimsStream = entities.stream()
-                    .filter(entity -> bb.intersectEntity(currentPos, entity));
-            /*
-              We won't check collisions with a shooter for first ticks of arrow's life, because it spawns in him
-              and will immediately deal damage.
-             */
-            if (aliveTicks < 3 && shooter != null) {
-                victimsStream = victimsStream.filter(entity -> entity != shooter);
-            }
-            final Optional<LivingEntity> victimOptional = victimsStream.findAny();
-            if (victimOptional.isPresent()) {
-                final LivingEntity target = victimOptional.get();
+            final LivingEntity[] victim = new LivingEntity[1];
+            instance.getEntityBroadphase().query(
+                    currentPos.x() + bb.minX(), currentPos.y() + bb.minY(), currentPos.z() + bb.minZ(),
+                    currentPos.x() + bb.maxX(), currentPos.y() + bb.maxY(), currentPos.z() + bb.maxZ(),
+                    entity -> {
+                        if (victim[0] != null || !(entity instanceof LivingEntity livingEntity)) return;
+                        /*
+                          We won't check collisions with a shooter for first ticks of arrow's life, because it spawns in him
+                          and will immediately deal damage.
+                         */
+                        if (aliveTicks < 3 && entity == shooter) return;
+                        if (bb.intersectEntity(currentPos, entity)) victim[0] = livingEntity;
+                    });
+            if (victim[0] != null) {
+                final LivingEntity target = victim[0];
                 final ProjectileCollideWithEntityEvent event = new ProjectileCollideWithEntityEvent(this, pos, target);
                 EventDispatcher.call(event);
                 if (!event.isCancelled()) {
@@ -56,6 +56,8 @@ import net.minestom.server.inventory.click.ClickPreprocessor;
 import net.minestom.server.item.ItemStack;
 import net.minestom.server.item.Material;
 import net.minestom.server.item.component.WrittenBookContent;
+import net.minestom.server.listener.TabCompleteListener;
+import net.minestom.server.listener.manager.MovementCoalescer;
 import net.minestom.server.listener.manager.PacketListenerManager;
 import net.minestom.server.message.ChatPosition;
 import net.minestom.server.message.Messenger;
@@ -178,6 +180,8 @@ public class Player extends LivingEntity implements CommandSender, HoverEventSou
     private int receivedTeleportId;
 
     private final MpscArrayQueue<ClientPacket> packets = new MpscArrayQueue<>(ServerFlag.PLAYER_PACKET_QUEUE_SIZE);
+    private final MovementCoalescer movementCoalescer;
+    private final TabCompleteListener.Session tabCompleteSession = ServerFlag.ASYNC_TAB_COMPLETE ? new TabCompleteListener.Session() : null;
     private final boolean levelFlat;
     private ClientSettings settings = ClientSettings.DEFAULT;
     private float exp;
@@ -240,6 +244,7 @@ public class Player extends LivingEntity implements CommandSender, HoverEventSou
         this.username = gameProfile.name();
         this.usernameComponent = Component.text(username);
         this.playerConnection = playerConnection;
+        this.movementCoalescer = new MovementCoalescer(playerConnection);
 
         setRespawnPoint(Pos.ZERO);
 
@@ -537,7 +542,7 @@ public class Player extends LivingEntity implements CommandSender, HoverEventSou
      * again, and any changes will be visible to the player.
      */
     public void refreshCommands() {
-        sendPacket(MinecraftServer.getCommandManager().createDeclareCommandsPacket(this));
+        sendPacket(MinecraftServer.getCommandManager().declareCommandsPacket(this));
     }
 
     /**
@@ -1504,6 +1509,16 @@ public class Player extends LivingEntity implements CommandSender, HoverEventSou
         return playerConnection;
     }
 
+    /**
+     * Gets the state of the asynchronous tab completions of the player.
+     *
+     * @return the tab complete session, null if {@link ServerFlag#ASYNC_TAB_COMPLETE} is disabled
+     */
+    @ApiStatus.Internal
+    public TabCompleteListener.Session getTabCompleteSession() {
+        return tabCompleteSession;
+    }
+
     /**
      * Shortcut for {@link PlayerConnection#sendPacket(SendablePacket)}.
      *
@@ -2116,8 +2131,14 @@ public class Player extends LivingEntity implements CommandSender, HoverEventSou
 
     @ApiStatus.Internal
     public void interpretPacketQueue() {
-        final PacketListenerManager manager = MinecraftServer.getPacketListenerManager();
         // This method is NOT thread-safe
+        if (ServerFlag.PLAYER_MOVEMENT_COALESCING) {
+            final MovementCoalescer coalescer = this.movementCoalescer;
+            this.packets.drain(coalescer::process, ServerFlag.PLAYER_PACKET_PER_TICK);
+            coalescer.flush();
+            return;
+        }
+        final PacketListenerManager manager = MinecraftServer.getPacketListenerManager();
         this.packets.drain(packet -> manager.processClientPacket(packet, playerConnection,
                 getPlayerConnection().getConnectionState()), ServerFlag.PLAYER_PACKET_PER_TICK);
     }
@@ -64,6 +64,16 @@ public class EntityAIGroup {
     }
 
     public void tick(long time) {
+        tick(time, true);
+    }
+
+    /**
+     * Ticks the current goal selector, after ending it if needed.
+     *
+     * @param time        the update time in milliseconds
+     * @param selectGoals true to check if a goal selector with a higher priority should start
+     */
+    public void tick(long time, boolean selectGoals) {
         GoalSelector currentGoalSelector = getCurrentGoalSelector();
 
         if (currentGoalSelector != null && currentGoalSelector.shouldEnd()) {
@@ -72,6 +82,16 @@ public class EntityAIGroup {
             setCurrentGoalSelector(null);
         }
 
+        if (selectGoals) selectGoal();
+
+        currentGoalSelector = getCurrentGoalSelector();
+        if (currentGoalSelector != null) {
+            currentGoalSelector.tick(time);
+        }
+    }
+
+    private void selectGoal() {
+        GoalSelector currentGoalSelector = getCurrentGoalSelector();
         for (GoalSelector selector : getGoalSelectors()) {
             if (selector == currentGoalSelector) {
                 break;
@@ -86,10 +106,6 @@ public class EntityAIGroup {
                 break;
             }
         }
-
-        if (currentGoalSelector != null) {
-            currentGoalSelector.tick(time);
-        }
     }
 
     /**
@@ -0,0 +1,95 @@
+package net.minestom.server.entity.ai;
+
+import net.minestom.server.ServerFlag;
+import net.minestom.server.entity.Entity;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decides when a creature evaluates {@link GoalSelector#shouldStart()}, the running goal is still ticked and ended every tick.
+ * <p>
+ * Selection happens every {@link ServerFlag#AI_SELECTION_INTERVAL} ticks, or {@link ServerFlag#AI_UNVIEWED_SELECTION_INTERVAL}
+ * for creatures without viewer, offset by the entity id so that creatures do not all select during the same tick.
+ * With a {@link ServerFlag#AI_SELECTION_BUDGET}, due creatures select during one of the next ticks
+ * in the order they became due, at most the budget per tick.
+ */
+@ApiStatus.Internal
+public final class GoalScheduler {
+    private static final Clock CLOCK = new Clock(ServerFlag.AI_SELECTION_INTERVAL,
+            ServerFlag.AI_UNVIEWED_SELECTION_INTERVAL, ServerFlag.AI_SELECTION_BUDGET);
+
+    private final Clock clock;
+    private long ticket = -1; // Waiting for the budget unless negative
+
+    public GoalScheduler() {
+        this(CLOCK);
+    }
+
+    GoalScheduler(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Called at the start of each server tick.
+     */
+    public static void nextTick() {
+        CLOCK.nextTick();
+    }
+
+    /**
+     * Gets if a creature should select its goals during the current tick.
+     *
+     * @param entity the creature
+     * @return true to evaluate the goal selectors
+     */
+    public boolean shouldSelect(Entity entity) {
+        if (clock.unconstrained) return true;
+        return shouldSelect(entity.getEntityId(), !entity.getViewers().isEmpty());
+    }
+
+    boolean shouldSelect(int phase, boolean viewed) {
+        final Clock clock = this.clock;
+        final long ticket = this.ticket;
+        if (ticket >= 0) {
+            if (ticket >= clock.granted) return false;
+            this.ticket = -1;
+            return true;
+        }
+        final int interval = viewed ? clock.interval : clock.unviewedInterval;
+        if (Math.floorMod(clock.tick + phase, interval) != 0) return false;
+        if (clock.budget < 0) return true;
+        // Wait for the next tick, so that the creatures ticked first do not always take the budget
+        this.ticket = clock.tickets.getAndIncrement();
+        return false;
+    }
+
+    static final class Clock {
+        private final int interval;
+        private final int unviewedInterval;
+        private final int budget;
+        private final boolean unconstrained;
+
+        private final AtomicLong tickets = new AtomicLong();
+        private volatile long tick;
+        private volatile long granted; // Tickets allowed to select
+        private long eligible; // Tickets issued before the current tick
+
+        Clock(int interval, int unviewedInterval, int budget) {
+            this.interval = interval;
+            this.unviewedInterval = unviewedInterval;
+            this.budget = budget;
+            this.unconstrained = interval == 1 && unviewedInterval == 1 && budget < 0;
+        }
+
+        synchronized void nextTick() {
+            this.tick++;
+            if (budget < 0) return;
+            // Only the tickets issued before the previous tick could select during it,
+            // the next ones are served first and unused budget is not carried over
+            final long served = Math.min(granted, eligible);
+            this.eligible = tickets.get();
+            this.granted = served + budget;
+        }
+    }
+}
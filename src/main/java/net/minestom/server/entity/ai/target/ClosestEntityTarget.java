@@ -4,9 +4,9 @@ import net.minestom.server.entity.Entity;
 import net.minestom.server.entity.EntityCreature;
 import net.minestom.server.entity.LivingEntity;
 import net.minestom.server.entity.ai.TargetSelector;
+import net.minestom.server.instance.EntityTracker;
 import net.minestom.server.instance.Instance;
 
-import java.util.Comparator;
 import java.util.function.Predicate;
 
 /**
@@ -15,6 +15,7 @@ import java.util.function.Predicate;
 public class ClosestEntityTarget extends TargetSelector {
 
     private final double range;
+    private final EntityTracker.Target<? extends Entity> target;
     private final Predicate<Entity> targetPredicate;
 
     /**
@@ -45,8 +46,20 @@ public class ClosestEntityTarget extends TargetSelector {
      */
     public ClosestEntityTarget(EntityCreature entityCreature, double range,
                                Predicate<Entity> targetPredicate) {
+        this(entityCreature, range, EntityTracker.Target.ENTITIES, targetPredicate);
+    }
+
+    /**
+     * @param entityCreature  the entity (self)
+     * @param range           the maximum range the entity can target others within
+     * @param target          the tracker target containing the entities to look for, such as {@link EntityTracker.Target#of(net.minestom.server.entity.EntityType)}
+     * @param targetPredicate the predicate used to check if the other entity can be targeted
+     */
+    public ClosestEntityTarget(EntityCreature entityCreature, double range,
+                               EntityTracker.Target<? extends Entity> target, Predicate<Entity> targetPredicate) {
         super(entityCreature);
         this.range = range;
+        this.target = target;
         this.targetPredicate = targetPredicate;
     }
 
@@ -59,13 +72,22 @@ public class ClosestEntityTarget extends TargetSelector {
             return null;
         }
 
-        return instance.getNearbyEntities(entityCreature.getPosition(), range).stream()
-                // Don't target our self and make sure entity is valid
-                .filter(ent -> !entityCreature.equals(ent) && !ent.isRemoved())
-                .filter(targetPredicate)
-                .min(Comparator.comparingDouble(e -> e.getDistanceSquared(entityCreature)))
-                .orElse(null);
+        final Closest closest = new Closest();
+        instance.getEntityTracker().nearbyEntities(entityCreature.getPosition(), range, target, ent -> {
+            // Don't target our self and make sure entity is valid
+            if (entityCreature.equals(ent) || ent.isRemoved()) return;
+            final double distance = ent.getDistanceSquared(entityCreature);
+            if (distance < closest.distance && targetPredicate.test(ent)) {
+                closest.entity = ent;
+                closest.distance = distance;
+            }
+        });
+        return closest.entity;
+    }
 
+    private static final class Closest {
+        Entity entity;
+        double distance = Double.MAX_VALUE;
     }
 
 }
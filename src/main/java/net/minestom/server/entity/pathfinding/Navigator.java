@@ -31,6 +31,9 @@ public final class Navigator {
     // Essentially a double buffer. Wait until a path is done computing before replacing the old one.
     private PPath computingPath;
     private PPath path;
+    // Request being computed, and the latest one received meanwhile
+    private Request computingRequest;
+    private Request pendingRequest;
 
     private double minimumDistance;
 
@@ -60,6 +63,9 @@ public final class Navigator {
 
     /**
      * Sets the path to {@code position} and ask the entity to follow the path.
+     * <p>
+     * The path is computed asynchronously. Requests received meanwhile are not computed in parallel,
+     * the latest one is computed once the current computation is done.
      *
      * @param point           the position to find the path to, null to reset the pathfinder
      * @param minimumDistance distance to target when completed
@@ -72,6 +78,7 @@ public final class Navigator {
         final Instance instance = entity.getInstance();
         if (point == null) {
             this.path = null;
+            this.pendingRequest = null;
             return false;
         }
 
@@ -103,20 +110,29 @@ public final class Navigator {
             return false;
         }
 
-        if (this.computingPath != null) this.computingPath.setState(PPath.State.TERMINATING);
+        this.goalPosition = point;
+        final Request request = new Request(point, minimumDistance, maxDistance, pathVariance, onComplete);
+        if (this.computingPath != null && this.computingPath.getState() == PPath.State.CALCULATING) {
+            // Let the current computation complete, the latest different request is computed next
+            this.pendingRequest = request.isSimilar(computingRequest) ? null : request;
+            return true;
+        }
+        compute(instance, request);
+        return true;
+    }
 
-        this.computingPath = PathGenerator.generate(instance,
+    private void compute(Instance instance, Request request) {
+        if (this.computingPath != null) this.computingPath.setState(PPath.State.TERMINATING);
+        this.computingPath = PathfindingService.INSTANCE.submit(instance,
                 this.entity.getPosition(),
-                point,
-                minimumDistance, maxDistance,
-                pathVariance,
+                request.target(),
+                request.minimumDistance(), request.maxDistance(),
+                request.pathVariance(),
                 this.entity.getBoundingBox(),
                 this.entity.isOnGround(),
                 this.nodeGenerator,
-                onComplete);
-
-        this.goalPosition = point;
-        return true;
+                request.onComplete());
+        this.computingRequest = request;
     }
 
     @ApiStatus.Internal
@@ -128,6 +144,11 @@ public final class Navigator {
             path = computingPath;
             computingPath = null;
         }
+        if (pendingRequest != null && (computingPath == null || computingPath.getState() != PPath.State.CALCULATING)) {
+            final Request request = this.pendingRequest;
+            this.pendingRequest = null;
+            compute(entity.getInstance(), request);
+        }
 
         if (path == null) return;
 
@@ -161,11 +182,8 @@ public final class Navigator {
         if (currentTarget == null || path.getCurrentType() == PNode.Type.REPATH || path.getCurrentType() == null) {
             if (computingPath != null && computingPath.getState() == PPath.State.CALCULATING) return;
 
-            computingPath = PathGenerator.generate(entity.getInstance(),
-                    entity.getPosition(),
-                    goalPosition.asPos(),
-                    minimumDistance, path.maxDistance(),
-                    path.pathVariance(), entity.getBoundingBox(), this.entity.isOnGround(), nodeGenerator, null);
+            compute(entity.getInstance(), new Request(goalPosition, minimumDistance,
+                    path.maxDistance(), path.pathVariance(), null));
 
             return;
         }
@@ -207,6 +225,8 @@ public final class Navigator {
 
         if (this.computingPath != null) this.computingPath.setState(PPath.State.TERMINATING);
         this.computingPath = null;
+        this.computingRequest = null;
+        this.pendingRequest = null;
     }
 
     public boolean isComplete() {
@@ -216,7 +236,10 @@ public final class Navigator {
 
     public List<PNode> getNodes() {
         if (this.path == null && computingPath == null) return null;
-        if (this.path == null) return computingPath.getNodes();
+        if (this.path == null) {
+            // Nodes are only added by the pathfinding thread once computed
+            return computingPath.getState() != PPath.State.CALCULATING ? computingPath.getNodes() : List.of();
+        }
         return this.path.getNodes();
     }
 
@@ -246,6 +269,15 @@ public final class Navigator {
         }
     }
 
+    private record Request(Point target, double minimumDistance, double maxDistance, double pathVariance,
+                           @Nullable Runnable onComplete) {
+        boolean isSimilar(@Nullable Request other) {
+            return other != null && target.sameBlock(other.target) &&
+                    minimumDistance == other.minimumDistance && maxDistance == other.maxDistance &&
+                    pathVariance == other.pathVariance && onComplete == other.onComplete;
+        }
+    }
+
     private static boolean isSameBlock(PNode pNode, Pos position) {
         return Math.floor(pNode.x()) == position.blockX() && Math.floor(pNode.y()) == position.blockY() && Math.floor(pNode.z()) == position.blockZ();
     }
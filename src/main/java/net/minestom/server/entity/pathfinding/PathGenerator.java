@@ -1,7 +1,6 @@
 package net.minestom.server.entity.pathfinding;
 
-import it.unimi.dsi.fastutil.objects.ObjectHeapPriorityQueue;
-import it.unimi.dsi.fastutil.objects.ObjectOpenHashBigSet;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import net.minestom.server.collision.BoundingBox;
 import net.minestom.server.coordinate.Point;
 import net.minestom.server.coordinate.Pos;
@@ -12,12 +11,23 @@ import org.jetbrains.annotations.Nullable;
 import java.util.*;
 
 public final class PathGenerator {
-    private static final Comparator<PNode> pNodeComparator = (s1, s2) -> (int) (((s1.g() + s1.h()) - (s2.g() + s2.h())) * 1000);
-
     public static PPath generate(Block.Getter getter, Pos orgStart, Point orgTarget,
                                           double closeDistance, double maxDistance, double pathVariance,
                                           BoundingBox boundingBox, boolean isOnGround, NodeGenerator generator,
                                           @Nullable Runnable onComplete) {
+        PPath path = new PPath(maxDistance, pathVariance, onComplete);
+        search(getter, orgStart, orgTarget, closeDistance, maxDistance, pathVariance, boundingBox, isOnGround, generator, path)
+                .run(Integer.MAX_VALUE);
+        return path;
+    }
+
+    /**
+     * Prepares the computation of {@code path}, to be run in multiple steps using {@link Search#run(int)}.
+     */
+    static Search search(Block.Getter getter, Pos orgStart, Point orgTarget,
+                         double closeDistance, double maxDistance, double pathVariance,
+                         BoundingBox boundingBox, boolean isOnGround, NodeGenerator generator,
+                         PPath path) {
         final Point start = (!isOnGround && generator.hasGravitySnap())
                 ? orgStart.withY(generator.gravitySnap(getter, orgStart.x(), orgStart.y(), orgStart.z(), boundingBox, 100).orElse(orgStart.y()))
                 : orgStart;
@@ -26,107 +36,259 @@ public final class PathGenerator {
                 ? orgTarget.withY(generator.gravitySnap(getter, orgTarget.x(), orgTarget.y(), orgTarget.z(), boundingBox, 100).orElse(orgTarget.y()))
                 : orgTarget.asPos();
 
-        PPath path = new PPath(maxDistance, pathVariance, onComplete);
-        computePath(getter, start, target, closeDistance, maxDistance, pathVariance, boundingBox, path, generator);
-        return path;
+        return new Search(getter, start, target, closeDistance, maxDistance, pathVariance, boundingBox, path, generator);
     }
 
     private static PNode buildRepathNode(PNode parent) {
         return new PNode(0, 0, 0, 0, 0, PNode.Type.REPATH, parent);
     }
 
-    private static void computePath(Block.Getter getter, Point start, Point target,
-                                    double closeDistance, double maxDistance, double pathVariance,
-                                    BoundingBox boundingBox, PPath path, NodeGenerator generator) {
-        double closestDistance = Double.MAX_VALUE;
-        double straightDistance = generator.heuristic(start, target);
-        int maxSize = (int) Math.floor(maxDistance * 10);
+    /**
+     * A* search of a path, which can be suspended between node expansions.
+     * <p>
+     * Nodes are indexed in the order they are found, the open set is a binary heap of indexes ordered by score
+     * and the closed set only contains the packed block coordinates of the nodes.
+     */
+    static final class Search {
+        private final Block.Getter getter;
+        private final Point start, target;
+        private final double closeDistance, maxDistance, pathVariance;
+        private final BoundingBox boundingBox;
+        private final PPath path;
+        private final NodeGenerator generator;
 
-        closeDistance = Math.max(0.8, closeDistance);
-        List<PNode> closestFoundNodes = List.of();
+        private final double straightDistance;
+        private final int maxSize;
+        private double closestDistance = Double.MAX_VALUE;
+        private PNode closestNode;
 
-        PNode pStart = new PNode(start, 0, generator.heuristic(start, target), PNode.Type.WALK, null);
+        private Buffers buffers = Buffers.acquire();
+        private final Set<PNode> closed = new ClosedSet();
+        private int nodeCount;
+        private int openSize;
 
-        ObjectHeapPriorityQueue<PNode> open = new ObjectHeapPriorityQueue<>(pNodeComparator);
-        open.enqueue(pStart);
+        private Search(Block.Getter getter, Point start, Point target,
+                       double closeDistance, double maxDistance, double pathVariance,
+                       BoundingBox boundingBox, PPath path, NodeGenerator generator) {
+            this.getter = getter;
+            this.start = start;
+            this.target = target;
+            this.closeDistance = Math.max(0.8, closeDistance);
+            this.maxDistance = maxDistance;
+            this.pathVariance = pathVariance;
+            this.boundingBox = boundingBox;
+            this.path = path;
+            this.generator = generator;
 
-        Set<PNode> closed = new ObjectOpenHashBigSet<>(maxSize);
+            this.straightDistance = generator.heuristic(start, target);
+            this.maxSize = (int) Math.floor(maxDistance * 10);
+            push(addNode(new PNode(start, 0, generator.heuristic(start, target), PNode.Type.WALK, null)));
+        }
 
-        while (!open.isEmpty() && closed.size() < maxSize) {
-            if (path.getState() == PPath.State.TERMINATING) {
-                path.setState(PPath.State.TERMINATED);
-                return;
+        /**
+         * Continues the search.
+         *
+         * @param iterations the maximum number of nodes to expand
+         * @return true if the search is over, with the path state updated
+         */
+        boolean run(int iterations) {
+            if (!step(iterations)) return false;
+            this.buffers.release(nodeCount);
+            this.buffers = null;
+            return true;
+        }
+
+        private boolean step(int iterations) {
+            final double maxDistanceSquared = maxDistance * maxDistance;
+            while (openSize > 0 && closed.size() < maxSize) {
+                if (path.getState() == PPath.State.TERMINATING) {
+                    path.setState(PPath.State.TERMINATED);
+                    return true;
+                }
+                if (iterations-- <= 0) return false;
+
+                final int index = pop();
+                final PNode current = buffers.nodes[index];
+
+                if (((current.g() + current.h()) - straightDistance) > pathVariance) continue;
+                if (!withinDistance(current, start, maxDistance)) continue;
+                if (withinDistance(current, target, closeDistance)) {
+                    push(index);
+                    break;
+                }
+
+                if (current.h() < closestDistance) {
+                    closestDistance = current.h();
+                    closestNode = current;
+                }
+
+                for (PNode p : generator.getWalkable(getter, closed, current, target, boundingBox)) {
+                    if (getDistanceSquared(p.x(), p.y(), p.z(), start) <= maxDistanceSquared) {
+                        push(addNode(p));
+                        closed.add(p);
+                    }
+                }
             }
+            complete();
+            return true;
+        }
+
+        private void complete() {
+            PNode current = openSize == 0 ? null : buffers.nodes[pop()];
 
-            PNode current = open.dequeue();
+            if (current == null || !withinDistance(current, target, closeDistance)) {
+                if (closestNode == null) {
+                    path.setState(PPath.State.INVALID);
+                    return;
+                }
 
-            //var chunk = instance.getChunkAt(current.x(), current.z());
-            //if (chunk == null) continue;
-            //if (!chunk.isLoaded()) continue;
+                current = closestNode;
 
-            if (((current.g() + current.h()) - straightDistance) > pathVariance) continue;
-            if (!withinDistance(current, start, maxDistance)) continue;
-            if (withinDistance(current, target, closeDistance)) {
-                open.enqueue(current);
-                break;
+                if (openSize > 0) {
+                    current = buildRepathNode(current);
+                }
             }
 
-            if (current.h() < closestDistance) {
-                closestDistance = current.h();
-                closestFoundNodes = List.of(current);
+            while (current.parent() != null) {
+                path.getNodes().add(current);
+                current = current.parent();
             }
 
-            Collection<? extends PNode> found = generator.getWalkable(getter, closed, current, target, boundingBox);
-            found.forEach(p -> {
-                if (getDistanceSquared(p.x(), p.y(), p.z(), start) <= (maxDistance * maxDistance)) {
-                    open.enqueue(p);
-                    closed.add(p);
-                }
-            });
-        }
+            Collections.reverse(path.getNodes());
 
-        PNode current = open.isEmpty() ? null : open.dequeue();
+            if (path.getCurrentType() == PNode.Type.REPATH) {
+                path.setState(PPath.State.INVALID);
+                path.getNodes().clear();
+                return;
+            }
 
-        if (current == null || !withinDistance(current, target, closeDistance)) {
-            if (closestFoundNodes.isEmpty()) {
+            if (path.getNodes().isEmpty()) {
                 path.setState(PPath.State.INVALID);
                 return;
             }
 
-            current = closestFoundNodes.getFirst();
+            var lastNode = path.getNodes().getLast();
+            if (getDistanceSquared(lastNode.x(), lastNode.y(), lastNode.z(), target) > (closeDistance * closeDistance)) {
+                path.setState(PPath.State.BEST_EFFORT);
+                return;
+            }
+
+            PNode pEnd = new PNode(target, 0, 0, PNode.Type.WALK, null);
+            path.getNodes().add(pEnd);
+            path.setState(PPath.State.COMPUTED);
+        }
+
+        private int addNode(PNode node) {
+            final int index = nodeCount++;
+            final Buffers buffers = this.buffers;
+            if (index == buffers.nodes.length) buffers.grow();
+            buffers.nodes[index] = node;
+            buffers.scores[index] = node.g() + node.h();
+            return index;
+        }
 
-            if (!open.isEmpty()) {
-                current = buildRepathNode(current);
+        private void push(int node) {
+            final int[] heap = buffers.heap;
+            final double[] scores = buffers.scores;
+            final double score = scores[node];
+            int i = openSize++;
+            while (i > 0) {
+                final int parent = (i - 1) >>> 1;
+                final int parentNode = heap[parent];
+                if (scores[parentNode] <= score) break;
+                heap[i] = parentNode;
+                i = parent;
             }
+            heap[i] = node;
         }
 
-        while (current.parent() != null) {
-            path.getNodes().add(current);
-            current = current.parent();
+        private int pop() {
+            final int[] heap = buffers.heap;
+            final double[] scores = buffers.scores;
+            final int result = heap[0];
+            final int size = --openSize;
+            if (size == 0) return result;
+            final int node = heap[size];
+            final double score = scores[node];
+            int i = 0;
+            while (true) {
+                int child = (i << 1) + 1;
+                if (child >= size) break;
+                if (child + 1 < size && scores[heap[child + 1]] < scores[heap[child]]) child++;
+                if (score <= scores[heap[child]]) break;
+                heap[i] = heap[child];
+                i = child;
+            }
+            heap[i] = node;
+            return result;
         }
 
-        Collections.reverse(path.getNodes());
+        /**
+         * View of the found nodes given to the generator, only storing their block coordinates.
+         */
+        private final class ClosedSet extends AbstractSet<PNode> {
+            @Override
+            public boolean contains(Object o) {
+                return o instanceof PNode node && buffers.keys.contains(blockKey(node));
+            }
 
-        if (path.getCurrentType() == PNode.Type.REPATH) {
-            path.setState(PPath.State.INVALID);
-            path.getNodes().clear();
-            return;
+            @Override
+            public boolean add(PNode node) {
+                return buffers.keys.add(blockKey(node));
+            }
+
+            @Override
+            public int size() {
+                return buffers.keys.size();
+            }
+
+            @Override
+            public Iterator<PNode> iterator() {
+                // Every found node except the start
+                return Arrays.asList(buffers.nodes).subList(1, nodeCount).iterator();
+            }
         }
+    }
 
-        if (path.getNodes().isEmpty()) {
-            path.setState(PPath.State.INVALID);
-            return;
+    /**
+     * Arrays reused by the searches of a thread.
+     */
+    private static final class Buffers {
+        private static final ThreadLocal<ArrayDeque<Buffers>> POOL = ThreadLocal.withInitial(ArrayDeque::new);
+        private static final int POOL_SIZE = 4;
+        private static final int INITIAL_CAPACITY = 256;
+        // Capacity kept by released buffers, to not retain the memory of a large search
+        private static final int MAX_POOLED_CAPACITY = 16_384;
+
+        private PNode[] nodes = new PNode[INITIAL_CAPACITY];
+        private double[] scores = new double[INITIAL_CAPACITY];
+        private int[] heap = new int[INITIAL_CAPACITY];
+        private final LongOpenHashSet keys = new LongOpenHashSet();
+
+        static Buffers acquire() {
+            final Buffers buffers = POOL.get().poll();
+            return buffers != null ? buffers : new Buffers();
         }
 
-        var lastNode = path.getNodes().getLast();
-        if (getDistanceSquared(lastNode.x(), lastNode.y(), lastNode.z(), target) > (closeDistance * closeDistance)) {
-            path.setState(PPath.State.BEST_EFFORT);
-            return;
+        void grow() {
+            final int capacity = nodes.length * 2;
+            this.nodes = Arrays.copyOf(nodes, capacity);
+            this.scores = Arrays.copyOf(scores, capacity);
+            this.heap = Arrays.copyOf(heap, capacity);
         }
 
-        PNode pEnd = new PNode(target, 0, 0, PNode.Type.WALK, null);
-        path.getNodes().add(pEnd);
-        path.setState(PPath.State.COMPUTED);
+        void release(int nodeCount) {
+            if (nodes.length > MAX_POOLED_CAPACITY) return;
+            Arrays.fill(nodes, 0, nodeCount, null);
+            keys.clear();
+            keys.trim(MAX_POOLED_CAPACITY);
+            final ArrayDeque<Buffers> pool = POOL.get();
+            if (pool.size() < POOL_SIZE) pool.push(this);
+        }
+    }
+
+    private static long blockKey(PNode node) {
+        return ((long) node.blockX() & 0x3FFFFFF) << 38 | ((long) node.blockZ() & 0x3FFFFFF) << 12 | (node.blockY() & 0xFFF);
     }
 
     private static boolean withinDistance(PNode point, Point target, double closeDistance) {
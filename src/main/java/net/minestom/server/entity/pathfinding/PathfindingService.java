@@ -0,0 +1,152 @@
+package net.minestom.server.entity.pathfinding;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
+import net.minestom.server.collision.BoundingBox;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.pathfinding.generators.NodeGenerator;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.utils.chunk.ChunkCache;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Computes the paths requested by {@link Navigator}s on dedicated threads, away from the tick threads.
+ * <p>
+ * Searches are run in slices, one after the other, so that a long search does not delay the others.
+ * Each thread pauses until the next tick once it spent {@link ServerFlag#PATHFINDING_TICK_BUDGET} milliseconds
+ * computing paths during the current one.
+ * <p>
+ * Blocks are read through a {@link ChunkCache}, locking each chunk, unloaded chunks are considered solid.
+ * Results are published through the {@link PPath} state, picked up by the navigator during its entity tick.
+ */
+final class PathfindingService {
+    static final PathfindingService INSTANCE = new PathfindingService(ServerFlag.PATHFINDING_THREADS,
+            TimeUnit.MILLISECONDS.toNanos(ServerFlag.PATHFINDING_TICK_BUDGET));
+
+    // Nodes expanded before switching to the next search
+    private static final int SLICE = 128;
+    private static final long TICK_DURATION = TimeUnit.MILLISECONDS.toNanos(MinecraftServer.TICK_MS);
+
+    private final BlockingQueue<Job> jobs = new LinkedBlockingQueue<>();
+    private final int threadCount;
+    private final long budget;
+    private volatile boolean started;
+
+    PathfindingService(int threadCount, long budget) {
+        this.threadCount = threadCount;
+        this.budget = budget;
+    }
+
+    /**
+     * Requests the computation of a path, cancelled by setting its state to {@link PPath.State#TERMINATING}.
+     *
+     * @return the path, in the {@link PPath.State#CALCULATING} state until computed
+     */
+    PPath submit(Instance instance, Pos start, Point target,
+                 double closeDistance, double maxDistance, double pathVariance,
+                 BoundingBox boundingBox, boolean isOnGround, NodeGenerator generator,
+                 @Nullable Runnable onComplete) {
+        if (!started) start();
+        PPath path = new PPath(maxDistance, pathVariance, onComplete);
+        this.jobs.add(new Job(instance, start, target, closeDistance, maxDistance, pathVariance,
+                boundingBox, isOnGround, generator, path));
+        return path;
+    }
+
+    private synchronized void start() {
+        if (started) return;
+        for (int i = 0; i < threadCount; i++) {
+            Thread.ofPlatform().name("Ms-Pathfinding-" + i).daemon(true).start(this::work);
+        }
+        this.started = true;
+    }
+
+    private void work() {
+        long tick = 0;
+        long used = 0;
+        while (true) {
+            final Job job;
+            try {
+                job = jobs.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (used >= budget) {
+                // Wait for the next tick
+                LockSupport.parkNanos(TICK_DURATION - Math.floorMod(System.nanoTime(), TICK_DURATION));
+            }
+            final long start = System.nanoTime();
+            final long currentTick = Math.floorDiv(start, TICK_DURATION);
+            if (currentTick != tick) {
+                tick = currentTick;
+                used = 0;
+            }
+            boolean completed;
+            try {
+                completed = job.run();
+            } catch (Throwable e) {
+                MinecraftServer.getExceptionManager().handleException(e);
+                job.path.setState(PPath.State.INVALID);
+                completed = true;
+            }
+            used += System.nanoTime() - start;
+            if (!completed) jobs.add(job);
+        }
+    }
+
+    private static final class Job {
+        private final Instance instance;
+        private final Pos start;
+        private final Point target;
+        private final double closeDistance, maxDistance, pathVariance;
+        private final BoundingBox boundingBox;
+        private final boolean isOnGround;
+        private final NodeGenerator generator;
+        private final PPath path;
+        private PathGenerator.Search search;
+
+        Job(Instance instance, Pos start, Point target,
+            double closeDistance, double maxDistance, double pathVariance,
+            BoundingBox boundingBox, boolean isOnGround, NodeGenerator generator, PPath path) {
+            this.instance = instance;
+            this.start = start;
+            this.target = target;
+            this.closeDistance = closeDistance;
+            this.maxDistance = maxDistance;
+            this.pathVariance = pathVariance;
+            this.boundingBox = boundingBox;
+            this.isOnGround = isOnGround;
+            this.generator = generator;
+            this.path = path;
+        }
+
+        /**
+         * Continues the computation of the path.
+         *
+         * @return true if the path is computed or cancelled
+         */
+        boolean run() {
+            if (path.getState() == PPath.State.TERMINATING) {
+                path.setState(PPath.State.TERMINATED);
+                return true;
+            }
+            // Generators are stateful, a navigator may have a cancelled search running on another thread
+            synchronized (generator) {
+                PathGenerator.Search search = this.search;
+                if (search == null) {
+                    final Block.Getter getter = new ChunkCache(instance, null, Block.STONE);
+                    this.search = search = PathGenerator.search(getter, start, target, closeDistance, maxDistance,
+                            pathVariance, boundingBox, isOnGround, generator, path);
+                }
+                return search.run(SLICE);
+            }
+        }
+    }
+}
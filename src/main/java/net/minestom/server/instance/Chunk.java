@@ -13,17 +13,22 @@ import net.minestom.server.instance.generator.Generator;
 import net.minestom.server.instance.heightmap.Heightmap;
 import net.minestom.server.network.packet.server.SendablePacket;
 import net.minestom.server.snapshot.Snapshotable;
+import net.minestom.server.tag.Tag;
 import net.minestom.server.tag.TagHandler;
+import net.minestom.server.tag.TagReadable;
 import net.minestom.server.tag.Taggable;
 import net.minestom.server.utils.chunk.ChunkSupplier;
 import net.minestom.server.world.DimensionType;
 import net.minestom.server.world.biome.Biome;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.UnknownNullability;
 
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
 
 // TODO light data & API
 
@@ -57,7 +62,9 @@ public abstract class Chunk implements Block.Getter, Block.Setter, Biome.Getter,
     private final Viewable viewable;
 
     // Data
-    private final TagHandler tagHandler = TagHandler.newHandler();
+    private final TagHandler tagHandler = new TrackedTagHandler();
+    // Incremented on every modification of the chunk content
+    private final AtomicLong modificationCount = new AtomicLong();
 
     public Chunk(Instance instance, int chunkX, int chunkZ, boolean shouldGenerate) {
         this.identifier = UUID.randomUUID();
@@ -108,6 +115,19 @@ public abstract class Chunk implements Block.Getter, Block.Setter, Biome.Getter,
         return getSection(CoordConversion.globalToChunk(blockY));
     }
 
+    /**
+     * Gets the collision of a block, used by physics to skip the shape of empty and full blocks.
+     *
+     * @param x the block X
+     * @param y the block Y
+     * @param z the block Z
+     * @return {@link Section#NO_COLLISION}, {@link Section#FULL_COLLISION} or {@link Section#PARTIAL_COLLISION}
+     */
+    @ApiStatus.Internal
+    public int getCollision(int x, int y, int z) {
+        return Section.collision(getBlock(x, y, z, Condition.TYPE));
+    }
+
     /**
      * Executes a chunk tick.
      * <p>
@@ -297,6 +317,27 @@ public abstract class Chunk implements Block.Getter, Block.Setter, Biome.Getter,
         return tagHandler;
     }
 
+    /**
+     * Gets the number of modifications made to the chunk blocks, block entries, biomes and tags.
+     * <p>
+     * Used to detect changes made while the chunk is being saved in the background,
+     * or after the batched physics of its entities have been computed.
+     * Palettes modified directly are not counted, see {@link Section#blockPalette()}.
+     *
+     * @return the modification count
+     */
+    @ApiStatus.Internal
+    public long modificationCount() {
+        return modificationCount.get();
+    }
+
+    /**
+     * Signals a modification of the chunk content, see {@link #modificationCount()}.
+     */
+    protected void markModified() {
+        this.modificationCount.incrementAndGet();
+    }
+
     /**
      * Sets the chunk as "unloaded".
      */
@@ -308,4 +349,75 @@ public abstract class Chunk implements Block.Getter, Block.Setter, Biome.Getter,
      * Invalidate the chunk caches
      */
     public abstract void invalidate();
-}
\ No newline at end of file
+
+    /**
+     * Tag handler counting its writes as chunk modifications.
+     */
+    private final class TrackedTagHandler implements TagHandler {
+        private final TagHandler handler = TagHandler.newHandler();
+
+        @Override
+        public <T> @UnknownNullability T getTag(Tag<T> tag) {
+            return handler.getTag(tag);
+        }
+
+        @Override
+        public boolean hasTag(Tag<?> tag) {
+            return handler.hasTag(tag);
+        }
+
+        @Override
+        public <T> void setTag(Tag<T> tag, @Nullable T value) {
+            handler.setTag(tag, value);
+            markModified();
+        }
+
+        @Override
+        public <T> @Nullable T getAndSetTag(Tag<T> tag, @Nullable T value) {
+            final T previous = handler.getAndSetTag(tag, value);
+            markModified();
+            return previous;
+        }
+
+        @Override
+        public <T> void updateTag(Tag<T> tag, UnaryOperator<@UnknownNullability T> value) {
+            handler.updateTag(tag, value);
+            markModified();
+        }
+
+        @Override
+        public <T> @UnknownNullability T updateAndGetTag(Tag<T> tag, UnaryOperator<@UnknownNullability T> value) {
+            final T updated = handler.updateAndGetTag(tag, value);
+            markModified();
+            return updated;
+        }
+
+        @Override
+        public <T> @UnknownNullability T getAndUpdateTag(Tag<T> tag, UnaryOperator<@UnknownNullability T> value) {
+            final T previous = handler.getAndUpdateTag(tag, value);
+            markModified();
+            return previous;
+        }
+
+        @Override
+        public TagReadable readableCopy() {
+            return handler.readableCopy();
+        }
+
+        @Override
+        public TagHandler copy() {
+            return handler.copy();
+        }
+
+        @Override
+        public void updateContent(CompoundBinaryTag compound) {
+            handler.updateContent(compound);
+            markModified();
+        }
+
+        @Override
+        public CompoundBinaryTag asCompound() {
+            return handler.asCompound();
+        }
+    }
+}
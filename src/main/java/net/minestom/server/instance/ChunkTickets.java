@@ -0,0 +1,297 @@
+package net.minestom.server.instance;
+
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
+import net.minestom.server.coordinate.ChunkRange;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.Player;
+import net.minestom.server.utils.validate.Check;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static net.minestom.server.coordinate.CoordConversion.chunkIndex;
+
+/**
+ * Unloads the chunks of an {@link InstanceContainer} which are no longer used.
+ * <p>
+ * A chunk stays loaded as long as it holds a ticket:
+ * <ul>
+ *     <li>player tickets, for the chunks in the view distance of a player (including the players of shared instances)</li>
+ *     <li>entity tickets, for the chunks containing an entity (including the entities of shared instances)</li>
+ *     <li>plugin tickets, added by {@link #addTicket(int, int)} until removed by {@link #removeTicket(int, int)}</li>
+ *     <li>timed tickets, added by {@link #addTimedTicket(int, int, int)} for a number of ticks</li>
+ * </ul>
+ * Chunks are checked every second. Those without ticket for the {@link #getGracePeriod() grace period}
+ * are saved in batches with {@link IChunkLoader#saveChunks(Collection)}, then unloaded using {@link Instance#unloadChunk(Chunk)}.
+ * Tickets do not load chunks.
+ * <p>
+ * Disabled unless {@link ServerFlag#CHUNK_TICKET_GRACE_PERIOD} is set, or by {@link #setGracePeriod(int)}.
+ */
+public final class ChunkTickets {
+    private static final int SCAN_INTERVAL = ServerFlag.SERVER_TICKS_PER_SECOND;
+
+    private final InstanceContainer instance;
+
+    // Guarded by this
+    private final Long2IntOpenHashMap pluginTickets = new Long2IntOpenHashMap();
+    private final Long2LongOpenHashMap timedTickets = new Long2LongOpenHashMap(); // Index -> expiration tick
+
+    // Only accessed by the instance tick
+    private Long2LongOpenHashMap idleSince = new Long2LongOpenHashMap(); // Index -> first tick without ticket
+    private final Set<Chunk> saving = ConcurrentHashMap.newKeySet();
+    private final Queue<SavedBatch> saved = new ConcurrentLinkedQueue<>();
+
+    private volatile long tick;
+    private volatile int gracePeriod = ServerFlag.CHUNK_TICKET_GRACE_PERIOD;
+    private volatile int tickingChunks;
+    private volatile int pendingChunks;
+
+    ChunkTickets(InstanceContainer instance) {
+        this.instance = instance;
+    }
+
+    /**
+     * Adds a plugin ticket to a chunk, kept until removed.
+     * <p>
+     * Tickets are counted, a chunk ticketed twice needs to have its ticket removed twice.
+     *
+     * @param chunkX the chunk X
+     * @param chunkZ the chunk Z
+     */
+    public synchronized void addTicket(int chunkX, int chunkZ) {
+        this.pluginTickets.addTo(chunkIndex(chunkX, chunkZ), 1);
+    }
+
+    /**
+     * Removes a plugin ticket added by {@link #addTicket(int, int)}.
+     *
+     * @param chunkX the chunk X
+     * @param chunkZ the chunk Z
+     * @return true if the chunk had a plugin ticket
+     */
+    public synchronized boolean removeTicket(int chunkX, int chunkZ) {
+        final long index = chunkIndex(chunkX, chunkZ);
+        final int count = pluginTickets.get(index);
+        if (count == 0) return false;
+        if (count == 1) pluginTickets.remove(index);
+        else pluginTickets.put(index, count - 1);
+        return true;
+    }
+
+    /**
+     * Keeps a chunk loaded for a number of ticks.
+     * <p>
+     * Extends the existing timed ticket of the chunk if it expires earlier.
+     *
+     * @param chunkX the chunk X
+     * @param chunkZ the chunk Z
+     * @param ticks  the number of ticks
+     */
+    public synchronized void addTimedTicket(int chunkX, int chunkZ, int ticks) {
+        Check.argCondition(ticks <= 0, "Ticks must be positive");
+        final long expiration = tick + ticks;
+        this.timedTickets.mergeLong(chunkIndex(chunkX, chunkZ), expiration, Math::max);
+    }
+
+    /**
+     * Gets if a chunk currently holds a ticket.
+     *
+     * @param chunkX the chunk X
+     * @param chunkZ the chunk Z
+     * @return true if the chunk would not be unloaded
+     */
+    public boolean hasTicket(int chunkX, int chunkZ) {
+        final long index = chunkIndex(chunkX, chunkZ);
+        synchronized (this) {
+            if (pluginTickets.containsKey(index)) return true;
+            if (timedTickets.getOrDefault(index, Long.MIN_VALUE) > tick) return true;
+        }
+        for (Instance viewed : viewedInstances()) {
+            if (!viewed.getEntityTracker().chunkEntities(chunkX, chunkZ, EntityTracker.Target.ENTITIES).isEmpty())
+                return true;
+            for (Player player : viewed.getPlayers()) {
+                final Pos position = player.getPosition();
+                final int range = player.effectiveViewDistance();
+                if (Math.abs(position.chunkX() - chunkX) <= range && Math.abs(position.chunkZ() - chunkZ) <= range)
+                    return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the number of ticks a chunk without ticket stays loaded.
+     *
+     * @return the grace period in ticks, negative if chunks are never unloaded
+     */
+    public int getGracePeriod() {
+        return gracePeriod;
+    }
+
+    /**
+     * Changes the number of ticks a chunk without ticket stays loaded.
+     *
+     * @param gracePeriod the grace period in ticks, negative to never unload chunks
+     */
+    public void setGracePeriod(int gracePeriod) {
+        this.gracePeriod = gracePeriod;
+    }
+
+    /**
+     * Gets the number of chunks currently loaded in the instance.
+     *
+     * @return the number of loaded chunks
+     */
+    public int loadedChunks() {
+        return instance.getChunks().size();
+    }
+
+    /**
+     * Gets the number of loaded chunks holding a ticket, as of the last check.
+     *
+     * @return the number of ticking chunks
+     */
+    public int tickingChunks() {
+        return tickingChunks;
+    }
+
+    /**
+     * Gets the number of loaded chunks without ticket, waiting for the grace period or being saved, as of the last check.
+     *
+     * @return the number of chunks pending unload
+     */
+    public int pendingChunks() {
+        return pendingChunks;
+    }
+
+    /**
+     * Called by the instance tick.
+     */
+    void tick() {
+        final long tick = this.tick + 1;
+        this.tick = tick;
+        // Unload the chunks saved in the background
+        SavedBatch batch;
+        while ((batch = saved.poll()) != null) {
+            final List<Chunk> chunks = batch.chunks();
+            for (int i = 0; i < chunks.size(); i++) {
+                final Chunk chunk = chunks.get(i);
+                this.saving.remove(chunk);
+                // Changes made during the save would be lost, keep the chunk until its next eviction
+                if (version(chunk) != batch.versions()[i]) continue;
+                if (!hasTicket(chunk.getChunkX(), chunk.getChunkZ())) instance.unloadChunk(chunk);
+            }
+        }
+        if (tick % SCAN_INTERVAL != 0) return;
+        synchronized (this) {
+            this.timedTickets.long2LongEntrySet().removeIf(entry -> entry.getLongValue() <= tick);
+        }
+        final int gracePeriod = this.gracePeriod;
+        if (gracePeriod < 0) {
+            if (!idleSince.isEmpty()) this.idleSince = new Long2LongOpenHashMap();
+            this.tickingChunks = 0;
+            this.pendingChunks = 0;
+            return;
+        }
+        scan(tick, gracePeriod);
+    }
+
+    private void scan(long tick, int gracePeriod) {
+        final LongOpenHashSet ticketed = tickets();
+        final Long2LongOpenHashMap previousIdle = this.idleSince;
+        final Long2LongOpenHashMap idleSince = new Long2LongOpenHashMap();
+        final List<Chunk> evicted = new ArrayList<>();
+        final int batchSize = ServerFlag.CHUNK_TICKET_BATCH_SIZE;
+        int ticking = 0;
+        for (Chunk chunk : instance.getChunks()) {
+            final long index = chunkIndex(chunk.getChunkX(), chunk.getChunkZ());
+            if (ticketed.contains(index)) {
+                ticking++;
+                continue;
+            }
+            final long since = previousIdle.getOrDefault(index, tick);
+            idleSince.put(index, since);
+            if (tick - since >= gracePeriod && evicted.size() < batchSize && !saving.contains(chunk)) {
+                evicted.add(chunk);
+            }
+        }
+        this.idleSince = idleSince;
+        this.tickingChunks = ticking;
+        this.pendingChunks = idleSince.size();
+        if (!evicted.isEmpty()) evict(evicted);
+    }
+
+    private LongOpenHashSet tickets() {
+        final LongOpenHashSet ticketed = new LongOpenHashSet();
+        synchronized (this) {
+            ticketed.addAll(pluginTickets.keySet());
+            for (Long2LongMap.Entry entry : timedTickets.long2LongEntrySet()) ticketed.add(entry.getLongKey());
+        }
+        for (Instance viewed : viewedInstances()) {
+            for (Entity entity : viewed.getEntityTracker().entities()) {
+                final Pos position = entity.getPosition();
+                ticketed.add(chunkIndex(position.chunkX(), position.chunkZ()));
+            }
+            for (Player player : viewed.getPlayers()) {
+                ChunkRange.chunksInRange(player.getPosition(), player.effectiveViewDistance(),
+                        (chunkX, chunkZ) -> ticketed.add(chunkIndex(chunkX, chunkZ)));
+            }
+        }
+        return ticketed;
+    }
+
+    private List<Instance> viewedInstances() {
+        final List<SharedInstance> sharedInstances = instance.getSharedInstances();
+        if (sharedInstances.isEmpty()) return List.of(instance);
+        List<Instance> instances = new ArrayList<>(sharedInstances.size() + 1);
+        instances.add(instance);
+        instances.addAll(sharedInstances);
+        return instances;
+    }
+
+    private void evict(List<Chunk> chunks) {
+        final IChunkLoader loader = instance.getChunkLoader();
+        if (!loader.supportsParallelSaving()) {
+            loader.saveChunks(chunks);
+            for (Chunk chunk : chunks) instance.unloadChunk(chunk);
+            return;
+        }
+        // Save in the background, the chunks are unloaded by the next tick after completion
+        final long[] versions = new long[chunks.size()];
+        for (int i = 0; i < versions.length; i++) versions[i] = version(chunks.get(i));
+        this.saving.addAll(chunks);
+        Thread.startVirtualThread(() -> {
+            try {
+                loader.saveChunks(chunks);
+                this.saved.add(new SavedBatch(chunks, versions));
+            } catch (Throwable e) {
+                MinecraftServer.getExceptionManager().handleException(e);
+                chunks.forEach(this.saving::remove);
+            }
+        });
+    }
+
+    /**
+     * Sums the modification count and palette versions of a chunk, changing with each of its block, block entry,
+     * biome and tag modifications, including the palettes modified directly.
+     */
+    private static long version(Chunk chunk) {
+        long version = chunk.modificationCount();
+        synchronized (chunk) {
+            for (Section section : chunk.getSections()) {
+                version += section.blockPalette().version() + section.biomePalette().version();
+            }
+        }
+        return version;
+    }
+
+    private record SavedBatch(List<Chunk> chunks, long[] versions) {
+    }
+}
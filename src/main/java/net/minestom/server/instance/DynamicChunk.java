@@ -1,14 +1,18 @@
 package net.minestom.server.instance;
 
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
 import net.kyori.adventure.nbt.CompoundBinaryTag;
 import net.kyori.adventure.nbt.LongArrayBinaryTag;
 import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
 import net.minestom.server.coordinate.CoordConversion;
 import net.minestom.server.coordinate.Point;
 import net.minestom.server.entity.Entity;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockHandler;
+import net.minestom.server.instance.block.BlockManager;
+import net.minestom.server.instance.block.RandomTickHandler;
 import net.minestom.server.instance.heightmap.Heightmap;
 import net.minestom.server.instance.heightmap.MotionBlockingHeightmap;
 import net.minestom.server.instance.heightmap.WorldSurfaceHeightmap;
@@ -34,6 +38,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
 
 import static net.minestom.server.coordinate.CoordConversion.globalToSectionRelative;
 import static net.minestom.server.network.NetworkBuffer.SHORT;
@@ -56,8 +61,20 @@ public class DynamicChunk extends Chunk {
     // Key = ChunkUtils#getBlockIndex
     protected final Int2ObjectOpenHashMap<Block> entries = new Int2ObjectOpenHashMap<>(0);
     protected final Int2ObjectOpenHashMap<Block> tickableMap = new Int2ObjectOpenHashMap<>(0);
+    // Tick details of the tickable blocks, kept until the block changes
+    private final Int2ObjectOpenHashMap<BlockHandler.Tick> ticks = new Int2ObjectOpenHashMap<>(0);
+    private final Int2ObjectOpenHashMap<BlockHandler.ParallelTick> parallelTicks = new Int2ObjectOpenHashMap<>(0);
+    private final List<BlockHandler.ParallelTick> parallelBatch = new ArrayList<>();
+    // Block indexes picked by the random tick, dispatched once the chunk is unlocked
+    private final IntArrayList randomTickBatch = new IntArrayList();
 
     final CachedPacket chunkCache = new CachedPacket(this::createChunkPacket);
+
+    // Immutable copies shared with the last snapshot, only the modified parts are copied again
+    private final BitSet modifiedSections = new BitSet();
+    private boolean modifiedEntries;
+    private Section[] snapshotSections;
+    private Int2ObjectOpenHashMap<Block> snapshotEntries;
     private static final DynamicRegistry<Biome> BIOME_REGISTRY = MinecraftServer.getBiomeRegistry();
 
     public DynamicChunk(Instance instance, int chunkX, int chunkZ) {
@@ -86,6 +103,8 @@ public class DynamicChunk extends Chunk {
         assertLock();
 
         this.chunkCache.invalidate();
+        this.modifiedSections.set(CoordConversion.globalToChunk(y) - minSection);
+        markModified();
 
         Section section = getSectionAt(y);
 
@@ -98,6 +117,8 @@ public class DynamicChunk extends Chunk {
                 sectionRelativeZ,
                 block.stateId()
         );
+        section.updateCollision(sectionRelativeX, globalToSectionRelative(y), sectionRelativeZ, block.stateId());
+        section.updateRandomTick(sectionRelativeX, globalToSectionRelative(y), sectionRelativeZ, block.stateId());
 
         final int index = CoordConversion.chunkBlockIndex(x, y, z);
         // Handler
@@ -105,8 +126,10 @@ public class DynamicChunk extends Chunk {
         final Block lastCachedBlock;
         if (handler != null || block.hasNbt() || block.registry().isBlockEntity()) {
             lastCachedBlock = this.entries.put(index, block);
+            this.modifiedEntries = true;
         } else {
             lastCachedBlock = this.entries.remove(index);
+            if (lastCachedBlock != null) this.modifiedEntries = true;
         }
         // Block tick
         if (handler != null && handler.isTickable()) {
@@ -114,6 +137,8 @@ public class DynamicChunk extends Chunk {
         } else {
             this.tickableMap.remove(index);
         }
+        this.ticks.remove(index);
+        this.parallelTicks.remove(index);
 
         // Update block handlers
         if (lastCachedBlock != null && lastCachedBlock.handler() != null) {
@@ -139,6 +164,8 @@ public class DynamicChunk extends Chunk {
     public void setBiome(int x, int y, int z, RegistryKey<Biome> biome) {
         assertLock();
         this.chunkCache.invalidate();
+        this.modifiedSections.set(CoordConversion.globalToChunk(y) - minSection);
+        markModified();
         Section section = getSectionAt(y);
 
         var id = BIOME_REGISTRY.getId(biome);
@@ -183,20 +210,118 @@ public class DynamicChunk extends Chunk {
 
     @Override
     public void tick(long time) {
+        randomTick();
         if (tickableMap.isEmpty()) return;
+        final List<BlockHandler.ParallelTick> parallelBatch = this.parallelBatch;
         tickableMap.int2ObjectEntrySet().fastForEach(entry -> {
             final int index = entry.getIntKey();
             final Block block = entry.getValue();
             final BlockHandler handler = block.handler();
             if (handler == null) return;
-            final Point blockPosition = CoordConversion.chunkBlockIndexGetGlobal(index, chunkX, chunkZ);
-            handler.tick(new BlockHandler.Tick(block, instance, blockPosition));
+            if (handler.isParallelTickable()) {
+                BlockHandler.ParallelTick tick = parallelTicks.get(index);
+                if (tick == null) {
+                    final Point blockPosition = CoordConversion.chunkBlockIndexGetGlobal(index, chunkX, chunkZ);
+                    tick = new BlockHandler.ParallelTick(block, instance, blockPosition, this::getBlockView);
+                    parallelTicks.put(index, tick);
+                }
+                parallelBatch.add(tick);
+                return;
+            }
+            BlockHandler.Tick tick = ticks.get(index);
+            if (tick == null) {
+                final Point blockPosition = CoordConversion.chunkBlockIndexGetGlobal(index, chunkX, chunkZ);
+                tick = new BlockHandler.Tick(block, instance, blockPosition);
+                ticks.put(index, tick);
+            }
+            handler.tick(tick);
         });
+        if (!parallelBatch.isEmpty()) tickParallel(parallelBatch);
+    }
+
+    /**
+     * Picks {@link Instance#getRandomTickSpeed()} random blocks in each section containing randomly ticking blocks.
+     * <p>
+     * Handlers are called without holding the chunk lock, they may modify the neighbouring chunks.
+     */
+    private void randomTick() {
+        final int speed = instance.getRandomTickSpeed();
+        if (speed <= 0) return;
+        final BlockManager blockManager = MinecraftServer.getBlockManager();
+        final RandomTickHandler[] handlers = blockManager.randomTickHandlers();
+        if (handlers.length == 0) return;
+        final IntArrayList batch = this.randomTickBatch;
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        synchronized (this) {
+            for (int i = 0; i < sections.size(); i++) {
+                final Section section = sections.get(i);
+                if (section.randomTickCount(handlers) == 0) continue;
+                final int sectionY = (minSection + i) * CHUNK_SECTION_SIZE;
+                for (int j = 0; j < speed; j++) {
+                    final int index = random.nextInt(Palette.BLOCK_DIMENSION * Palette.BLOCK_DIMENSION * Palette.BLOCK_DIMENSION);
+                    final int x = index & 0xF, y = index >>> 8, z = (index >>> 4) & 0xF;
+                    if (section.isRandomlyTicking(x, y, z)) batch.add(CoordConversion.chunkBlockIndex(x, sectionY + y, z));
+                }
+            }
+        }
+        try {
+            for (int i = 0; i < batch.size(); i++) {
+                final Point blockPosition = CoordConversion.chunkBlockIndexGetGlobal(batch.getInt(i), chunkX, chunkZ);
+                // Read the current block, it may have been changed by a previous random tick
+                final Block block;
+                synchronized (this) {
+                    block = getBlockUnlocked(blockPosition.blockX(), blockPosition.blockY(), blockPosition.blockZ(), Condition.NONE);
+                }
+                final RandomTickHandler handler = blockManager.getRandomTickHandler(block);
+                if (handler != null) handler.randomTick(new BlockHandler.Tick(block, instance, blockPosition));
+            }
+        } finally {
+            batch.clear();
+        }
+    }
+
+    /**
+     * Ticks the parallel-safe handlers against the locked chunk, then applies their changes.
+     */
+    private void tickParallel(List<BlockHandler.ParallelTick> batch) {
+        try {
+            synchronized (this) {
+                if (batch.size() < ServerFlag.PARALLEL_BLOCK_TICK_THRESHOLD) {
+                    batch.forEach(DynamicChunk::tickParallel);
+                } else {
+                    batch.parallelStream().forEach(DynamicChunk::tickParallel);
+                }
+            }
+            for (BlockHandler.ParallelTick tick : batch) tick.applyChanges();
+        } finally {
+            batch.clear();
+        }
+    }
+
+    private static void tickParallel(BlockHandler.ParallelTick tick) {
+        try {
+            final BlockHandler handler = tick.getBlock().handler();
+            if (handler != null) handler.tick(tick);
+        } catch (Throwable e) {
+            MinecraftServer.getExceptionManager().handleException(e);
+        }
+    }
+
+    /**
+     * Reads a block of this chunk from the handlers ticked by {@link #tickParallel(List)}, while the chunk is locked.
+     */
+    private @Nullable Block getBlockView(int x, int y, int z, Condition condition) {
+        if (CoordConversion.globalToChunk(x) != chunkX || CoordConversion.globalToChunk(z) != chunkZ) return null;
+        return getBlockUnlocked(x, y, z, condition);
     }
 
     @Override
     public @Nullable Block getBlock(int x, int y, int z, Condition condition) {
         assertLock();
+        return getBlockUnlocked(x, y, z, condition);
+    }
+
+    private @Nullable Block getBlockUnlocked(int x, int y, int z, Condition condition) {
         if (y < minSection * CHUNK_SECTION_SIZE || y >= maxSection * CHUNK_SECTION_SIZE)
             return Block.AIR; // Out of bounds
 
@@ -215,6 +340,14 @@ public class DynamicChunk extends Chunk {
         return Objects.requireNonNullElse(Block.fromStateId(blockStateId), Block.AIR);
     }
 
+    @Override
+    public int getCollision(int x, int y, int z) {
+        assertLock();
+        if (y < minSection * CHUNK_SECTION_SIZE || y >= maxSection * CHUNK_SECTION_SIZE)
+            return Section.NO_COLLISION; // Out of bounds
+        return getSectionAt(y).collision(globalToSectionRelative(x), globalToSectionRelative(y), globalToSectionRelative(z));
+    }
+
     @Override
     public RegistryKey<Biome> getBiome(int x, int y, int z) {
         assertLock();
@@ -244,12 +377,20 @@ public class DynamicChunk extends Chunk {
     public void reset() {
         for (Section section : sections) section.clear();
         this.entries.clear();
+        markModified();
+        invalidateSnapshot();
     }
 
     @Override
     public void invalidate() {
         this.needsCompleteHeightmapRefresh = true;
         this.chunkCache.invalidate();
+        invalidateSnapshot();
+    }
+
+    private void invalidateSnapshot() {
+        this.modifiedSections.set(0, sections.size());
+        this.modifiedEntries = true;
     }
 
     private ChunkDataPacket createChunkPacket() {
@@ -328,13 +469,34 @@ public class DynamicChunk extends Chunk {
 
     @Override
     public ChunkSnapshot updateSnapshot(SnapshotUpdater updater) {
-        Section[] clonedSections = new Section[sections.size()];
-        for (int i = 0; i < clonedSections.length; i++)
-            clonedSections[i] = sections.get(i).clone();
+        final Section[] clonedSections;
+        final Int2ObjectOpenHashMap<Block> clonedEntries;
+        synchronized (this) {
+            Section[] sections = this.snapshotSections;
+            if (sections == null) {
+                sections = new Section[this.sections.size()];
+                this.modifiedSections.set(0, sections.length);
+            } else if (!modifiedSections.isEmpty()) {
+                // Previous snapshots keep their own array
+                sections = sections.clone();
+            }
+            for (int i = modifiedSections.nextSetBit(0); i >= 0; i = modifiedSections.nextSetBit(i + 1)) {
+                sections[i] = this.sections.get(i).clone();
+            }
+            this.modifiedSections.clear();
+            this.snapshotSections = clonedSections = sections;
+
+            Int2ObjectOpenHashMap<Block> entries = this.snapshotEntries;
+            if (entries == null || modifiedEntries) {
+                this.snapshotEntries = entries = this.entries.clone();
+                this.modifiedEntries = false;
+            }
+            clonedEntries = entries;
+        }
         var entities = instance.getEntityTracker().chunkEntities(chunkX, chunkZ, EntityTracker.Target.ENTITIES);
         final int[] entityIds = ArrayUtils.mapToIntArray(entities, Entity::getEntityId);
         return new SnapshotImpl.Chunk(minSection, chunkX, chunkZ,
-                clonedSections, entries.clone(), entityIds, updater.reference(instance),
+                clonedSections, clonedEntries, entityIds, updater.reference(instance),
                 tagHandler().readableCopy());
     }
 
@@ -3,9 +3,11 @@ package net.minestom.server.instance;
 import net.minestom.server.Viewable;
 import net.minestom.server.coordinate.Point;
 import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.EntityType;
 import net.minestom.server.entity.ExperienceOrb;
 import net.minestom.server.entity.ItemEntity;
 import net.minestom.server.entity.Player;
+import net.minestom.server.tag.Tag;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.UnmodifiableView;
@@ -15,6 +17,7 @@ import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * Defines how {@link Entity entities} are tracked within an {@link Instance instance}.
@@ -60,6 +63,14 @@ public sealed interface EntityTracker permits EntityTrackerImpl {
     <T extends Entity> void move(Entity entity, Point newPoint,
                                  Target<T> target, @Nullable Update<T> update);
 
+    /**
+     * Evaluates again if a registered entity is part of the targets created with
+     * {@link Target#of(Class, Predicate)}, after a change of the state they depend on.
+     *
+     * @param entity the registered entity
+     */
+    void refresh(Entity entity);
+
     @UnmodifiableView <T extends Entity> Collection<T> chunkEntities(int chunkX, int chunkZ, Target<T> target);
 
     @UnmodifiableView
@@ -98,6 +109,10 @@ public sealed interface EntityTracker permits EntityTrackerImpl {
 
     /**
      * Represents the type of entity you want to retrieve.
+     * <p>
+     * Each target is indexed by chunk, {@link #of(Class, Predicate)} creates secondary indexes
+     * for the entities the game logic often looks for. They are built by each tracker on first use,
+     * then maintained when entities are registered, moved or unregistered.
      *
      * @param <E> the entity type
      */
@@ -110,11 +125,61 @@ public sealed interface EntityTracker permits EntityTrackerImpl {
 
         List<EntityTracker.Target<? extends Entity>> TARGETS = List.of(EntityTracker.Target.ENTITIES, EntityTracker.Target.PLAYERS, EntityTracker.Target.ITEMS, EntityTracker.Target.EXPERIENCE_ORBS);
 
+        /**
+         * Creates a target containing the entities of a class matching a predicate.
+         * <p>
+         * The predicate is evaluated when the entity is registered and on {@link EntityTracker#refresh(Entity)},
+         * it should only depend on state that does not change in between or refresh the entity after each change.
+         * Targets are never released, create them once.
+         *
+         * @param type      the entity class
+         * @param predicate the condition to be part of the target
+         * @return a new target
+         */
+        static <T extends Entity> Target<T> of(Class<T> type, Predicate<? super T> predicate) {
+            return create(type, entity -> type.isInstance(entity) && predicate.test(type.cast(entity)));
+        }
+
+        /**
+         * Gets the target containing the entities of a type.
+         *
+         * @param entityType the entity type
+         * @return the target of the type, the same for each call
+         */
+        static Target<Entity> of(EntityType entityType) {
+            return EntityTrackerImpl.TYPE_TARGETS.computeIfAbsent(entityType,
+                    type -> of(Entity.class, entity -> entity.getEntityType() == type));
+        }
+
+        /**
+         * Creates a target containing the entities having a tag.
+         * <p>
+         * Entities need to be {@link EntityTracker#refresh(Entity) refreshed} after the tag is set or removed.
+         *
+         * @param tag the tag
+         * @return a new target
+         */
+        static Target<Entity> withTag(Tag<?> tag) {
+            return of(Entity.class, entity -> entity.hasTag(tag));
+        }
+
         Class<E> type();
 
         int ordinal();
 
+        /**
+         * Gets if an entity is part of this target.
+         *
+         * @param entity the entity
+         * @return true if the entity is tracked by this target
+         */
+        boolean test(Entity entity);
+
         private static <T extends Entity> EntityTracker.Target<T> create(Class<T> type) {
+            return create(type, type::isInstance);
+        }
+
+        private static <T extends Entity> EntityTracker.Target<T> create(Class<T> type, Predicate<Entity> predicate) {
             final int ordinal = EntityTrackerImpl.TARGET_COUNTER.getAndIncrement();
             return new Target<>() {
                 @Override
@@ -126,6 +191,11 @@ public sealed interface EntityTracker permits EntityTrackerImpl {
                 public int ordinal() {
                     return ordinal;
                 }
+
+                @Override
+                public boolean test(Entity entity) {
+                    return predicate.test(entity);
+                }
             };
         }
     }
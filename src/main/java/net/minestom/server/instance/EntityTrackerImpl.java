@@ -8,6 +8,7 @@ import net.minestom.server.coordinate.CoordConversion;
 import net.minestom.server.coordinate.Point;
 import net.minestom.server.coordinate.Vec;
 import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.EntityType;
 import net.minestom.server.entity.Player;
 import net.minestom.server.utils.validate.Check;
 import org.jetbrains.annotations.Nullable;
@@ -32,10 +33,17 @@ final class EntityTrackerImpl implements EntityTracker {
     private static final Logger LOGGER = LoggerFactory.getLogger(EntityTrackerImpl.class);
 
     static final AtomicInteger TARGET_COUNTER = new AtomicInteger();
+    static final Map<EntityType, Target<Entity>> TYPE_TARGETS = new ConcurrentHashMap<>();
 
     // Store all data associated to a Target
     // The array index is the Target enum ordinal
     final TargetEntry<Entity>[] targetEntries = EntityTracker.Target.TARGETS.stream().map((Function<Target<?>, TargetEntry>) TargetEntry::new).toArray(TargetEntry[]::new);
+    // Entries of the targets created with Target#of, indexed by ordinal and created on first use
+    // Each entity updates the indexes it belongs to under its own tracker entry lock,
+    // the index lock is only held while an index is created and filled
+    private volatile TargetEntry<Entity>[] indexEntries = new TargetEntry[0];
+    private volatile boolean indexed;
+    private final Object indexLock = new Object();
 
     private final Int2ObjectSyncMap<EntityTrackerEntry> entriesByEntityId = Int2ObjectSyncMap.hashmap();
     private final Map<UUID, EntityTrackerEntry> entriesByEntityUuid = new ConcurrentHashMap<>();
@@ -52,11 +60,18 @@ final class EntityTrackerImpl implements EntityTracker {
 
         final long index = CoordConversion.chunkIndex(point);
         for (TargetEntry<Entity> targetEntry : targetEntries) {
-            if (targetEntry.target.type().isInstance(entity)) {
+            if (targetEntry.target.test(entity)) {
                 targetEntry.entities.add(entity);
                 targetEntry.addToChunk(index, entity);
             }
         }
+        if (indexed) {
+            synchronized (newEntry) {
+                for (TargetEntry<Entity> indexEntry : indexEntries) {
+                    if (indexEntry != null) newEntry.index(indexEntry);
+                }
+            }
+        }
         if (update != null) {
             update.referenceUpdate(point, this);
             nearbyEntitiesByChunkRange(point, ServerFlag.ENTITY_VIEW_DISTANCE, target, newEntity -> {
@@ -76,11 +91,12 @@ final class EntityTrackerImpl implements EntityTracker {
 
         final long index = CoordConversion.chunkIndex(point);
         for (TargetEntry<Entity> targetEntry : targetEntries) {
-            if (targetEntry.target.type().isInstance(entity)) {
+            if (targetEntry.target.test(entity)) {
                 targetEntry.entities.remove(entity);
                 targetEntry.removeFromChunk(index, entity);
             }
         }
+        if (indexed) entry.unregister();
         if (update != null) {
             update.referenceUpdate(point, null);
             nearbyEntitiesByChunkRange(point, ServerFlag.ENTITY_VIEW_DISTANCE, target, newEntity -> {
@@ -116,11 +132,12 @@ final class EntityTrackerImpl implements EntityTracker {
         final long oldIndex = CoordConversion.chunkIndex(oldPoint);
         final long newIndex = CoordConversion.chunkIndex(newPoint);
         for (TargetEntry<Entity> targetEntry : targetEntries) {
-            if (targetEntry.target.type().isInstance(entity)) {
+            if (targetEntry.target.test(entity)) {
                 targetEntry.addToChunk(newIndex, entity);
                 targetEntry.removeFromChunk(oldIndex, entity);
             }
         }
+        if (indexed) entry.moveIndexes(oldIndex, newIndex);
         if (update != null) {
             difference(oldPoint, newPoint, target, new Update<>() {
                 @Override
@@ -137,9 +154,25 @@ final class EntityTrackerImpl implements EntityTracker {
         }
     }
 
+    @Override
+    public void refresh(Entity entity) {
+        final EntityTrackerEntry entry = entriesByEntityId.get(entity.getEntityId());
+        if (entry == null || !indexed) return;
+        synchronized (entry) {
+            for (TargetEntry<Entity> indexEntry : indexEntries) {
+                if (indexEntry == null) continue;
+                if (indexEntry.target.test(entity)) {
+                    entry.index(indexEntry);
+                } else {
+                    entry.unindex(indexEntry);
+                }
+            }
+        }
+    }
+
     @Override
     public @Unmodifiable <T extends Entity> Collection<T> chunkEntities(int chunkX, int chunkZ, Target<T> target) {
-        final TargetEntry<Entity> entry = targetEntries[target.ordinal()];
+        final TargetEntry<Entity> entry = entry(target);
         //noinspection unchecked
         var chunkEntities = (List<T>) entry.chunkEntities(CoordConversion.chunkIndex(chunkX, chunkZ));
         return Collections.unmodifiableList(chunkEntities);
@@ -147,7 +180,7 @@ final class EntityTrackerImpl implements EntityTracker {
 
     @Override
     public <T extends Entity> void nearbyEntitiesByChunkRange(Point point, int chunkRange, Target<T> target, Consumer<T> query) {
-        final Long2ObjectSyncMap<List<Entity>> entities = targetEntries[target.ordinal()].chunkEntities;
+        final Long2ObjectSyncMap<List<Entity>> entities = entry(target).chunkEntities;
         if (chunkRange == 0) {
             // Single chunk
             final var chunkEntities = (List<T>) entities.get(CoordConversion.chunkIndex(point));
@@ -166,7 +199,7 @@ final class EntityTrackerImpl implements EntityTracker {
 
     @Override
     public <T extends Entity> void nearbyEntities(Point point, double range, Target<T> target, Consumer<T> query) {
-        final Long2ObjectSyncMap<List<Entity>> entities = targetEntries[target.ordinal()].chunkEntities;
+        final Long2ObjectSyncMap<List<Entity>> entities = entry(target).chunkEntities;
         final int minChunkX = CoordConversion.globalToChunk(point.x() - range);
         final int minChunkZ = CoordConversion.globalToChunk(point.z() - range);
         final int maxChunkX = CoordConversion.globalToChunk(point.x() + range);
@@ -200,7 +233,31 @@ final class EntityTrackerImpl implements EntityTracker {
     @Override
     public @UnmodifiableView <T extends Entity> Set<T> entities(Target<T> target) {
         //noinspection unchecked
-        return (Set<T>) targetEntries[target.ordinal()].entitiesView;
+        return (Set<T>) entry(target).entitiesView;
+    }
+
+    private TargetEntry<Entity> entry(Target<?> target) {
+        final int ordinal = target.ordinal();
+        if (ordinal < targetEntries.length) return targetEntries[ordinal];
+        final TargetEntry<Entity>[] entries = indexEntries;
+        if (ordinal < entries.length && entries[ordinal] != null && entries[ordinal].filled) return entries[ordinal];
+        synchronized (indexLock) {
+            if (ordinal < indexEntries.length && indexEntries[ordinal] != null) return indexEntries[ordinal];
+            final TargetEntry<Entity> entry = new TargetEntry<>((Target<Entity>) target);
+            // Publish the index first so that entities registered from now on add themselves,
+            // then fill it with the entities already registered
+            final TargetEntry<Entity>[] updated = Arrays.copyOf(indexEntries, Math.max(indexEntries.length, ordinal + 1));
+            updated[ordinal] = entry;
+            this.indexEntries = updated;
+            this.indexed = true;
+            for (EntityTrackerEntry trackerEntry : entriesByEntityId.values()) {
+                synchronized (trackerEntry) {
+                    trackerEntry.index(entry);
+                }
+            }
+            entry.filled = true;
+            return entry;
+        }
     }
 
     @Override
@@ -210,8 +267,13 @@ final class EntityTrackerImpl implements EntityTracker {
     }
 
     private static class EntityTrackerEntry {
+        private static final TargetEntry<Entity>[] NO_INDEXES = new TargetEntry[0];
+
         private final Entity entity;
-        private Point lastPosition;
+        private volatile Point lastPosition;
+        // Secondary indexes containing the entity, guarded by this entry
+        private TargetEntry<Entity>[] indexes = NO_INDEXES;
+        private boolean unregistered;
 
         private EntityTrackerEntry(Entity entity, @Nullable Point lastPosition) {
             this.entity = entity;
@@ -230,11 +292,56 @@ final class EntityTrackerImpl implements EntityTracker {
         public void setLastPosition(Point lastPosition) {
             this.lastPosition = lastPosition;
         }
+
+        // The methods below must be called while holding the lock of this entry
+
+        void index(TargetEntry<Entity> indexEntry) {
+            final Point point = lastPosition;
+            if (unregistered || point == null || !indexEntry.target.test(entity)) return;
+            for (TargetEntry<Entity> existing : indexes) {
+                if (existing == indexEntry) return;
+            }
+            final TargetEntry<Entity>[] updated = Arrays.copyOf(indexes, indexes.length + 1);
+            updated[indexes.length] = indexEntry;
+            this.indexes = updated;
+            indexEntry.entities.add(entity);
+            indexEntry.addToChunk(CoordConversion.chunkIndex(point), entity);
+        }
+
+        void unindex(TargetEntry<Entity> indexEntry) {
+            for (int i = 0; i < indexes.length; i++) {
+                if (indexes[i] != indexEntry) continue;
+                final TargetEntry<Entity>[] updated = Arrays.copyOf(indexes, indexes.length - 1);
+                System.arraycopy(indexes, i + 1, updated, i, indexes.length - i - 1);
+                this.indexes = updated;
+                indexEntry.entities.remove(entity);
+                indexEntry.removeFromChunk(CoordConversion.chunkIndex(lastPosition), entity);
+                return;
+            }
+        }
+
+        synchronized void moveIndexes(long oldIndex, long newIndex) {
+            // The entity may have been indexed at its new position while moving
+            for (TargetEntry<Entity> indexEntry : indexes) {
+                indexEntry.addToChunkIfAbsent(newIndex, entity);
+                indexEntry.removeFromChunk(oldIndex, entity);
+            }
+        }
+
+        synchronized void unregister() {
+            this.unregistered = true;
+            final long index = CoordConversion.chunkIndex(lastPosition);
+            for (TargetEntry<Entity> indexEntry : indexes) {
+                indexEntry.entities.remove(entity);
+                indexEntry.removeFromChunk(index, entity);
+            }
+            this.indexes = NO_INDEXES;
+        }
     }
 
     private <T extends Entity> void difference(Point oldPoint, Point newPoint,
                                                Target<T> target, Update<T> update) {
-        final TargetEntry<Entity> entry = targetEntries[target.ordinal()];
+        final TargetEntry<Entity> entry = entry(target);
         ChunkRange.chunksInRangeDiffering(newPoint.chunkX(), newPoint.chunkZ(), oldPoint.chunkX(), oldPoint.chunkZ(),
                 ServerFlag.ENTITY_VIEW_DISTANCE, (chunkX, chunkZ) -> {
                     // Add
@@ -262,6 +369,8 @@ final class EntityTrackerImpl implements EntityTracker {
 
     static final class TargetEntry<T extends Entity> {
         private final EntityTracker.Target<T> target;
+        // Set once a secondary index contains the entities registered before its creation, unused by built-in targets
+        private volatile boolean filled;
         private final Set<T> entities = ConcurrentHashMap.newKeySet(); // Thread-safe since exposed
         private final Set<T> entitiesView = Collections.unmodifiableSet(entities);
         // Chunk index -> entities inside it
@@ -280,6 +389,10 @@ final class EntityTrackerImpl implements EntityTracker {
             chunkEntities(index).add(entity);
         }
 
+        void addToChunkIfAbsent(long index, T entity) {
+            ((CopyOnWriteArrayList<T>) chunkEntities(index)).addIfAbsent(entity);
+        }
+
         void removeFromChunk(long index, T entity) {
             List<T> entities = chunkEntities.get(index);
             if (entities != null) entities.remove(entity);
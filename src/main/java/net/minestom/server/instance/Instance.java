@@ -17,6 +17,7 @@ import net.minestom.server.ServerProcess;
 import net.minestom.server.Tickable;
 import net.minestom.server.adventure.AdventurePacketConvertor;
 import net.minestom.server.adventure.audience.PacketGroupingAudience;
+import net.minestom.server.collision.EntityBroadphase;
 import net.minestom.server.coordinate.CoordConversion;
 import net.minestom.server.coordinate.Point;
 import net.minestom.server.entity.Entity;
@@ -103,6 +104,8 @@ public abstract class Instance implements Block.Getter, Block.Setter,
     private int timeRate = 1;
     private int timeSynchronizationTicks = ServerFlag.SERVER_TICKS_PER_SECOND;
 
+    private volatile int randomTickSpeed = ServerFlag.RANDOM_TICK_SPEED;
+
     // Weather of the instance
     private Weather weather = Weather.CLEAR;
     private Weather transitioningWeather = Weather.CLEAR;
@@ -116,6 +119,7 @@ public abstract class Instance implements Block.Getter, Block.Setter,
     private long lastTickAge = TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
 
     private final EntityTracker entityTracker = new EntityTrackerImpl();
+    private final EntityBroadphase entityBroadphase = new EntityBroadphase(this);
 
     private final ChunkCache blockRetriever = new ChunkCache(this, null, null);
 
@@ -544,6 +548,27 @@ public abstract class Instance implements Block.Getter, Block.Setter,
         this.timeSynchronizationTicks = timeSynchronizationTicks;
     }
 
+    /**
+     * Gets the number of blocks picked in each chunk section every tick for random ticks.
+     *
+     * @return the random tick speed
+     * @see net.minestom.server.instance.block.RandomTickHandler
+     */
+    public int getRandomTickSpeed() {
+        return randomTickSpeed;
+    }
+
+    /**
+     * Changes the number of blocks picked in each chunk section every tick for random ticks,
+     * defaults to {@link ServerFlag#RANDOM_TICK_SPEED}.
+     *
+     * @param randomTickSpeed the random tick speed, 0 to disable random ticks
+     */
+    public void setRandomTickSpeed(int randomTickSpeed) {
+        Check.argCondition(randomTickSpeed < 0, "The random tick speed cannot be lower than 0");
+        this.randomTickSpeed = randomTickSpeed;
+    }
+
     /**
      * Creates a {@link TimeUpdatePacket} with the current age and time of this instance
      *
@@ -768,6 +793,11 @@ public abstract class Instance implements Block.Getter, Block.Setter,
         return entityTracker;
     }
 
+    @ApiStatus.Internal
+    public EntityBroadphase getEntityBroadphase() {
+        return entityBroadphase;
+    }
+
     /**
      * Gets the instance unique id.
      *
@@ -832,6 +862,8 @@ public abstract class Instance implements Block.Getter, Block.Setter,
         }
         // End of tick scheduled tasks
         this.scheduler.processTickEnd();
+        // Entity positions for the collisions of the upcoming entity ticks
+        this.entityBroadphase.refresh();
     }
 
     /**
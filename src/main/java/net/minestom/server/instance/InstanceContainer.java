@@ -76,6 +76,8 @@ public class InstanceContainer extends Instance {
     // used as a monitor when access is required
     private final Long2ObjectSyncMap<Chunk> chunks = Long2ObjectSyncMap.hashmap();
     private final Map<Long, CompletableFuture<Chunk>> loadingChunks = new ConcurrentHashMap<>();
+    // unloads the chunks without ticket
+    private final ChunkTickets chunkTickets = new ChunkTickets(this);
 
     private final Lock changingBlockLock = new ReentrantLock();
     private final Map<BlockVec, Block> currentlyChangingBlocks = new HashMap<>();
@@ -634,6 +636,15 @@ public class InstanceContainer extends Instance {
         return chunkLoader;
     }
 
+    /**
+     * Gets the tickets keeping the chunks of this instance loaded.
+     *
+     * @return the chunk tickets of this instance
+     */
+    public ChunkTickets getChunkTickets() {
+        return chunkTickets;
+    }
+
     /**
      * Changes the {@link IChunkLoader} of this instance (to change how chunks are retrieved when not already loaded).
      *
@@ -654,6 +665,8 @@ public class InstanceContainer extends Instance {
         wrlock.lock();
         this.currentlyChangingBlocks.clear();
         wrlock.unlock();
+        // Unload unused chunks
+        this.chunkTickets.tick();
     }
 
     /**
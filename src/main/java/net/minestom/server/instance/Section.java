@@ -1,14 +1,39 @@
 package net.minestom.server.instance;
 
+import net.minestom.server.collision.Shape;
+import net.minestom.server.collision.ShapeImpl;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.block.RandomTickHandler;
 import net.minestom.server.instance.light.Light;
 import net.minestom.server.instance.palette.Palette;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.Arrays;
 
 public final class Section {
+    /**
+     * Block collisions returned by {@link #collision(int, int, int)}.
+     */
+    @ApiStatus.Internal
+    public static final int NO_COLLISION = 0, FULL_COLLISION = 1, PARTIAL_COLLISION = 2;
+    private static final int MIXED_COLLISION = -1;
+
     private final Palette blockPalette;
     private final Palette biomePalette;
     private final Light skyLight;
     private final Light blockLight;
 
+    // Collision occupancy of the blocks, replaced when the block palette version changes
+    // Never modified in a way visible to concurrent readers, as collisions are read outside the chunk lock
+    private volatile CollisionMap collisionMap = CollisionMap.OUTDATED;
+
+    // Randomly ticking blocks, rebuilt when the block palette version or the registered handlers change
+    private int randomTickVersion = -1;
+    private RandomTickHandler[] randomTickHandlers;
+    private int randomTickCount;
+    private long[] randomTicking;
+
     private Section(Palette blockPalette, Palette biomePalette, Light skyLight, Light blockLight) {
         this.blockPalette = blockPalette;
         this.biomePalette = biomePalette;
@@ -63,4 +88,196 @@ public final class Section {
     public Light blockLight() {
         return blockLight;
     }
+
+    /**
+     * Gets the collision of a block, from an occupancy bitmap of the section.
+     * <p>
+     * Can be called outside the chunk lock (e.g. by physics through {@link net.minestom.server.utils.chunk.ChunkCache}),
+     * an outdated bitmap is rebuilt into a new one before being published.
+     *
+     * @param x the section relative x
+     * @param y the section relative y
+     * @param z the section relative z
+     * @return {@link #NO_COLLISION}, {@link #FULL_COLLISION} or {@link #PARTIAL_COLLISION}
+     */
+    @ApiStatus.Internal
+    public int collision(int x, int y, int z) {
+        CollisionMap collisionMap = this.collisionMap;
+        final int version = blockPalette.version();
+        if (collisionMap.version != version) this.collisionMap = collisionMap = rebuildCollision(version);
+        return collisionMap.get(y << 8 | z << 4 | x);
+    }
+
+    /**
+     * Updates the occupancy bitmap after a single block change in the palette,
+     * avoiding a full rebuild on the next {@link #collision(int, int, int)} call.
+     * <p>
+     * Must be called while holding the chunk lock.
+     *
+     * @param stateId the new block state id
+     */
+    @ApiStatus.Internal
+    public void updateCollision(int x, int y, int z, int stateId) {
+        final CollisionMap collisionMap = this.collisionMap;
+        final int version = blockPalette.version();
+        // Only valid if the bitmap was up-to-date before the change
+        if (collisionMap.version != version - 1) return;
+        final int collision = collision(stateId);
+        final int uniformCollision = collisionMap.uniformCollision;
+        if (uniformCollision == MIXED_COLLISION) {
+            // Readers see either the previous or the new collision of the changed block
+            collisionMap.set(y << 8 | z << 4 | x, collision);
+            collisionMap.version = version;
+        } else if (uniformCollision == collision) {
+            collisionMap.version = version;
+        } else {
+            final CollisionMap mixed = new CollisionMap(version, MIXED_COLLISION);
+            Arrays.fill(mixed.collidable, uniformCollision != NO_COLLISION ? -1L : 0L);
+            Arrays.fill(mixed.fullCubes, uniformCollision == FULL_COLLISION ? -1L : 0L);
+            mixed.set(y << 8 | z << 4 | x, collision);
+            this.collisionMap = mixed;
+        }
+    }
+
+    private CollisionMap rebuildCollision(int version) {
+        final int singleValue = blockPalette.singleValue();
+        if (singleValue != -1) return new CollisionMap(version, collision(singleValue));
+        final CollisionMap collisionMap = new CollisionMap(version, MIXED_COLLISION);
+        blockPalette.getAllPresent((x, y, z, value) -> collisionMap.set(y << 8 | z << 4 | x, collision(value)));
+        return collisionMap;
+    }
+
+    private static final class CollisionMap {
+        static final CollisionMap OUTDATED = new CollisionMap(Integer.MIN_VALUE, NO_COLLISION);
+
+        volatile int version;
+        final int uniformCollision;
+        final long[] collidable, fullCubes;
+
+        CollisionMap(int version, int uniformCollision) {
+            this.version = version;
+            this.uniformCollision = uniformCollision;
+            final int length = uniformCollision == MIXED_COLLISION
+                    ? Palette.BLOCK_DIMENSION * Palette.BLOCK_DIMENSION * Palette.BLOCK_DIMENSION / Long.SIZE : 0;
+            this.collidable = new long[length];
+            this.fullCubes = new long[length];
+        }
+
+        int get(int index) {
+            if (uniformCollision != MIXED_COLLISION) return uniformCollision;
+            final long bit = 1L << index;
+            if ((collidable[index >>> 6] & bit) == 0) return NO_COLLISION;
+            return (fullCubes[index >>> 6] & bit) != 0 ? FULL_COLLISION : PARTIAL_COLLISION;
+        }
+
+        void set(int index, int collision) {
+            final long bit = 1L << index;
+            final int word = index >>> 6;
+            if (collision != NO_COLLISION) collidable[word] |= bit;
+            else collidable[word] &= ~bit;
+            if (collision == FULL_COLLISION) fullCubes[word] |= bit;
+            else fullCubes[word] &= ~bit;
+        }
+    }
+
+    /**
+     * Gets the number of randomly ticking blocks in the section, from a bitmap rebuilt if outdated.
+     *
+     * @param handlers the random tick handlers indexed by state id
+     * @return the number of blocks having a random tick handler
+     */
+    @ApiStatus.Internal
+    public int randomTickCount(RandomTickHandler[] handlers) {
+        if (randomTickVersion != blockPalette.version() || randomTickHandlers != handlers) rebuildRandomTick(handlers);
+        return randomTickCount;
+    }
+
+    /**
+     * Gets if a block has a random tick handler, as of the last {@link #randomTickCount(RandomTickHandler[])} call.
+     *
+     * @param x the section relative x
+     * @param y the section relative y
+     * @param z the section relative z
+     * @return true if the block is randomly ticking
+     */
+    @ApiStatus.Internal
+    public boolean isRandomlyTicking(int x, int y, int z) {
+        if (randomTickCount == 0) return false;
+        final int index = y << 8 | z << 4 | x;
+        return (randomTicking[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Updates the randomly ticking bitmap after a single block change in the palette,
+     * avoiding a full rebuild on the next {@link #randomTickCount(RandomTickHandler[])} call.
+     *
+     * @param stateId the new block state id
+     */
+    @ApiStatus.Internal
+    public void updateRandomTick(int x, int y, int z, int stateId) {
+        final int version = blockPalette.version();
+        // Only valid if the bitmap was up-to-date before the change
+        if (randomTickVersion != version - 1) return;
+        this.randomTickVersion = version;
+        final int index = y << 8 | z << 4 | x;
+        final boolean ticking = isRandomlyTicking(randomTickHandlers, stateId);
+        if (ticking == isRandomlyTicking(x, y, z)) return;
+        final long bit = 1L << index;
+        if (ticking) {
+            allocateRandomTick();
+            this.randomTicking[index >>> 6] |= bit;
+            this.randomTickCount++;
+        } else {
+            this.randomTicking[index >>> 6] &= ~bit;
+            this.randomTickCount--;
+        }
+    }
+
+    private void rebuildRandomTick(RandomTickHandler[] handlers) {
+        this.randomTickVersion = blockPalette.version();
+        this.randomTickHandlers = handlers;
+        this.randomTickCount = 0;
+        if (randomTicking != null) Arrays.fill(randomTicking, 0L);
+        if (handlers.length == 0 || blockPalette.count() == 0) return;
+        final int singleValue = blockPalette.singleValue();
+        if (singleValue != -1 && !isRandomlyTicking(handlers, singleValue)) return;
+        blockPalette.getAllPresent((x, y, z, value) -> {
+            if (!isRandomlyTicking(handlers, value)) return;
+            allocateRandomTick();
+            final int index = y << 8 | z << 4 | x;
+            this.randomTicking[index >>> 6] |= 1L << index;
+            this.randomTickCount++;
+        });
+    }
+
+    private void allocateRandomTick() {
+        if (randomTicking != null) return;
+        this.randomTicking = new long[Palette.BLOCK_DIMENSION * Palette.BLOCK_DIMENSION * Palette.BLOCK_DIMENSION / Long.SIZE];
+    }
+
+    private static boolean isRandomlyTicking(RandomTickHandler[] handlers, int stateId) {
+        return stateId < handlers.length && handlers[stateId] != null;
+    }
+
+    private static int collision(int stateId) {
+        final Block block = Block.fromStateId(stateId);
+        return block != null ? collision(block) : NO_COLLISION;
+    }
+
+    /**
+     * Gets the collision of a block.
+     *
+     * @return {@link #NO_COLLISION}, {@link #FULL_COLLISION} or {@link #PARTIAL_COLLISION}
+     */
+    @ApiStatus.Internal
+    public static int collision(Block block) {
+        final Shape shape = block.registry().collisionShape();
+        final Point end = shape.relativeEnd();
+        if (end.isZero()) return NO_COLLISION;
+        if (shape.relativeStart().isZero() && end.samePoint(1, 1, 1) &&
+                (!(shape instanceof ShapeImpl impl) || impl.collisionBoundingBoxes().size() == 1)) {
+            return FULL_COLLISION;
+        }
+        return PARTIAL_COLLISION;
+    }
 }
@@ -9,6 +9,7 @@ import net.minestom.server.instance.Instance;
 import net.minestom.server.tag.Tag;
 import org.jetbrains.annotations.ApiStatus;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -59,10 +60,29 @@ public interface BlockHandler {
     default void tick(Tick tick) {
     }
 
+    /**
+     * Called every tick instead of {@link #tick(Tick)} if {@link #isParallelTickable()},
+     * possibly at the same time as other handlers of the chunk.
+     *
+     * @param tick the tick details
+     */
+    default void tick(ParallelTick tick) {
+    }
+
     default boolean isTickable() {
         return false;
     }
 
+    /**
+     * Gets if this handler only reads the chunk through {@link ParallelTick#getChunkView()} and defers its changes,
+     * allowing the handlers of a chunk to be ticked in parallel. Only used if {@link #isTickable()}.
+     *
+     * @return true to be ticked with {@link #tick(ParallelTick)}
+     */
+    default boolean isParallelTickable() {
+        return false;
+    }
+
     /**
      * Specifies which block entity tags should be sent to the player.
      *
@@ -313,6 +333,85 @@ public interface BlockHandler {
         }
     }
 
+    /**
+     * Represents an object forwarded to {@link #tick(ParallelTick)}.
+     * <p>
+     * The chunk is locked while its handlers are ticked and must only be read through {@link #getChunkView()}.
+     * Changes are recorded with {@link #setBlock(int, int, int, Block)} and applied on the chunk tick thread
+     * once all the handlers of the chunk have been ticked, in the order they were recorded.
+     */
+    final class ParallelTick {
+        private final Block block;
+        private final Instance instance;
+        private final Point blockPosition;
+        private final Block.Getter chunkView;
+        private List<Change> changes = List.of();
+
+        @ApiStatus.Internal
+        public ParallelTick(Block block, Instance instance, Point blockPosition, Block.Getter chunkView) {
+            this.block = block;
+            this.instance = instance;
+            this.blockPosition = blockPosition;
+            this.chunkView = chunkView;
+        }
+
+        public Block getBlock() {
+            return block;
+        }
+
+        /**
+         * Gets the instance of the block, not safe to access during the tick.
+         *
+         * @return the instance
+         */
+        public Instance getInstance() {
+            return instance;
+        }
+
+        public Point getBlockPosition() {
+            return blockPosition;
+        }
+
+        /**
+         * Gets a read-only view of the chunk containing the block, returning null for blocks outside of it.
+         *
+         * @return the chunk view
+         */
+        public Block.Getter getChunkView() {
+            return chunkView;
+        }
+
+        /**
+         * Records a block change, applied after the chunk handlers have been ticked.
+         *
+         * @param x     the block X
+         * @param y     the block Y
+         * @param z     the block Z
+         * @param block the new block
+         */
+        public void setBlock(int x, int y, int z, Block block) {
+            if (changes.isEmpty()) this.changes = new ArrayList<>();
+            this.changes.add(new Change(x, y, z, block));
+        }
+
+        public void setBlock(Point blockPosition, Block block) {
+            setBlock(blockPosition.blockX(), blockPosition.blockY(), blockPosition.blockZ(), block);
+        }
+
+        @ApiStatus.Internal
+        public void applyChanges() {
+            final List<Change> changes = this.changes;
+            if (changes.isEmpty()) return;
+            this.changes = List.of();
+            for (Change change : changes) {
+                instance.setBlock(change.x(), change.y(), change.z(), change.block());
+            }
+        }
+
+        private record Change(int x, int y, int z, Block block) {
+        }
+    }
+
     /**
      * Handler used for loaded blocks with unknown namespace
      * in order to do not lose the information while saving, and for runtime debugging purpose.
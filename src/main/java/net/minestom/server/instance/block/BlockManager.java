@@ -10,6 +10,7 @@ import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -21,6 +22,8 @@ public final class BlockManager {
     private final Map<String, Supplier<? extends BlockHandler>> blockHandlerMap = new ConcurrentHashMap<>();
     // block id -> block placement rule
     private final Int2ObjectMap<BlockPlacementRule> placementRuleMap = new Int2ObjectOpenHashMap<>();
+    // state id -> random tick handler, replaced on each registration
+    private volatile RandomTickHandler[] randomTickHandlers = new RandomTickHandler[0];
 
     private final Set<String> dummyWarning = ConcurrentHashMap.newKeySet(); // Prevent warning spam
 
@@ -72,4 +75,57 @@ public final class BlockManager {
     public synchronized @Nullable BlockPlacementRule getBlockPlacementRule(Block block) {
         return placementRuleMap.get(block.id());
     }
+
+    /**
+     * Registers the {@link RandomTickHandler} of a block, replacing the previous one.
+     * <p>
+     * Only the states accepted by {@link RandomTickHandler#isRandomlyTicking(Block)} are ticked.
+     *
+     * @param block   the block, all of its states are registered
+     * @param handler the random tick handler
+     * @throws IllegalArgumentException if <code>block</code> is air
+     */
+    public synchronized void registerRandomTickHandler(Block block, RandomTickHandler handler) {
+        Check.argCondition(block.isAir(), "Air cannot be randomly ticked");
+        RandomTickHandler[] handlers = Arrays.copyOf(randomTickHandlers, Block.statesCount());
+        for (Block state : block.possibleStates()) {
+            handlers[state.stateId()] = handler.isRandomlyTicking(state) ? handler : null;
+        }
+        this.randomTickHandlers = handlers;
+    }
+
+    /**
+     * Unregisters the {@link RandomTickHandler} of a block.
+     *
+     * @param block the block to stop random ticking
+     */
+    public synchronized void unregisterRandomTickHandler(Block block) {
+        final RandomTickHandler[] handlers = randomTickHandlers.clone();
+        for (Block state : block.possibleStates()) {
+            if (state.stateId() < handlers.length) handlers[state.stateId()] = null;
+        }
+        this.randomTickHandlers = handlers;
+    }
+
+    /**
+     * Gets the {@link RandomTickHandler} of a block state.
+     *
+     * @param block the block state to check
+     * @return the random tick handler of the state, null if the state is not randomly ticked
+     */
+    public @Nullable RandomTickHandler getRandomTickHandler(Block block) {
+        final RandomTickHandler[] handlers = randomTickHandlers;
+        final int stateId = block.stateId();
+        return stateId < handlers.length ? handlers[stateId] : null;
+    }
+
+    /**
+     * Gets the random tick handlers indexed by state id, the array is replaced (never modified) on registration.
+     *
+     * @return the random tick handlers, empty if none has been registered
+     */
+    @ApiStatus.Internal
+    public RandomTickHandler[] randomTickHandlers() {
+        return randomTickHandlers;
+    }
 }
@@ -0,0 +1,33 @@
+package net.minestom.server.instance.block;
+
+import net.minestom.server.instance.Instance;
+
+/**
+ * Handles the random ticks of a block, registered with {@link BlockManager#registerRandomTickHandler(Block, RandomTickHandler)}.
+ * <p>
+ * Every tick, {@link Instance#getRandomTickSpeed()} positions are picked at random in each section of the ticked chunks.
+ * Sections without randomly ticking states are skipped, making random ticks free when nothing can grow or decay.
+ * Useful for mechanics such as crop growth or leaf decay.
+ */
+@FunctionalInterface
+public interface RandomTickHandler {
+
+    /**
+     * Called when a randomly ticking block is picked.
+     *
+     * @param tick the tick details
+     */
+    void randomTick(BlockHandler.Tick tick);
+
+    /**
+     * Gets if a state of the block is randomly ticked, called once per state on registration.
+     * <p>
+     * Excluding the states which never change (e.g. fully grown crops) avoids ticking them.
+     *
+     * @param state the block state
+     * @return true to random tick the state
+     */
+    default boolean isRandomlyTicking(Block state) {
+        return true;
+    }
+}
@@ -172,6 +172,12 @@ public sealed interface Palette permits PaletteImpl {
     @ApiStatus.Internal
     long @Nullable [] indexedValues();
 
+    /**
+     * Gets a counter incremented on every modification, used to know when data derived from the palette is outdated.
+     */
+    @ApiStatus.Internal
+    int version();
+
     @FunctionalInterface
     interface EntrySupplier {
         int get(int x, int y, int z);
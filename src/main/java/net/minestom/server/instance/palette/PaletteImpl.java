@@ -25,6 +25,8 @@ final class PaletteImpl implements Palette {
     IntArrayList paletteToValueList;
     // value = palette index
     private Int2IntOpenHashMap valueToPaletteMap;
+    // Incremented on every modification
+    private int version;
 
     PaletteImpl(byte dimension, byte minBitsPerEntry, byte maxBitsPerEntry, byte directBits) {
         validateDimension(dimension);
@@ -109,6 +111,7 @@ final class PaletteImpl implements Palette {
 
     @Override
     public void set(int x, int y, int z, int value) {
+        this.version++;
         validateCoord(dimension, x, y, z);
         value = valueToPaletteIndex(value);
         final int oldValue = Palettes.write(dimension(), bitsPerEntry, values, x, y, z, value);
@@ -119,6 +122,7 @@ final class PaletteImpl implements Palette {
 
     @Override
     public void fill(int value) {
+        this.version++;
         this.bitsPerEntry = 0;
         this.count = value;
         this.values = null;
@@ -128,6 +132,7 @@ final class PaletteImpl implements Palette {
 
     @Override
     public void load(int[] palette, long[] values) {
+        this.version++;
         int bpe = palette.length <= 1 ? 0 : MathUtils.bitsToRepresent(palette.length - 1);
         bpe = Math.max(minBitsPerEntry, bpe);
         boolean useDirectMode = bpe > maxBitsPerEntry;
@@ -182,6 +187,7 @@ final class PaletteImpl implements Palette {
 
     @Override
     public void offset(int offset) {
+        this.version++;
         if (offset == 0) return;
         if (bitsPerEntry == 0) {
             this.count += offset;
@@ -192,6 +198,7 @@ final class PaletteImpl implements Palette {
 
     @Override
     public void replace(int oldValue, int newValue) {
+        this.version++;
         if (oldValue == newValue) return;
         if (bitsPerEntry == 0) {
             if (oldValue == count) fill(newValue);
@@ -219,6 +226,7 @@ final class PaletteImpl implements Palette {
 
     @Override
     public void setAll(EntrySupplier supplier) {
+        this.version++;
         int[] cache = WRITE_CACHE.get();
         final int dimension = dimension();
         // Fill cache with values
@@ -264,6 +272,7 @@ final class PaletteImpl implements Palette {
 
     @Override
     public void replaceAll(EntryFunction function) {
+        this.version++;
         int[] cache = WRITE_CACHE.get();
         AtomicInteger arrayIndex = new AtomicInteger();
         AtomicInteger count = new AtomicInteger();
@@ -283,6 +292,7 @@ final class PaletteImpl implements Palette {
 
     @Override
     public void copyFrom(Palette source, int offsetX, int offsetY, int offsetZ) {
+        this.version++;
         if (offsetX == 0 && offsetY == 0 && offsetZ == 0) {
             copyFrom(source);
             return;
@@ -396,6 +406,7 @@ final class PaletteImpl implements Palette {
 
     @Override
     public void copyFrom(Palette source) {
+        this.version++;
         final PaletteImpl sourcePalette = (PaletteImpl) source;
         final int sourceDimension = sourcePalette.dimension();
         final int targetDimension = this.dimension();
@@ -556,6 +567,11 @@ final class PaletteImpl implements Palette {
         return true;
     }
 
+    @Override
+    public int version() {
+        return version;
+    }
+
     @SuppressWarnings("MethodDoesntCallSuperMethod")
     @Override
     public Palette clone() {
@@ -4,15 +4,29 @@ import net.minestom.server.codec.Transcoder;
 import net.minestom.server.component.DataComponent;
 import net.minestom.server.network.NetworkBuffer;
 import net.minestom.server.network.NetworkBufferTemplate;
+import net.minestom.server.registry.Registries;
+import net.minestom.server.registry.RegistryTranscoder;
 
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
-//TODO(1.21.5) hashes of components should be cached. Vanilla does it on a per player basis, could also do it globally perhaps.
 final class ItemStackHashImpl {
 
+    public static ItemStack.Hash of(Registries registries, ItemStack itemStack) {
+        final ItemStackNetworkCache<ItemStack.Hash> cache = ItemStackNetworkCache.HASHES;
+        if (cache == null || itemStack.isAir()) {
+            return of(new RegistryTranscoder<>(Transcoder.CRC32_HASH, registries), itemStack);
+        }
+        ItemStack.Hash hash = cache.get(itemStack, registries);
+        if (hash == null) {
+            hash = of(new RegistryTranscoder<>(Transcoder.CRC32_HASH, registries), itemStack);
+            cache.put(itemStack, registries, hash);
+        }
+        return hash;
+    }
+
     public static ItemStack.Hash of(Transcoder<Integer> hashCoder, ItemStack itemStack) {
         if (itemStack.isAir()) return net.minestom.server.item.ItemStack.Hash.AIR;
 
@@ -10,6 +10,7 @@ import net.minestom.server.component.DataComponents;
 import net.minestom.server.item.component.CustomData;
 import net.minestom.server.item.component.TooltipDisplay;
 import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.registry.Registries;
 import net.minestom.server.registry.RegistryTranscoder;
 import net.minestom.server.tag.Tag;
 import net.minestom.server.utils.validate.Check;
@@ -21,7 +22,8 @@ import java.util.function.Consumer;
 
 record ItemStackImpl(Material material, int amount, DataComponentMap components) implements ItemStack {
 
-    static NetworkBuffer.Type<ItemStack> networkType(NetworkBuffer.Type<DataComponentMap> componentPatchType) {
+    static NetworkBuffer.Type<ItemStack> networkType(NetworkBuffer.Type<DataComponentMap> componentPatchType,
+                                                     @Nullable ItemStackNetworkCache<byte[]> cache) {
         return new NetworkBuffer.Type<>() {
             @Override
             public void write(NetworkBuffer buffer, ItemStack value) {
@@ -30,6 +32,22 @@ record ItemStackImpl(Material material, int amount, DataComponentMap components)
                     return;
                 }
 
+                if (cache != null) {
+                    // Items are immutable, the same instance will always produce the same bytes for a given registry
+                    final Registries registries = buffer.registries();
+                    byte[] bytes = cache.get(value, registries);
+                    if (bytes == null) {
+                        bytes = NetworkBuffer.makeArray(b -> writeItem(b, value), registries);
+                        cache.put(value, registries, bytes);
+                    }
+                    buffer.write(NetworkBuffer.RAW_BYTES, bytes);
+                    return;
+                }
+
+                writeItem(buffer, value);
+            }
+
+            private void writeItem(NetworkBuffer buffer, ItemStack value) {
                 buffer.write(NetworkBuffer.VAR_INT, value.amount());
                 buffer.write(NetworkBuffer.VAR_INT, value.material().id());
                 buffer.write(componentPatchType, ((ItemStackImpl) value).components());
@@ -0,0 +1,70 @@
+package net.minestom.server.item;
+
+import net.minestom.server.ServerFlag;
+import net.minestom.server.registry.Registries;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded, direct-mapped cache of values derived from an {@link ItemStack} instance (such as its network bytes
+ * or its {@link ItemStack.Hash}).
+ * <p>
+ * Entries are keyed by identity and hold their item weakly, a colliding insertion simply replaces the previous entry.
+ * Lookups never lock, which makes it cheap to consult on every packet write.
+ *
+ * @param <V> the cached value type
+ */
+final class ItemStackNetworkCache<V> {
+    static final @Nullable ItemStackNetworkCache<byte[]> BYTES = ServerFlag.ITEM_NETWORK_CACHE ?
+            new ItemStackNetworkCache<>(ServerFlag.ITEM_NETWORK_CACHE_SIZE) : null;
+    static final @Nullable ItemStackNetworkCache<ItemStack.Hash> HASHES = ServerFlag.ITEM_NETWORK_CACHE ?
+            new ItemStackNetworkCache<>(ServerFlag.ITEM_NETWORK_CACHE_SIZE) : null;
+
+    private final AtomicReferenceArray<Entry<V>> entries;
+    private final int mask;
+
+    ItemStackNetworkCache(int size) {
+        final int capacity = size <= 1 ? 1 : Integer.highestOneBit(size - 1) << 1;
+        this.entries = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Gets the cached value for the exact item instance.
+     *
+     * @param itemStack  the item instance
+     * @param registries the registries the value was computed with
+     * @return the cached value, null if absent or computed with different registries
+     */
+    @Nullable V get(ItemStack itemStack, @Nullable Registries registries) {
+        final Entry<V> entry = entries.getAcquire(index(itemStack));
+        if (entry == null || entry.get() != itemStack || entry.registries != registries) return null;
+        return entry.value;
+    }
+
+    void put(ItemStack itemStack, @Nullable Registries registries, V value) {
+        entries.setRelease(index(itemStack), new Entry<>(itemStack, registries, value));
+    }
+
+    int capacity() {
+        return entries.length();
+    }
+
+    private int index(ItemStack itemStack) {
+        final int hash = System.identityHashCode(itemStack);
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private static final class Entry<V> extends WeakReference<ItemStack> {
+        private final @Nullable Registries registries;
+        private final V value;
+
+        Entry(ItemStack referent, @Nullable Registries registries, V value) {
+            super(referent);
+            this.registries = registries;
+            this.value = value;
+        }
+    }
+}
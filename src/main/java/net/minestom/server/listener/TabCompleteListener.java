@@ -1,31 +1,42 @@
 package net.minestom.server.listener;
 
 import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
+import net.minestom.server.command.CommandParser;
 import net.minestom.server.command.CommandSender;
 import net.minestom.server.command.builder.suggestion.Suggestion;
 import net.minestom.server.entity.Player;
 import net.minestom.server.network.packet.client.play.ClientTabCompletePacket;
 import net.minestom.server.network.packet.server.play.TabCompletePacket;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicReference;
+
 public class TabCompleteListener {
+    // Suggestions are computed on virtual threads, at most one per player
+    private static final ThreadFactory THREAD_FACTORY = Thread.ofVirtual().name("Ms-TabComplete-", 0).factory();
+    private static final Semaphore PERMITS = new Semaphore(ServerFlag.TAB_COMPLETE_PARALLELISM);
 
     public static void listener(ClientTabCompletePacket packet, Player player) {
-        final String text = packet.text();
-        final Suggestion suggestion = getSuggestion(player, text);
-        if (suggestion != null) {
-            player.sendPacket(new TabCompletePacket(
-                    packet.transactionId(),
-                    suggestion.getStart(),
-                    suggestion.getLength(),
-                    suggestion.getEntries().stream()
-                            .map(suggestionEntry -> new TabCompletePacket.Match(suggestionEntry.getEntry(), suggestionEntry.getTooltip()))
-                            .toList())
-            );
+        final Session session = player.getTabCompleteSession();
+        if (session == null) {
+            send(player, packet, computeSuggestion(player, packet, null));
+            return;
+        }
+        // Replace the pending request, older transactions are never answered
+        if (session.pending.getAndSet(packet) == null) {
+            THREAD_FACTORY.newThread(() -> process(player, session)).start();
         }
     }
 
     public static @Nullable Suggestion getSuggestion(CommandSender commandSender, String text) {
+        return getSuggestion(commandSender, text, null);
+    }
+
+    private static @Nullable Suggestion getSuggestion(CommandSender commandSender, String text, CommandParser.@Nullable Cache cache) {
         if (text.startsWith("/")) {
             text = text.substring(1);
         }
@@ -35,6 +46,62 @@ public class TabCompleteListener {
             // it works as intended :)
             text = text + '\00';
         }
-        return MinecraftServer.getCommandManager().parseCommand(commandSender, text).suggestion(commandSender);
+        final var commandManager = MinecraftServer.getCommandManager();
+        final CommandParser.Result result = cache != null ?
+                commandManager.parseCommand(commandSender, text, cache) :
+                commandManager.parseCommand(commandSender, text);
+        return result.suggestion(commandSender);
+    }
+
+    private static void process(Player player, Session session) {
+        PERMITS.acquireUninterruptibly();
+        try {
+            ClientTabCompletePacket packet;
+            while ((packet = session.pending.get()) != null) {
+                if (!player.isOnline()) {
+                    session.pending.set(null);
+                    return;
+                }
+                final Suggestion suggestion = computeSuggestion(player, packet, session.cache);
+                // Drop the result if a newer request arrived in the meantime
+                if (session.pending.compareAndSet(packet, null)) {
+                    send(player, packet, suggestion);
+                    return;
+                }
+            }
+        } finally {
+            PERMITS.release();
+        }
+    }
+
+    private static @Nullable Suggestion computeSuggestion(Player player, ClientTabCompletePacket packet,
+                                                         CommandParser.@Nullable Cache cache) {
+        try {
+            return getSuggestion(player, packet.text(), cache);
+        } catch (Exception e) {
+            MinecraftServer.getExceptionManager().handleException(e);
+            return null;
+        }
+    }
+
+    private static void send(Player player, ClientTabCompletePacket packet, @Nullable Suggestion suggestion) {
+        if (suggestion == null) return;
+        player.sendPacket(new TabCompletePacket(
+                packet.transactionId(),
+                suggestion.getStart(),
+                suggestion.getLength(),
+                suggestion.getEntries().stream()
+                        .map(suggestionEntry -> new TabCompletePacket.Match(suggestionEntry.getEntry(), suggestionEntry.getTooltip()))
+                        .toList())
+        );
+    }
+
+    /**
+     * Pending request and parse cache of a player, only used by asynchronous completions.
+     */
+    @ApiStatus.Internal
+    public static final class Session {
+        final AtomicReference<ClientTabCompletePacket> pending = new AtomicReference<>();
+        final CommandParser.Cache cache = CommandParser.cache();
     }
 }
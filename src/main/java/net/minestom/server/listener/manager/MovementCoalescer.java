@@ -0,0 +1,124 @@
+package net.minestom.server.listener.manager;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.network.ConnectionState;
+import net.minestom.server.network.packet.client.ClientPacket;
+import net.minestom.server.network.packet.client.play.*;
+import net.minestom.server.network.player.PlayerConnection;
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * Folds the movement packets received from a player during a server tick, only the resulting movement is processed.
+ * <p>
+ * Consecutive movement packets are merged into one, keeping the latest position, rotation and flags.
+ * The {@link ClientTickEndPacket} received in between are held back and replayed right after the merged movement,
+ * so a burst of client ticks (e.g. after a lag spike) results in a single move followed by its tick end events.
+ * The pending movement is processed before any other packet, and before a movement changing the on-ground state
+ * so that landings are never skipped.
+ * <p>
+ * Not thread-safe, used by the player tick.
+ */
+@ApiStatus.Internal
+public final class MovementCoalescer {
+    private final PlayerConnection connection;
+    private ClientPacket movement;
+    private ClientPacket tickEnd;
+    private int tickEndCount;
+
+    public MovementCoalescer(PlayerConnection connection) {
+        this.connection = connection;
+    }
+
+    public void process(ClientPacket packet) {
+        final ConnectionState state = connection.getConnectionState();
+        if (state == ConnectionState.PLAY && isMovement(packet)) {
+            final ClientPacket movement = this.movement;
+            if (movement == null) {
+                this.movement = packet;
+                return;
+            }
+            if (onGround(movement) == onGround(packet)) {
+                this.movement = merge(movement, packet);
+                return;
+            }
+        } else if (state == ConnectionState.PLAY && packet instanceof ClientTickEndPacket && movement != null) {
+            // Replayed after the merged movement
+            this.tickEnd = packet;
+            this.tickEndCount++;
+            return;
+        }
+        flush();
+        MinecraftServer.getPacketListenerManager().processClientPacket(packet, connection, state);
+    }
+
+    /**
+     * Processes the pending movement and the tick ends received after it, called once the queue is drained.
+     */
+    public void flush() {
+        final ClientPacket movement = this.movement;
+        if (movement == null) return;
+        final ClientPacket tickEnd = this.tickEnd;
+        final int tickEndCount = this.tickEndCount;
+        this.movement = null;
+        this.tickEnd = null;
+        this.tickEndCount = 0;
+        final PacketListenerManager manager = MinecraftServer.getPacketListenerManager();
+        manager.processClientPacket(movement, connection, connection.getConnectionState());
+        for (int i = 0; i < tickEndCount; i++) {
+            manager.processClientPacket(tickEnd, connection, connection.getConnectionState());
+        }
+    }
+
+    static boolean isMovement(ClientPacket packet) {
+        return packet instanceof ClientPlayerPositionPacket ||
+                packet instanceof ClientPlayerRotationPacket ||
+                packet instanceof ClientPlayerPositionAndRotationPacket ||
+                packet instanceof ClientPlayerPositionStatusPacket;
+    }
+
+    static boolean onGround(ClientPacket packet) {
+        return switch (packet) {
+            case ClientPlayerPositionPacket position -> position.onGround();
+            case ClientPlayerRotationPacket rotation -> rotation.onGround();
+            case ClientPlayerPositionAndRotationPacket positionAndRotation -> positionAndRotation.onGround();
+            case ClientPlayerPositionStatusPacket status -> status.onGround();
+            default -> throw new IllegalArgumentException("Not a movement packet: " + packet);
+        };
+    }
+
+    /**
+     * Merges two consecutive movement packets.
+     *
+     * @param previous the first packet
+     * @param next     the packet received after it
+     * @return a packet resulting in the same movement as processing both packets
+     */
+    static ClientPacket merge(ClientPacket previous, ClientPacket next) {
+        return switch (next) {
+            case ClientPlayerPositionAndRotationPacket packet -> packet;
+            case ClientPlayerPositionPacket packet -> switch (previous) {
+                case ClientPlayerRotationPacket rotation ->
+                        new ClientPlayerPositionAndRotationPacket(new Pos(packet.position(), rotation.yaw(), rotation.pitch()), packet.flags());
+                case ClientPlayerPositionAndRotationPacket positionAndRotation ->
+                        new ClientPlayerPositionAndRotationPacket(positionAndRotation.position().withCoord(packet.position()), packet.flags());
+                default -> packet;
+            };
+            case ClientPlayerRotationPacket packet -> switch (previous) {
+                case ClientPlayerPositionPacket position ->
+                        new ClientPlayerPositionAndRotationPacket(new Pos(position.position(), packet.yaw(), packet.pitch()), packet.flags());
+                case ClientPlayerPositionAndRotationPacket positionAndRotation ->
+                        new ClientPlayerPositionAndRotationPacket(positionAndRotation.position().withView(packet.yaw(), packet.pitch()), packet.flags());
+                default -> packet;
+            };
+            case ClientPlayerPositionStatusPacket packet -> switch (previous) {
+                case ClientPlayerPositionPacket position -> new ClientPlayerPositionPacket(position.position(), packet.flags());
+                case ClientPlayerRotationPacket rotation -> new ClientPlayerRotationPacket(rotation.yaw(), rotation.pitch(), packet.flags());
+                case ClientPlayerPositionAndRotationPacket positionAndRotation ->
+                        new ClientPlayerPositionAndRotationPacket(positionAndRotation.position(), packet.flags());
+                default -> packet;
+            };
+            default -> throw new IllegalArgumentException("Not a movement packet: " + next);
+        };
+    }
+}
@@ -9,6 +9,8 @@ import net.minestom.server.listener.preplay.HandshakeListener;
 import net.minestom.server.listener.preplay.LoginListener;
 import net.minestom.server.listener.preplay.StatusListener;
 import net.minestom.server.network.ConnectionState;
+import net.minestom.server.network.packet.PacketRegistry;
+import net.minestom.server.network.packet.PacketVanilla;
 import net.minestom.server.network.packet.client.ClientPacket;
 import net.minestom.server.network.packet.client.common.*;
 import net.minestom.server.network.packet.client.configuration.ClientFinishConfigurationPacket;
@@ -24,6 +26,7 @@ import net.minestom.server.network.player.PlayerConnection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Arrays;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -31,11 +34,25 @@ public final class PacketListenerManager {
 
     private final static Logger LOGGER = LoggerFactory.getLogger(PacketListenerManager.class);
 
-    private final Map<Class<? extends ClientPacket>, PacketPrePlayListenerConsumer>[] listeners = new Map[ConnectionState.values().length];
+    // Packet ids per state of each packet class, -1 if not part of the state
+    private static final ClassValue<int[]> PACKET_IDS = new ClassValue<>() {
+        @Override
+        protected int[] computeValue(Class<?> type) {
+            final ConnectionState[] states = ConnectionState.values();
+            final int[] ids = new int[states.length];
+            for (ConnectionState state : states) ids[state.ordinal()] = resolvePacketId(state, type);
+            return ids;
+        }
+    };
+
+    // Listeners per state, indexed by packet id. Replaced on modification
+    private volatile PacketPrePlayListenerConsumer[][] listeners = new PacketPrePlayListenerConsumer[ConnectionState.values().length][0];
+    // Listeners of the packets unknown to the state registries
+    private final Map<Class<? extends ClientPacket>, PacketPrePlayListenerConsumer>[] fallbackListeners = new Map[ConnectionState.values().length];
 
     public PacketListenerManager() {
-        for (int i = 0; i < listeners.length; i++) {
-            listeners[i] = new ConcurrentHashMap<>();
+        for (int i = 0; i < fallbackListeners.length; i++) {
+            fallbackListeners[i] = new ConcurrentHashMap<>();
         }
 
         setListener(ConnectionState.HANDSHAKE, ClientHandshakePacket.class, HandshakeListener::listener);
@@ -118,7 +135,14 @@ public final class PacketListenerManager {
      */
     public <T extends ClientPacket> void processClientPacket(T packet, PlayerConnection connection, ConnectionState state) {
         final Class clazz = packet.getClass();
-        PacketPrePlayListenerConsumer<T> packetListenerConsumer = listeners[state.ordinal()].get(clazz);
+        final PacketPrePlayListenerConsumer[] stateListeners = listeners[state.ordinal()];
+        final int packetId = packetId(state, clazz);
+        PacketPrePlayListenerConsumer<T> packetListenerConsumer;
+        if (packetId >= 0) {
+            packetListenerConsumer = packetId < stateListeners.length ? stateListeners[packetId] : null;
+        } else {
+            packetListenerConsumer = fallbackListeners[state.ordinal()].get(clazz);
+        }
 
         // Listener can be null if none has been set before, call PacketConsumer anyway
         if (packetListenerConsumer == null) {
@@ -154,8 +178,17 @@ public final class PacketListenerManager {
      * @param consumer    the new packet's listener
      * @param <T>         the type of the packet
      */
-    public <T extends ClientPacket> void setListener(ConnectionState state, Class<T> packetClass, PacketPrePlayListenerConsumer<T> consumer) {
-        this.listeners[state.ordinal()].put(packetClass, consumer);
+    public synchronized <T extends ClientPacket> void setListener(ConnectionState state, Class<T> packetClass, PacketPrePlayListenerConsumer<T> consumer) {
+        final int packetId = packetId(state, packetClass);
+        if (packetId < 0) {
+            this.fallbackListeners[state.ordinal()].put(packetClass, consumer);
+            return;
+        }
+        final PacketPrePlayListenerConsumer[][] listeners = this.listeners.clone();
+        final int ordinal = state.ordinal();
+        listeners[ordinal] = Arrays.copyOf(listeners[ordinal], Math.max(listeners[ordinal].length, packetId + 1));
+        listeners[ordinal][packetId] = consumer;
+        this.listeners = listeners;
     }
 
     /**
@@ -189,4 +222,17 @@ public final class PacketListenerManager {
         setPlayListener(packetClass, consumer);
     }
 
+    private static int packetId(ConnectionState state, Class<?> packetClass) {
+        return PACKET_IDS.get(packetClass)[state.ordinal()];
+    }
+
+    private static int resolvePacketId(ConnectionState state, Class<?> packetClass) {
+        final PacketRegistry<ClientPacket> registry = PacketVanilla.CLIENT_PACKET_PARSER.stateRegistry(state);
+        try {
+            return registry.packetInfo(packetClass).id();
+        } catch (IllegalStateException e) {
+            // Not part of the state
+            return -1;
+        }
+    }
 }
@@ -1,7 +1,10 @@
 package net.minestom.server.map;
 
 import net.minestom.server.network.packet.server.play.MapDataPacket;
+import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -19,12 +22,45 @@ public interface Framebuffer {
     }
 
     default MapDataPacket preparePacket(int mapId, int minX, int minY, int width, int height) {
+        return preparePacket(mapId, toMapColors(), minX, minY, width, height);
+    }
+
+    /**
+     * Prepares a packet containing the smallest rectangle covering the pixels changed since the last sent colors.
+     * <p>
+     * {@code sentColors} holds the colors known by the viewers, it is updated to the current colors.
+     * Start with an array filled with {@link MapColors#NONE} (all zeros) for a blank map.
+     *
+     * @param mapId      the map id
+     * @param sentColors the colors last sent for this map, {@code WIDTH * HEIGHT} long
+     * @return the packet updating the changed region, null if nothing changed
+     */
+    default @Nullable MapDataPacket prepareUpdatePacket(int mapId, byte[] sentColors) {
+        Check.argCondition(sentColors.length != WIDTH * HEIGHT, "Sent colors must be of size {0}", WIDTH * HEIGHT);
+        final byte[] mapColors = toMapColors();
+        int minX = WIDTH, minY = -1, maxX = -1, maxY = -1;
+        for (int y = 0; y < HEIGHT; y++) {
+            final int row = y * WIDTH;
+            final int first = Arrays.mismatch(mapColors, row, row + WIDTH, sentColors, row, row + WIDTH);
+            if (first == -1) continue;
+            int last = WIDTH - 1;
+            while (mapColors[row + last] == sentColors[row + last]) last--;
+            if (minY == -1) minY = y;
+            maxY = y;
+            minX = Math.min(minX, first);
+            maxX = Math.max(maxX, last);
+        }
+        if (minY == -1) return null;
+        System.arraycopy(mapColors, 0, sentColors, 0, mapColors.length);
+        return preparePacket(mapId, mapColors, minX, minY, maxX - minX + 1, maxY - minY + 1);
+    }
+
+    private static MapDataPacket preparePacket(int mapId, byte[] mapColors, int minX, int minY, int width, int height) {
         byte[] colors;
         if (minX == 0 && minY == 0 && width == WIDTH && height == HEIGHT) {
-            colors = toMapColors();
+            colors = mapColors;
         } else {
             colors = new byte[width * height];
-            final byte[] mapColors = toMapColors();
             for (int y = minY; y < Math.min(HEIGHT, minY + height); y++) {
                 for (int x = minX; x < Math.min(WIDTH, minX + width); x++) {
                     byte color = mapColors[index(x, y, WIDTH)];
@@ -1,6 +1,7 @@
 package net.minestom.server.map;
 
 import net.minestom.server.network.packet.server.play.MapDataPacket;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 
@@ -45,4 +46,13 @@ public interface LargeFramebuffer {
                         (byte) 0, (byte) 0,
                         colors));
     }
+
+    /**
+     * Prepares the packet updating the pixels of a 128x128 sub view changed since the last sent colors.
+     *
+     * @see Framebuffer#prepareUpdatePacket(int, byte[])
+     */
+    default @Nullable MapDataPacket prepareUpdatePacket(int mapId, int left, int top, byte[] sentColors) {
+        return createSubView(left, top).prepareUpdatePacket(mapId, sentColors);
+    }
 }
@@ -4,8 +4,18 @@ import net.minestom.server.ServerFlag;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.stream.IntStream;
 
 public enum MapColors {
     NONE(0, 0, 0),
@@ -74,8 +84,15 @@ public enum MapColors {
 
     private static final Logger logger = LoggerFactory.getLogger(MapColors.class);
     private static final ConcurrentHashMap<Integer, PreciseMapColor> rgbMap = new ConcurrentHashMap<>();
-    // only used if mappingStrategy == ColorMappingStrategy.PRECISE
-    private static volatile PreciseMapColor[] rgbArray = null;
+    // only used if mappingStrategy == ColorMappingStrategy.PRECISE, closest color index of each rgb value
+    private static volatile ByteBuffer rgbTable = null;
+    private static final int RGB_TABLE_SIZE = 0xFFFFFF + 1;
+    private static final int RGB_TABLE_HEADER = Long.BYTES; // Hash of the palette
+
+    // Colors usable on a map, in lookup order
+    private static final int[] paletteRGB;
+    private static final byte[] paletteIndex;
+    private static final PreciseMapColor[] colorsByIndex = new PreciseMapColor[256];
 
     private static final ColorMappingStrategy mappingStrategy;
     private static final int colorReduction;
@@ -100,6 +117,22 @@ public enum MapColors {
             }
         }
         colorReduction = reduction;
+
+        final MapColors[] values = values();
+        final Multiplier[] multipliers = Multiplier.values();
+        paletteRGB = new int[(values.length - 1) * multipliers.length];
+        paletteIndex = new byte[paletteRGB.length];
+        int i = 0;
+        for (MapColors base : values) {
+            if (base == NONE)
+                continue;
+            for (Multiplier m : multipliers) {
+                final PreciseMapColor color = new PreciseMapColor(base, m);
+                paletteRGB[i] = color.toRGB();
+                paletteIndex[i++] = color.getIndex();
+                colorsByIndex[color.getIndex() & 0xFF] = color;
+            }
+        }
     }
 
     MapColors(int red, int green, int blue) {
@@ -156,39 +189,19 @@ public enum MapColors {
     }
 
     private static void fillRGBMap() {
-        for (MapColors base : values()) {
-            if (base == NONE)
-                continue;
-            for (Multiplier m : Multiplier.values()) {
-                PreciseMapColor preciseMapColor = new PreciseMapColor(base, m);
-                int rgb = preciseMapColor.toRGB();
-
-                if (mappingStrategy == ColorMappingStrategy.APPROXIMATE) {
-                    rgb = reduceColor(rgb);
-                }
-                rgbMap.put(rgb, preciseMapColor);
+        for (int i = 0; i < paletteRGB.length; i++) {
+            int rgb = paletteRGB[i];
+            if (mappingStrategy == ColorMappingStrategy.APPROXIMATE) {
+                rgb = reduceColor(rgb);
             }
-        }
-    }
-
-    private static void fillRGBArray() {
-        rgbArray = new PreciseMapColor[0xFFFFFF + 1];
-        for (int rgb = 0; rgb <= 0xFFFFFF; rgb++) {
-            rgbArray[rgb] = mapColor(rgb);
+            rgbMap.put(rgb, colorsByIndex[paletteIndex[i] & 0xFF]);
         }
     }
 
     public static PreciseMapColor closestColor(int argb) {
         int noAlpha = argb & 0xFFFFFF;
         if (mappingStrategy == ColorMappingStrategy.PRECISE) {
-            if (rgbArray == null) {
-                synchronized (MapColors.class) {
-                    if (rgbArray == null) {
-                        fillRGBArray();
-                    }
-                }
-            }
-            return rgbArray[noAlpha];
+            return colorsByIndex[rgbTable().get(noAlpha) & 0xFF];
         }
         if (rgbMap.isEmpty()) {
             synchronized (rgbMap) {
@@ -203,6 +216,20 @@ public enum MapColors {
         return rgbMap.computeIfAbsent(noAlpha, MapColors::mapColor);
     }
 
+    /**
+     * Gets the index of the closest map color, same as {@code closestColor(argb).getIndex()}
+     * without going through {@link PreciseMapColor} with the {@link ColorMappingStrategy#PRECISE} strategy.
+     *
+     * @param argb the color, alpha is ignored
+     * @return the index of the closest color to use on a map
+     */
+    public static byte closestColorIndex(int argb) {
+        if (mappingStrategy == ColorMappingStrategy.PRECISE) {
+            return rgbTable().get(argb & 0xFFFFFF);
+        }
+        return closestColor(argb).getIndex();
+    }
+
     private static int reduceColor(int rgb) {
         int red = (rgb >> 16) & 0xFF;
         int green = (rgb >> 8) & 0xFF;
@@ -215,32 +242,126 @@ public enum MapColors {
     }
 
     private static PreciseMapColor mapColor(int rgb) {
-        PreciseMapColor closest = null;
+        int closest = 0;
         int closestDistance = Integer.MAX_VALUE;
-        for (MapColors base : values()) {
-            if (base == NONE)
-                continue;
-            for (Multiplier m : Multiplier.values()) {
-                final int rgbKey = PreciseMapColor.toRGB(base, m);
-                final int redKey = (rgbKey >> 16) & 0xFF;
-                final int greenKey = (rgbKey >> 8) & 0xFF;
-                final int blueKey = rgbKey & 0xFF;
-
-                final int red = (rgb >> 16) & 0xFF;
-                final int green = (rgb >> 8) & 0xFF;
-                final int blue = rgb & 0xFF;
-
-                final int dr = redKey - red;
-                final int dg = greenKey - green;
-                final int db = blueKey - blue;
-                final int dist = (dr * dr + dg * dg + db * db);
-                if (dist < closestDistance) {
-                    closest = new PreciseMapColor(base, m);
-                    closestDistance = dist;
+        for (int i = 0; i < paletteRGB.length; i++) {
+            final int dist = distance(paletteRGB[i], rgb);
+            if (dist < closestDistance) {
+                closest = i;
+                closestDistance = dist;
+            }
+        }
+        return colorsByIndex[paletteIndex[closest] & 0xFF];
+    }
+
+    private static int distance(int rgbKey, int rgb) {
+        final int dr = ((rgbKey >> 16) & 0xFF) - ((rgb >> 16) & 0xFF);
+        final int dg = ((rgbKey >> 8) & 0xFF) - ((rgb >> 8) & 0xFF);
+        final int db = (rgbKey & 0xFF) - (rgb & 0xFF);
+        return dr * dr + dg * dg + db * db;
+    }
+
+    private static ByteBuffer rgbTable() {
+        ByteBuffer table = rgbTable;
+        if (table == null) {
+            synchronized (MapColors.class) {
+                table = rgbTable;
+                if (table == null) {
+                    rgbTable = table = loadRGBTable();
+                }
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Memory-maps the table persisted at {@link ServerFlag#MAP_RGB_CACHE} if present and computed for the current palette,
+     * computes (and persists) it otherwise.
+     */
+    private static ByteBuffer loadRGBTable() {
+        final String cache = ServerFlag.MAP_RGB_CACHE;
+        if (cache == null) return ByteBuffer.wrap(computeRGBTable());
+        final Path path = Path.of(cache);
+        final long hash = paletteHash();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() == RGB_TABLE_HEADER + RGB_TABLE_SIZE) {
+                final ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                if (mapped.getLong(0) == hash) return mapped.slice(RGB_TABLE_HEADER, RGB_TABLE_SIZE);
+            }
+            logger.info("Map color table at {} is outdated, computing it again.", path);
+        } catch (NoSuchFileException ignored) {
+            // Computed below
+        } catch (IOException e) {
+            logger.warn("Failed to read the map color table at {}.", path, e);
+        }
+
+        final byte[] table = computeRGBTable();
+        final Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            try (OutputStream output = Files.newOutputStream(temp)) {
+                output.write(ByteBuffer.allocate(RGB_TABLE_HEADER).putLong(0, hash).array());
+                output.write(table);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            logger.warn("Failed to write the map color table at {}.", path, e);
+        }
+        return ByteBuffer.wrap(table);
+    }
+
+    /**
+     * Computes the closest color index of each rgb value, one red component per task.
+     * <p>
+     * Rows of constant red and green only compare the palette colors which can still be the closest:
+     * those whose red and green distance is below the worst blue distance of the best candidate.
+     * Candidates keep the palette order, giving the same result as {@link #mapColor(int)}.
+     */
+    static byte[] computeRGBTable() {
+        final byte[] table = new byte[RGB_TABLE_SIZE];
+        IntStream.range(0, 256).parallel().forEach(red -> {
+            final int[] candidates = new int[paletteRGB.length];
+            for (int green = 0; green < 256; green++) {
+                int bound = Integer.MAX_VALUE;
+                for (int rgbKey : paletteRGB) {
+                    final int dr = ((rgbKey >> 16) & 0xFF) - red;
+                    final int dg = ((rgbKey >> 8) & 0xFF) - green;
+                    final int db = Math.max(rgbKey & 0xFF, 255 - (rgbKey & 0xFF));
+                    bound = Math.min(bound, dr * dr + dg * dg + db * db);
+                }
+                int count = 0;
+                for (int i = 0; i < paletteRGB.length; i++) {
+                    final int rgbKey = paletteRGB[i];
+                    final int dr = ((rgbKey >> 16) & 0xFF) - red;
+                    final int dg = ((rgbKey >> 8) & 0xFF) - green;
+                    if (dr * dr + dg * dg <= bound) candidates[count++] = i;
+                }
+                final int row = (red << 16) | (green << 8);
+                for (int blue = 0; blue < 256; blue++) {
+                    final int rgb = row | blue;
+                    int closest = 0;
+                    int closestDistance = Integer.MAX_VALUE;
+                    for (int j = 0; j < count; j++) {
+                        final int i = candidates[j];
+                        final int dist = distance(paletteRGB[i], rgb);
+                        if (dist < closestDistance) {
+                            closest = i;
+                            closestDistance = dist;
+                        }
+                    }
+                    table[rgb] = paletteIndex[closest];
                 }
             }
+        });
+        return table;
+    }
+
+    private static long paletteHash() {
+        long hash = RGB_TABLE_SIZE;
+        for (int i = 0; i < paletteRGB.length; i++) {
+            hash = hash * 31 + paletteRGB[i];
+            hash = hash * 31 + paletteIndex[i];
         }
-        return closest;
+        return hash;
     }
 
     public static class PreciseMapColor {
@@ -317,8 +438,8 @@ public enum MapColors {
         LAZY,
 
         /**
-         * All colors are already in the map after the first call. Heavy hit on the memory:
-         * (2^24) * 4 bytes at the min (~64MB)
+         * All colors are computed in parallel on the first call, into a table of (2^24) bytes (16MB).
+         * The table can be persisted and memory-mapped on the next startups using {@link ServerFlag#MAP_RGB_CACHE}
          */
         PRECISE,
 
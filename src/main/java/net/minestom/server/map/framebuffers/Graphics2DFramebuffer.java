@@ -44,7 +44,7 @@ public class Graphics2DFramebuffer implements Framebuffer {
         // TODO: update subparts only
         for (int x = 0; x < 128; x++) {
             for (int z = 0; z < 128; z++) {
-                colors[Framebuffer.index(x, z)] = MapColors.closestColor(get(x, z)).getIndex();
+                colors[Framebuffer.index(x, z)] = MapColors.closestColorIndex(get(x, z));
             }
         }
         return colors;
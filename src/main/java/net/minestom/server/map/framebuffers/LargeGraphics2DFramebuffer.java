@@ -62,6 +62,6 @@ public class LargeGraphics2DFramebuffer implements LargeFramebuffer {
 
     @Override
     public byte getMapColor(int x, int y) {
-        return MapColors.closestColor(get(x, y)).getIndex();
+        return MapColors.closestColorIndex(get(x, y));
     }
 }
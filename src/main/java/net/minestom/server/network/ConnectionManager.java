@@ -8,9 +8,14 @@ import net.minestom.server.entity.Player;
 import net.minestom.server.event.EventDispatcher;
 import net.minestom.server.event.player.AsyncPlayerConfigurationEvent;
 import net.minestom.server.event.player.AsyncPlayerPreLoginEvent;
+import net.minestom.server.event.player.PlayerPacketOutEvent;
 import net.minestom.server.instance.Instance;
 import net.minestom.server.listener.preplay.LoginListener;
+import net.minestom.server.network.packet.PacketWriting;
+import net.minestom.server.network.packet.server.BufferedPacket;
 import net.minestom.server.network.packet.server.CachedPacket;
+import net.minestom.server.network.packet.server.SendablePacket;
+import net.minestom.server.network.packet.server.ServerPacket;
 import net.minestom.server.network.packet.server.common.KeepAlivePacket;
 import net.minestom.server.network.packet.server.common.PluginMessagePacket;
 import net.minestom.server.network.packet.server.common.TagsPacket;
@@ -35,8 +40,11 @@ import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.ref.SoftReference;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Function;
 
 /**
@@ -49,21 +57,28 @@ public final class ConnectionManager {
     private static final Component SHUTDOWN_TEXT = Component.text("Server shutting down");
 
     private final CachedPacket cachedTagsPacket = new CachedPacket(this::createTagsPacket);
+    // Registry data and tags sent during configuration, indexed by whether the client knows the vanilla pack
+    private final AtomicReferenceArray<SoftReference<ConfigurationPayload>> configurationPayloads = new AtomicReferenceArray<>(2);
+    // Incremented on every registry change, payloads built for an older version are never used
+    private final AtomicLong registryDataVersion = new AtomicLong();
 
     // All players once their Player object has been instantiated.
     private final Map<PlayerConnection, Player> connectionPlayerMap = new ConcurrentHashMap<>();
     // Players waiting to be spawned (post configuration state)
     private final MessagePassingQueue<Player> waitingPlayers = new MpscUnboundedArrayQueue<>(64);
-    // Players in configuration state
-    private final Set<Player> configurationPlayers = new CopyOnWriteArraySet<>();
-    // Players in play state
-    private final Set<Player> playPlayers = new CopyOnWriteArraySet<>();
+    // Players in configuration state, in join order
+    private final Set<Player> configurationPlayers = new OrderedPlayerSet();
+    // Players in play state, in join order
+    private final Set<Player> playPlayers = new OrderedPlayerSet();
 
     // The players who need keep alive ticks. This was added because we may not send a keep alive in
     // the time after sending finish configuration but before receiving configuration end (to swap to play).
     // I(mattw) could not come up with a better way to express this besides completely splitting client/server
     // states. Perhaps there will be an improvement in the future.
-    private final Set<Player> keepAlivePlayers = new CopyOnWriteArraySet<>();
+    // Only the players whose keep alive deadline elapsed are visited each tick.
+    private final KeepAliveWheel keepAlivePlayers = new KeepAliveWheel(
+            TimeUnit.SECONDS.toNanos(1) / ServerFlag.SERVER_TICKS_PER_SECOND,
+            TimeUnit.MILLISECONDS.toNanos(Math.max(ServerFlag.KEEP_ALIVE_DELAY, ServerFlag.KEEP_ALIVE_KICK)));
 
     private final Set<Player> unmodifiableConfigurationPlayers = Collections.unmodifiableSet(configurationPlayers);
     private final Set<Player> unmodifiablePlayPlayers = Collections.unmodifiableSet(playPlayers);
@@ -81,7 +96,7 @@ public final class ConnectionManager {
     }
 
     /**
-     * Returns an unmodifiable set containing the players currently in the play state.
+     * Returns an unmodifiable set containing the players currently in the play state, in the order they joined.
      */
     public Collection<Player> getOnlinePlayers() {
         return unmodifiablePlayPlayers;
@@ -186,6 +201,110 @@ public final class ConnectionManager {
     @ApiStatus.Internal
     public void invalidateTags() {
         this.cachedTagsPacket.invalidate();
+        invalidateRegistryData();
+    }
+
+    /**
+     * Invalidates the registry data sent to players during configuration, must be called whenever a dynamic registry changes.
+     */
+    @ApiStatus.Internal
+    public void invalidateRegistryData() {
+        this.registryDataVersion.incrementAndGet();
+        for (int i = 0; i < configurationPayloads.length(); i++) {
+            configurationPayloads.set(i, null);
+        }
+    }
+
+    private List<SendablePacket> registryDataPackets(Registries registries, boolean excludeVanilla) {
+        return List.of(
+                registries.chatType().registryDataPacket(registries, excludeVanilla),
+                registries.dimensionType().registryDataPacket(registries, excludeVanilla),
+                registries.biome().registryDataPacket(registries, excludeVanilla),
+                registries.dialog().registryDataPacket(registries, excludeVanilla),
+                registries.damageType().registryDataPacket(registries, excludeVanilla),
+                registries.trimMaterial().registryDataPacket(registries, excludeVanilla),
+                registries.trimPattern().registryDataPacket(registries, excludeVanilla),
+                registries.bannerPattern().registryDataPacket(registries, excludeVanilla),
+                registries.enchantment().registryDataPacket(registries, excludeVanilla),
+                registries.paintingVariant().registryDataPacket(registries, excludeVanilla),
+                registries.jukeboxSong().registryDataPacket(registries, excludeVanilla),
+                registries.instrument().registryDataPacket(registries, excludeVanilla),
+                registries.wolfVariant().registryDataPacket(registries, excludeVanilla),
+                registries.wolfSoundVariant().registryDataPacket(registries, excludeVanilla),
+                registries.catVariant().registryDataPacket(registries, excludeVanilla),
+                registries.chickenVariant().registryDataPacket(registries, excludeVanilla),
+                registries.cowVariant().registryDataPacket(registries, excludeVanilla),
+                registries.frogVariant().registryDataPacket(registries, excludeVanilla),
+                registries.pigVariant().registryDataPacket(registries, excludeVanilla)
+        );
+    }
+
+    /**
+     * Gets every registry data packet followed by the tags, framed and compressed once for all players
+     * giving the same known packs response.
+     * <p>
+     * Not used if {@link PlayerPacketOutEvent} has listeners, as outgoing packet events cannot be called
+     * for the packets of a pre-framed payload.
+     *
+     * @return the payload, null if caching is disabled, the payload cannot be written in one go
+     * or a registry changed while it was being built
+     */
+    @ApiStatus.Internal
+    @Nullable BufferedPacket configurationPayload(Registries registries, boolean excludeVanilla) {
+        if (!ServerFlag.CACHED_PACKET) return null;
+        if (EventDispatcher.getHandle(PlayerPacketOutEvent.class).hasListener()) return null;
+        final int slot = excludeVanilla ? 1 : 0;
+        ConfigurationPayload payload = configurationPayload(slot);
+        if (isValid(payload, registries)) return payload.packet();
+        synchronized (configurationPayloads) {
+            // Only build once during join storms
+            payload = configurationPayload(slot);
+            if (isValid(payload, registries)) return payload.packet();
+
+            final long version = registryDataVersion.get();
+
+            final ConnectionState state = ConnectionState.CONFIGURATION;
+            final int compressionThreshold = MinecraftServer.getCompressionThreshold();
+            final List<SendablePacket> packets = new ArrayList<>(registryDataPackets(registries, excludeVanilla));
+            packets.add(cachedTagsPacket);
+            final List<NetworkBuffer> bodies = new ArrayList<>(packets.size());
+            long length = 0;
+            for (SendablePacket packet : packets) {
+                NetworkBuffer body = packet instanceof CachedPacket cachedPacket ? cachedPacket.body(state) : null;
+                if (body == null) {
+                    final ServerPacket serverPacket = SendablePacket.extractServerPacket(state, packet);
+                    if (serverPacket == null) return null;
+                    body = PacketWriting.allocateTrimmedPacket(state, serverPacket, compressionThreshold);
+                }
+                bodies.add(body);
+                length += body.capacity();
+            }
+            // Sockets never grow their write buffer past the max packet size
+            if (length > ServerFlag.MAX_PACKET_SIZE) return null;
+
+            final NetworkBuffer buffer = NetworkBuffer.staticBuffer(length);
+            for (NetworkBuffer body : bodies) {
+                NetworkBuffer.copy(body, 0, buffer, buffer.writeIndex(), body.capacity());
+                buffer.advanceWrite(body.capacity());
+            }
+            // A registry changed during the build, the payload may be outdated
+            if (registryDataVersion.get() != version) return null;
+            payload = new ConfigurationPayload(registries, version, new BufferedPacket(buffer, 0, length));
+            configurationPayloads.set(slot, new SoftReference<>(payload));
+            return payload.packet();
+        }
+    }
+
+    private @Nullable ConfigurationPayload configurationPayload(int slot) {
+        final SoftReference<ConfigurationPayload> ref = configurationPayloads.get(slot);
+        return ref != null ? ref.get() : null;
+    }
+
+    private boolean isValid(@Nullable ConfigurationPayload payload, Registries registries) {
+        return payload != null && payload.registries() == registries && payload.version() == registryDataVersion.get();
+    }
+
+    private record ConfigurationPayload(Registries registries, long version, BufferedPacket packet) {
     }
 
     public GameProfile transitionLoginToConfig(PlayerConnection connection, GameProfile gameProfile) {
@@ -261,27 +380,14 @@ public final class ConnectionManager {
             boolean excludeVanilla = knownPacks.contains(SelectKnownPacksPacket.MINECRAFT_CORE);
 
             Registries registries = MinecraftServer.process();
-            player.sendPacket(registries.chatType().registryDataPacket(registries, excludeVanilla));
-            player.sendPacket(registries.dimensionType().registryDataPacket(registries, excludeVanilla));
-            player.sendPacket(registries.biome().registryDataPacket(registries, excludeVanilla));
-            player.sendPacket(registries.dialog().registryDataPacket(registries, excludeVanilla));
-            player.sendPacket(registries.damageType().registryDataPacket(registries, excludeVanilla));
-            player.sendPacket(registries.trimMaterial().registryDataPacket(registries, excludeVanilla));
-            player.sendPacket(registries.trimPattern().registryDataPacket(registries, excludeVanilla));
-            player.sendPacket(registries.bannerPattern().registryDataPacket(registries, excludeVanilla));
-            player.sendPacket(registries.enchantment().registryDataPacket(registries, excludeVanilla));
-            player.sendPacket(registries.paintingVariant().registryDataPacket(registries, excludeVanilla));
-            player.sendPacket(registries.jukeboxSong().registryDataPacket(registries, excludeVanilla));
-            player.sendPacket(registries.instrument().registryDataPacket(registries, excludeVanilla));
-            player.sendPacket(registries.wolfVariant().registryDataPacket(registries, excludeVanilla));
-            player.sendPacket(registries.wolfSoundVariant().registryDataPacket(registries, excludeVanilla));
-            player.sendPacket(registries.catVariant().registryDataPacket(registries, excludeVanilla));
-            player.sendPacket(registries.chickenVariant().registryDataPacket(registries, excludeVanilla));
-            player.sendPacket(registries.cowVariant().registryDataPacket(registries, excludeVanilla));
-            player.sendPacket(registries.frogVariant().registryDataPacket(registries, excludeVanilla));
-            player.sendPacket(registries.pigVariant().registryDataPacket(registries, excludeVanilla));
-
-            sendRegistryTags(player);
+            final BufferedPacket payload = player.getPlayerConnection() instanceof PlayerSocketConnection
+                    ? configurationPayload(registries, excludeVanilla) : null;
+            if (payload != null) {
+                player.sendPacket(payload);
+            } else {
+                player.sendPackets(registryDataPackets(registries, excludeVanilla));
+                sendRegistryTags(player);
+            }
         }
 
         // Wait for pending resource packs if any
@@ -335,10 +441,14 @@ public final class ConnectionManager {
         updateWaitingPlayers();
 
         // Send keep alive packets
-        handleKeepAlive(keepAlivePlayers, tickStart);
+        keepAlivePlayers.tick(tickStart, this::handleKeepAlive);
 
         // Interpret packets for configuration players
-        configurationPlayers.forEach(Player::interpretPacketQueue);
+        if (configurationPlayers.size() >= ServerFlag.CONFIGURATION_PARALLEL_THRESHOLD) {
+            configurationPlayers.parallelStream().forEach(Player::interpretPacketQueue);
+        } else {
+            configurationPlayers.forEach(Player::interpretPacketQueue);
+        }
     }
 
     /**
@@ -369,18 +479,23 @@ public final class ConnectionManager {
      * Updates keep alive by checking the last keep alive packet and send a new one if needed.
      *
      * @param tickStart the time of the update in nanoseconds, forwarded to the packet
+     * @return the next time the player needs to be checked
      */
-    private void handleKeepAlive(Collection<Player> playerGroup, long tickStart) {
-        final KeepAlivePacket keepAlivePacket = new KeepAlivePacket(tickStart);
-        for (Player player : playerGroup) {
-            final long lastKeepAlive = tickStart - player.getLastKeepAlive();
-            if (lastKeepAlive > TimeUnit.MILLISECONDS.toNanos(ServerFlag.KEEP_ALIVE_DELAY) && player.didAnswerKeepAlive()) {
-                player.refreshKeepAlive(tickStart);
-                player.sendPacket(keepAlivePacket);
-            } else if (lastKeepAlive >= TimeUnit.MILLISECONDS.toNanos(ServerFlag.KEEP_ALIVE_KICK)) {
-                player.kick(TIMEOUT_TEXT);
-            }
+    private long handleKeepAlive(Player player, long tickStart) {
+        final long delay = TimeUnit.MILLISECONDS.toNanos(ServerFlag.KEEP_ALIVE_DELAY);
+        final long lastKeepAlive = tickStart - player.getLastKeepAlive();
+        if (lastKeepAlive > delay && player.didAnswerKeepAlive()) {
+            player.refreshKeepAlive(tickStart);
+            player.sendPacket(new KeepAlivePacket(tickStart));
+            return tickStart + delay + 1;
+        } else if (lastKeepAlive >= TimeUnit.MILLISECONDS.toNanos(ServerFlag.KEEP_ALIVE_KICK)) {
+            player.kick(TIMEOUT_TEXT);
+            return KeepAliveWheel.STOP;
+        } else if (lastKeepAlive > delay) {
+            // Waiting for the answer, check again next tick
+            return tickStart + 1;
         }
+        return player.getLastKeepAlive() + delay + 1;
     }
 
     private TagsPacket createTagsPacket() {
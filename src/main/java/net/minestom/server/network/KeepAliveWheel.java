@@ -0,0 +1,118 @@
+package net.minestom.server.network;
+
+import net.minestom.server.entity.Player;
+import org.jctools.queues.MessagePassingQueue;
+import org.jctools.queues.MpscUnboundedArrayQueue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Timing wheel of the players needing keep alive checks.
+ * <p>
+ * Each player sits in the slot of its next deadline, so a tick only visits the players which are due.
+ * Players can be added and removed from any thread, the wheel itself is only touched by the ticking thread.
+ */
+final class KeepAliveWheel {
+    static final long STOP = Long.MIN_VALUE;
+
+    private final long resolution;
+    private final List<Entry>[] slots;
+    private final int mask;
+
+    private final Map<Player, Entry> entries = new ConcurrentHashMap<>();
+    private final MessagePassingQueue<Entry> pending = new MpscUnboundedArrayQueue<>(64);
+    private long cursor;
+    private boolean started;
+
+    /**
+     * @param resolution the duration of a slot in nanoseconds
+     * @param horizon    the furthest deadline from the current time in nanoseconds
+     */
+    @SuppressWarnings("unchecked")
+    KeepAliveWheel(long resolution, long horizon) {
+        this.resolution = resolution;
+        final int required = (int) Math.min(1 << 20, horizon / resolution + 3);
+        final int size = Integer.highestOneBit(Math.max(2, required - 1)) << 1;
+        this.slots = new List[size];
+        for (int i = 0; i < size; i++) slots[i] = new ArrayList<>();
+        this.mask = size - 1;
+    }
+
+    void add(Player player) {
+        final Entry entry = new Entry(player);
+        final Entry previous = entries.put(player, entry);
+        if (previous != null) previous.cancelled = true;
+        pending.relaxedOffer(entry);
+    }
+
+    void remove(Player player) {
+        final Entry entry = entries.remove(player);
+        if (entry != null) entry.cancelled = true;
+    }
+
+    void clear() {
+        for (Player player : List.copyOf(entries.keySet())) remove(player);
+    }
+
+    /**
+     * Processes every player whose deadline is before {@code now}.
+     *
+     * @param now       the current time in nanoseconds
+     * @param processor computes the next deadline of a due player
+     */
+    void tick(long now, Processor processor) {
+        final long nowSlot = Math.floorDiv(now, resolution);
+        if (!started) {
+            this.cursor = nowSlot - 1;
+            this.started = true;
+        }
+        // New players are checked immediately
+        pending.drain(entry -> process(entry, now, nowSlot, processor));
+        // Walk the slots elapsed since the last tick, at most one full turn
+        final long first = Math.max(cursor + 1, nowSlot - mask);
+        for (long slot = first; slot <= nowSlot; slot++) {
+            final List<Entry> due = slots[(int) (slot & mask)];
+            if (due.isEmpty()) continue;
+            final Entry[] array = due.toArray(Entry[]::new);
+            due.clear();
+            for (Entry entry : array) process(entry, now, nowSlot, processor);
+        }
+        this.cursor = Math.max(cursor, nowSlot);
+    }
+
+    private void process(Entry entry, long now, long nowSlot, Processor processor) {
+        if (entry.cancelled) return;
+        final long deadline = processor.process(entry.player, now);
+        if (deadline == STOP) {
+            entries.remove(entry.player, entry);
+            return;
+        }
+        // Never schedule in a slot being processed or elapsed
+        final long slot = Math.max(Math.ceilDiv(deadline, resolution), nowSlot + 1);
+        slots[(int) (slot & mask)].add(entry);
+    }
+
+    @FunctionalInterface
+    interface Processor {
+        /**
+         * Processes a due player.
+         *
+         * @param player the player
+         * @param now    the current time in nanoseconds
+         * @return the next deadline in nanoseconds, {@link #STOP} to stop tracking the player
+         */
+        long process(Player player, long now);
+    }
+
+    private static final class Entry {
+        private final Player player;
+        private volatile boolean cancelled;
+
+        Entry(Player player) {
+            this.player = player;
+        }
+    }
+}
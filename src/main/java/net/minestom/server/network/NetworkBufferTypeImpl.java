@@ -395,10 +395,7 @@ interface NetworkBufferTypeImpl<T> extends NetworkBuffer.Type<T> {
     record JsonComponentType() implements NetworkBufferTypeImpl<Component> {
         @Override
         public void write(NetworkBuffer buffer, Component value) {
-            final Transcoder<JsonElement> coder = buffer.registries() != null
-                    ? new RegistryTranscoder<>(Transcoder.JSON, buffer.registries())
-                    : Transcoder.JSON;
-            final String json = JsonUtil.toJson(Codec.COMPONENT.encode(coder, value).orElseThrow());
+            final String json = Codec.COMPONENT.encodeJsonString(buffer.registries(), value).orElseThrow();
             buffer.write(STRING, json);
         }
 
@@ -708,9 +705,8 @@ interface NetworkBufferTypeImpl<T> extends NetworkBuffer.Type<T> {
         public void write(NetworkBuffer buffer, T value) {
             final Registries registries = impl(buffer).registries;
             Check.stateCondition(registries == null, "Buffer does not have registries");
-            final Result<BinaryTag> result = nbtType.encode(new RegistryTranscoder<>(Transcoder.NBT, registries), value);
-            switch (result) {
-                case Result.Ok(BinaryTag tag) -> buffer.write(NBT, tag);
+            switch (nbtType.encodeNbtBytes(registries, value)) {
+                case Result.Ok(byte[] bytes) -> buffer.write(RAW_BYTES, bytes);
                 case Result.Error(String message) -> throw new IllegalArgumentException("Invalid NBT tag: " + message);
             }
         }
@@ -0,0 +1,90 @@
+package net.minestom.server.network;
+
+import net.minestom.server.entity.Player;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Concurrent set of players iterated in insertion order, like the copy-on-write sets it replaces
+ * but without copying the whole set on every join and leave.
+ * <p>
+ * Joins and leaves are serialized, reads and iteration are lock-free and weakly consistent.
+ */
+final class OrderedPlayerSet extends AbstractSet<Player> {
+    private long counter;
+    // Player -> insertion sequence
+    private final Map<Player, Long> sequences = new ConcurrentHashMap<>();
+    // Insertion sequence -> player, iterated in order
+    private final ConcurrentSkipListMap<Long, Player> players = new ConcurrentSkipListMap<>();
+
+    @Override
+    public synchronized boolean add(Player player) {
+        final long sequence = counter++;
+        if (sequences.putIfAbsent(player, sequence) != null) return false;
+        players.put(sequence, player);
+        return true;
+    }
+
+    @Override
+    public synchronized boolean remove(Object object) {
+        final Long sequence = sequences.remove(object);
+        if (sequence == null) return false;
+        players.remove(sequence);
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object object) {
+        return sequences.containsKey(object);
+    }
+
+    @Override
+    public int size() {
+        return sequences.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return sequences.isEmpty();
+    }
+
+    @Override
+    public synchronized void clear() {
+        for (Player player : players.values()) remove(player);
+    }
+
+    @Override
+    public Iterator<Player> iterator() {
+        final Iterator<Player> iterator = players.values().iterator();
+        return new Iterator<>() {
+            private Player last;
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public Player next() {
+                return this.last = iterator.next();
+            }
+
+            @Override
+            public void remove() {
+                if (last == null) throw new IllegalStateException();
+                OrderedPlayerSet.this.remove(last);
+                this.last = null;
+            }
+        };
+    }
+
+    @Override
+    public Spliterator<Player> spliterator() {
+        return players.values().spliterator();
+    }
+}
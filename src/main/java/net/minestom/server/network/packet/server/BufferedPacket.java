@@ -2,16 +2,33 @@ package net.minestom.server.network.packet.server;
 
 import net.minestom.server.network.NetworkBuffer;
 import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Represents a buffer to directly write to the network.
  * <p>
  * May contain multiple packets.
+ *
+ * @param release called once the connection does not need the buffer anymore, null for read-only buffers.
+ *                The owner of a released buffer must not modify it before every reference has been released
  */
 @ApiStatus.Internal
 public record BufferedPacket(NetworkBuffer buffer,
-                             long index, long length) implements SendablePacket {
+                             long index, long length,
+                             @Nullable Runnable release) implements SendablePacket {
     public BufferedPacket {
-        buffer.readOnly();
+        if (release == null) buffer.readOnly();
+    }
+
+    public BufferedPacket(NetworkBuffer buffer, long index, long length) {
+        this(buffer, index, length, null);
+    }
+
+    /**
+     * Signals that the buffer has been written, or never will be as the connection closed, and can be recycled by its owner.
+     */
+    public void written() {
+        final Runnable release = this.release;
+        if (release != null) release.run();
     }
 }
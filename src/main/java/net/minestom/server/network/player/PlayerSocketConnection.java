@@ -96,6 +96,8 @@ public class PlayerSocketConnection extends PlayerConnection {
     // Write lock as the default behavior of the writing thread is to park itself
     // Requires ServerFlag.FASTER_SOCKET_WRITES to be enabled
     private final AtomicBoolean writeSignaled = new AtomicBoolean(false);
+    // Set once the write loop stopped, queued packets are then released instead of written
+    private volatile boolean closed;
 
     private final ListenerHandle<PlayerPacketOutEvent> outgoing = EventDispatcher.getHandle(PlayerPacketOutEvent.class);
 
@@ -211,13 +213,32 @@ public class PlayerSocketConnection extends PlayerConnection {
     @Override
     public void sendPacket(SendablePacket packet) {
         this.packetQueue.relaxedOffer(packet);
-        unlockWriteThread();
+        if (closed) releasePackets();
+        else unlockWriteThread();
     }
 
     @Override
     public void sendPackets(Collection<SendablePacket> packets) {
         for (SendablePacket packet : packets) this.packetQueue.relaxedOffer(packet);
-        unlockWriteThread();
+        if (closed) releasePackets();
+        else unlockWriteThread();
+    }
+
+    /**
+     * Releases the queued packets which will never be written, called once the write loop stopped.
+     * <p>
+     * Buffers shared with other connections (see {@link BufferedPacket#release()}) would otherwise never be recycled.
+     * Packets sent afterward are released immediately.
+     */
+    @ApiStatus.Internal
+    public void releasePackets() {
+        this.closed = true;
+        // The queue only supports a single consumer
+        synchronized (packetQueue) {
+            packetQueue.drain(packet -> {
+                if (packet instanceof BufferedPacket bufferedPacket) bufferedPacket.written();
+            });
+        }
     }
 
     // Requires ServerFlag.FASTER_SOCKET_WRITES
@@ -394,7 +415,9 @@ public class PlayerSocketConnection extends PlayerConnection {
                     final NetworkBuffer rawBuffer = bufferedPacket.buffer();
                     final long index = bufferedPacket.index();
                     final long length = bufferedPacket.length();
-                    yield writeBuffer(buffer, rawBuffer, index, length);
+                    final boolean written = writeBuffer(buffer, rawBuffer, index, length);
+                    if (written) bufferedPacket.written();
+                    yield written;
                 }
             };
         } catch (IndexOutOfBoundsException exception) {
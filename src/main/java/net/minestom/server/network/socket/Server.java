@@ -123,6 +123,14 @@ public final class Server {
 
     private void playerWriteLoop(PlayerSocketConnection connection) {
         Check.notNull(connection, "connection cannot be null");
+        try {
+            writeLoop(connection);
+        } finally {
+            connection.releasePackets();
+        }
+    }
+
+    private void writeLoop(PlayerSocketConnection connection) {
         while (!stop) {
             try {
                 connection.flushSync();
@@ -149,7 +149,7 @@ final class DynamicRegistryImpl<T> implements DynamicRegistry<T> {
                 packById.set(id, pack);
             }
 
-            vanillaRegistryDataPacket.invalidate();
+            invalidateRegistryData();
             return registryKey;
         }
     }
@@ -178,11 +178,18 @@ final class DynamicRegistryImpl<T> implements DynamicRegistry<T> {
                 tag.remove(registryKey);
             }
 
-            vanillaRegistryDataPacket.invalidate();
+            invalidateRegistryData();
             return true;
         }
     }
 
+    private void invalidateRegistryData() {
+        vanillaRegistryDataPacket.invalidate();
+        // The connection manager bundles the data of every registry for the configuration phase
+        var process = MinecraftServer.process();
+        if (process != null) process.connection().invalidateRegistryData();
+    }
+
     @Override
     public @Nullable DataPack getPack(int id) {
         if (id < 0 || id >= packById.size())
@@ -0,0 +1,60 @@
+package net.minestom.server.scoreboard;
+
+import net.minestom.server.Viewable;
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.network.packet.server.play.BundlePacket;
+import net.minestom.server.utils.PacketViewableUtils;
+import org.jctools.queues.MessagePassingQueue;
+import org.jctools.queues.MpscUnboundedArrayQueue;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Coalesces the changes of {@link Sidebar}, {@link Team} and {@link TabList} until the end of the tick.
+ * <p>
+ * Changes only mark their owner as dirty, the owner then compares its state with the last one sent during
+ * {@link #flush()} so that intermediate and reverted values never reach the clients.
+ */
+@ApiStatus.Internal
+public final class ScoreboardUpdates {
+    private static final BundlePacket BUNDLE = new BundlePacket();
+    private static final MessagePassingQueue<Runnable> DIRTY = new MpscUnboundedArrayQueue<>(64);
+
+    /**
+     * Sends the pending changes, called once per tick before the viewable packets are flushed.
+     */
+    public static void flush() {
+        DIRTY.drain(Runnable::run);
+    }
+
+    /**
+     * Schedules {@code flusher} for the next {@link #flush()} unless it is already.
+     *
+     * @param dirty   the dirty flag of the owner, cleared by the flusher before it reads the state
+     * @param flusher the owner's flush method
+     */
+    static void mark(AtomicBoolean dirty, Runnable flusher) {
+        if (!dirty.getAndSet(true)) DIRTY.relaxedOffer(flusher);
+    }
+
+    /**
+     * Appends the packets to the viewable buffer of {@code viewable}, which all its viewers receive as a single write.
+     * <p>
+     * Multiple packets are wrapped in a bundle so that the client applies them within the same frame.
+     *
+     * @param viewable the viewable
+     * @param packets  the packets to send
+     */
+    static void sendBundled(Viewable viewable, List<ServerPacket> packets) {
+        if (packets.isEmpty() || viewable.getViewers().isEmpty()) return;
+        final boolean bundle = packets.size() > 1;
+        if (bundle) PacketViewableUtils.prepareViewablePacket(viewable, BUNDLE);
+        for (ServerPacket packet : packets) PacketViewableUtils.prepareViewablePacket(viewable, packet);
+        if (bundle) PacketViewableUtils.prepareViewablePacket(viewable, BUNDLE);
+    }
+
+    private ScoreboardUpdates() {
+    }
+}
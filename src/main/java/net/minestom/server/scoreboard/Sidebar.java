@@ -5,14 +5,15 @@ import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.minestom.server.entity.Player;
 import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.network.packet.server.SendablePacket;
+import net.minestom.server.network.packet.server.ServerPacket;
 import net.minestom.server.network.packet.server.play.*;
 import net.minestom.server.utils.validate.Check;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Collections;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -24,6 +25,7 @@ import java.util.concurrent.atomic.AtomicInteger;
  * <p>
  * Lines can be modified using their respective identifier using
  * {@link #updateLineContent(String, Component)} and {@link #updateLineScore(String, int)}.
+ * Those changes are sent at the end of the tick, only the final state of each line is sent to the viewers.
  */
 public class Sidebar implements Scoreboard {
 
@@ -48,6 +50,10 @@ public class Sidebar implements Scoreboard {
     private final String objectiveName;
 
     private Component title;
+    private Component sentTitle;
+
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private final Runnable flusher = this::flushChanges;
 
     /**
      * Creates a new sidebar
@@ -67,6 +73,7 @@ public class Sidebar implements Scoreboard {
      */
     public Sidebar(Component title) {
         this.title = title;
+        this.sentTitle = title;
 
         this.objectiveName = SCOREBOARD_PREFIX + COUNTER.incrementAndGet();
 
@@ -93,9 +100,10 @@ public class Sidebar implements Scoreboard {
      * @param title The new sidebar title
      */
     public void setTitle(Component title) {
-        this.title = title;
-        sendPacketToViewers(new ScoreboardObjectivePacket(objectiveName, (byte) 2, title,
-                ScoreboardObjectivePacket.Type.INTEGER, null));
+        synchronized (lines) {
+            this.title = title;
+        }
+        ScoreboardUpdates.mark(dirty, flusher);
     }
 
     /**
@@ -120,6 +128,7 @@ public class Sidebar implements Scoreboard {
             // Setup line
             scoreboardLine.retrieveName(availableColors);
             scoreboardLine.createTeam();
+            scoreboardLine.markSent();
 
             // Finally add the line in cache
             this.lines.add(scoreboardLine);
@@ -138,8 +147,10 @@ public class Sidebar implements Scoreboard {
     public void updateLineContent(String id, Component content) {
         final ScoreboardLine scoreboardLine = getLine(id);
         if (scoreboardLine != null) {
-            scoreboardLine.refreshContent(content);
-            sendPacketToViewers(scoreboardLine.sidebarTeam.updatePrefix(content));
+            synchronized (lines) {
+                scoreboardLine.refreshContent(content);
+            }
+            ScoreboardUpdates.mark(dirty, flusher);
         }
     }
 
@@ -152,8 +163,10 @@ public class Sidebar implements Scoreboard {
     public void updateLineScore(String id, int score) {
         final ScoreboardLine scoreboardLine = getLine(id);
         if (scoreboardLine != null) {
-            scoreboardLine.line = score;
-            sendPacketToViewers(scoreboardLine.getLineScoreUpdatePacket(objectiveName, score));
+            synchronized (lines) {
+                scoreboardLine.line = score;
+            }
+            ScoreboardUpdates.mark(dirty, flusher);
         }
     }
 
@@ -166,8 +179,10 @@ public class Sidebar implements Scoreboard {
     public void updateLineNumberFormat(String id, NumberFormat numberFormat) {
         final ScoreboardLine scoreboardLine = getLine(id);
         if (scoreboardLine != null) {
-            scoreboardLine.numberFormat = numberFormat;
-            sendPacketsToViewers(scoreboardLine.getNumberFormatPacket(objectiveName, numberFormat));
+            synchronized (lines) {
+                scoreboardLine.numberFormat = numberFormat;
+            }
+            ScoreboardUpdates.mark(dirty, flusher);
         }
     }
 
@@ -217,16 +232,16 @@ public class Sidebar implements Scoreboard {
     @Override
     public boolean addViewer(Player player) {
         final boolean result = this.viewers.add(player);
-        if (result) {
-            ScoreboardObjectivePacket scoreboardObjectivePacket = this.getCreationObjectivePacket(this.title, ScoreboardObjectivePacket.Type.INTEGER);
-            player.sendPacket(scoreboardObjectivePacket);
-        }
-        DisplayScoreboardPacket displayScoreboardPacket = this.getDisplayScoreboardPacket((byte) 1);
-        player.sendPacket(displayScoreboardPacket); // Show sidebar scoreboard (wait for scores packet)
-        for (ScoreboardLine line : lines) {
-            player.sendPacket(line.sidebarTeam.getCreationPacket());
-            player.sendPacket(line.getScoreCreationPacket(objectiveName));
+        final List<SendablePacket> packets = new ArrayList<>(2 + lines.size() * 2);
+        synchronized (lines) {
+            if (result) packets.add(this.getCreationObjectivePacket(this.title, ScoreboardObjectivePacket.Type.INTEGER));
+            packets.add(this.getDisplayScoreboardPacket((byte) 1)); // Show sidebar scoreboard (wait for scores packet)
+            for (ScoreboardLine line : lines) {
+                packets.add(line.sidebarTeam.getCreationPacket());
+                packets.add(line.getScoreCreationPacket(objectiveName));
+            }
         }
+        player.sendPackets(packets);
         return result;
     }
 
@@ -234,15 +249,40 @@ public class Sidebar implements Scoreboard {
     public boolean removeViewer(Player player) {
         final boolean result = this.viewers.remove(player);
         if (!result) return false;
-        ScoreboardObjectivePacket scoreboardObjectivePacket = this.getDestructionObjectivePacket();
-        player.sendPacket(scoreboardObjectivePacket);
+        final List<SendablePacket> packets = new ArrayList<>(1 + lines.size() * 2);
+        packets.add(this.getDestructionObjectivePacket());
         for (ScoreboardLine line : lines) {
-            player.sendPacket(line.getScoreDestructionPacket(objectiveName)); // Is it necessary?
-            player.sendPacket(line.sidebarTeam.getDestructionPacket());
+            packets.add(line.getScoreDestructionPacket(objectiveName)); // Is it necessary?
+            packets.add(line.sidebarTeam.getDestructionPacket());
         }
+        player.sendPackets(packets);
         return true;
     }
 
+    /**
+     * Sends the lines and title which differ from their last sent state, in a single bundle.
+     */
+    private void flushChanges() {
+        this.dirty.set(false);
+        ScoreboardUpdates.sendBundled(this, collectChanges());
+    }
+
+    /**
+     * Gets the packets updating the lines and title which differ from their last sent state, and marks them as sent.
+     */
+    List<ServerPacket> collectChanges() {
+        final List<ServerPacket> packets = new ArrayList<>();
+        synchronized (lines) {
+            if (!title.equals(sentTitle)) {
+                packets.add(new ScoreboardObjectivePacket(objectiveName, (byte) 2, title,
+                        ScoreboardObjectivePacket.Type.INTEGER, null));
+                this.sentTitle = title;
+            }
+            for (ScoreboardLine line : lines) line.collectChanges(objectiveName, packets);
+        }
+        return packets;
+    }
+
     @Override
     public Set<Player> getViewers() {
         return Collections.unmodifiableSet(viewers);
@@ -285,6 +325,12 @@ public class Sidebar implements Scoreboard {
          * The sidebar team of the line
          */
         private SidebarTeam sidebarTeam;
+        /**
+         * The state last sent to the viewers
+         */
+        private Component sentContent;
+        private int sentLine;
+        private NumberFormat sentNumberFormat;
 
         public ScoreboardLine(String id, Component content, int line) {
             this(id, content, line, null);
@@ -381,14 +427,29 @@ public class Sidebar implements Scoreboard {
         }
 
         /**
-         * Gets a number format update packet
+         * Marks the current state as sent
+         */
+        private void markSent() {
+            this.sentContent = sidebarTeam.getPrefix();
+            this.sentLine = line;
+            this.sentNumberFormat = numberFormat;
+        }
+
+        /**
+         * Adds the packets required to update the viewers from the last sent state, and marks it as sent
          *
          * @param objectiveName The objective name to be updated
-         * @param numberFormat  The new number format
-         * @return a {@link UpdateScorePacket}
+         * @param packets       The packets to send
          */
-        private UpdateScorePacket getNumberFormatPacket(String objectiveName, NumberFormat numberFormat) {
-            return new UpdateScorePacket(entityName, objectiveName, line, Component.empty(), numberFormat);
+        private void collectChanges(String objectiveName, List<ServerPacket> packets) {
+            final Component content = sidebarTeam.getPrefix();
+            if (!content.equals(sentContent)) {
+                packets.add(sidebarTeam.updatePrefix(content));
+            }
+            if (line != sentLine || !Objects.equals(numberFormat, sentNumberFormat)) {
+                packets.add(getLineScoreUpdatePacket(objectiveName, line));
+            }
+            markSent();
         }
 
         /**
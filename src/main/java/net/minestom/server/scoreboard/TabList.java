@@ -3,10 +3,13 @@ package net.minestom.server.scoreboard;
 import net.kyori.adventure.text.Component;
 import net.minestom.server.entity.Player;
 import net.minestom.server.network.packet.server.play.ScoreboardObjectivePacket;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Represents the {@link Player} tab list as a {@link Scoreboard}.
@@ -22,12 +25,17 @@ public class TabList implements Scoreboard {
     private final Set<Player> unmodifiableViewers = Collections.unmodifiableSet(viewers);
     private final String objectiveName;
 
-    private ScoreboardObjectivePacket.Type type;
+    private volatile ScoreboardObjectivePacket.Type type;
+    private ScoreboardObjectivePacket.Type sentType;
+
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private final Runnable flusher = this::flushType;
 
     public TabList(String name, ScoreboardObjectivePacket.Type type) {
         this.objectiveName = TAB_LIST_PREFIX + name;
 
         this.type = type;
+        this.sentType = type;
     }
 
     /**
@@ -40,20 +48,21 @@ public class TabList implements Scoreboard {
     }
 
     /**
-     * Changes the scoreboard objective type
+     * Changes the scoreboard objective type, the viewers are updated at the end of the tick.
      *
      * @param type The new type for the objective
      */
     public void setType(ScoreboardObjectivePacket.Type type) {
         this.type = type;
+        ScoreboardUpdates.mark(dirty, flusher);
     }
 
     @Override
     public boolean addViewer(Player player) {
         final boolean result = this.viewers.add(player);
         if (result) {
-            player.sendPacket(this.getCreationObjectivePacket(Component.empty(), this.type));
-            player.sendPacket(this.getDisplayScoreboardPacket((byte) 0));
+            player.sendPackets(this.getCreationObjectivePacket(Component.empty(), this.type),
+                    this.getDisplayScoreboardPacket((byte) 0));
         }
         return result;
     }
@@ -67,6 +76,22 @@ public class TabList implements Scoreboard {
         return result;
     }
 
+    private void flushType() {
+        this.dirty.set(false);
+        final ScoreboardObjectivePacket packet = collectChange();
+        if (packet != null) ScoreboardUpdates.sendBundled(this, List.of(packet));
+    }
+
+    /**
+     * Gets the packet updating the type if it differs from the last sent one, and marks it as sent.
+     */
+    @Nullable ScoreboardObjectivePacket collectChange() {
+        final ScoreboardObjectivePacket.Type type = this.type;
+        if (type == sentType) return null;
+        this.sentType = type;
+        return new ScoreboardObjectivePacket(objectiveName, (byte) 2, Component.empty(), type, null);
+    }
+
     @Override
     public Set<Player> getViewers() {
         return unmodifiableViewers;
@@ -21,9 +21,13 @@ import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * This object represents a team on a scoreboard that has a common display theme and other properties.
+ * <p>
+ * Changes made with the {@code update} methods are broadcast once at the end of the tick with the latest
+ * properties, and not at all if they were reverted in-between. Use {@link #sendUpdatePacket()} to send them immediately.
  */
 public class Team implements PacketGroupingAudience {
     private static final byte ALLOW_FRIENDLY_FIRE_BIT = 0x01;
@@ -78,6 +82,15 @@ public class Team implements PacketGroupingAudience {
     private final Set<Player> playerMembers = ConcurrentHashMap.newKeySet();
     private boolean isPlayerMembersUpToDate;
 
+    /**
+     * The properties last broadcast, used to drop the updates reverted within a tick.
+     */
+    private TeamsPacket.UpdateTeamAction sentUpdate;
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private final Runnable flusher = this::flushUpdate;
+    // Set once the destruction has been broadcast, pending updates must not follow it
+    private volatile boolean deleted;
+
     /**
      * Default constructor to creates a team.
      *
@@ -184,7 +197,7 @@ public class Team implements PacketGroupingAudience {
      */
     public void updateTeamDisplayName(Component teamDisplayName) {
         this.setTeamDisplayName(teamDisplayName);
-        sendUpdatePacket();
+        scheduleUpdate();
     }
 
     /**
@@ -206,7 +219,7 @@ public class Team implements PacketGroupingAudience {
      */
     public void updateNameTagVisibility(NameTagVisibility nameTagVisibility) {
         this.setNameTagVisibility(nameTagVisibility);
-        sendUpdatePacket();
+        scheduleUpdate();
     }
 
     /**
@@ -228,7 +241,7 @@ public class Team implements PacketGroupingAudience {
      */
     public void updateCollisionRule(CollisionRule collisionRule) {
         this.setCollisionRule(collisionRule);
-        sendUpdatePacket();
+        scheduleUpdate();
     }
 
     /**
@@ -250,7 +263,7 @@ public class Team implements PacketGroupingAudience {
      */
     public void updateTeamColor(NamedTextColor color) {
         this.setTeamColor(color);
-        sendUpdatePacket();
+        scheduleUpdate();
     }
 
     /**
@@ -271,7 +284,7 @@ public class Team implements PacketGroupingAudience {
      */
     public void updatePrefix(Component prefix) {
         this.setPrefix(prefix);
-        sendUpdatePacket();
+        scheduleUpdate();
     }
 
     /**
@@ -292,7 +305,7 @@ public class Team implements PacketGroupingAudience {
      */
     public void updateSuffix(Component suffix) {
         this.setSuffix(suffix);
-        sendUpdatePacket();
+        scheduleUpdate();
     }
 
     /**
@@ -313,7 +326,7 @@ public class Team implements PacketGroupingAudience {
      */
     public void updateFriendlyFlags(byte flag) {
         this.setFriendlyFlags(flag);
-        this.sendUpdatePacket();
+        scheduleUpdate();
     }
 
     private boolean getFriendlyFlagBit(byte index) {
@@ -334,7 +347,7 @@ public class Team implements PacketGroupingAudience {
 
     public void updateAllowFriendlyFire(boolean value) {
         this.setAllowFriendlyFire(value);
-        this.sendUpdatePacket();
+        scheduleUpdate();
     }
 
     public boolean isAllowFriendlyFire() {
@@ -347,7 +360,7 @@ public class Team implements PacketGroupingAudience {
 
     public void updateSeeInvisiblePlayers(boolean value) {
         this.setSeeInvisiblePlayers(value);
-        this.sendUpdatePacket();
+        scheduleUpdate();
     }
 
     public boolean isSeeInvisiblePlayers() {
@@ -459,11 +472,47 @@ public class Team implements PacketGroupingAudience {
      * Sends an {@link TeamsPacket.UpdateTeamAction} action packet.
      */
     public void sendUpdatePacket() {
-        final var info = new TeamsPacket.UpdateTeamAction(teamDisplayName, friendlyFlags,
-                nameTagVisibility, collisionRule, teamColor, prefix, suffix);
+        final TeamsPacket.UpdateTeamAction info = createUpdateAction();
+        this.sentUpdate = info;
+        PacketSendingUtils.broadcastPlayPacket(new TeamsPacket(teamName, info));
+    }
+
+    /**
+     * Sends an {@link TeamsPacket.UpdateTeamAction} action packet at the end of the tick, if the properties changed.
+     */
+    private void scheduleUpdate() {
+        ScoreboardUpdates.mark(dirty, flusher);
+    }
+
+    /**
+     * Marks the current properties as known by all the players, after the team creation has been broadcast.
+     */
+    void markSent() {
+        this.sentUpdate = createUpdateAction();
+        this.deleted = false;
+    }
+
+    /**
+     * Drops the pending update, called before the team destruction is broadcast.
+     */
+    void markDeleted() {
+        this.deleted = true;
+    }
+
+    private void flushUpdate() {
+        this.dirty.set(false);
+        if (deleted) return;
+        final TeamsPacket.UpdateTeamAction info = createUpdateAction();
+        if (info.equals(sentUpdate)) return;
+        this.sentUpdate = info;
         PacketSendingUtils.broadcastPlayPacket(new TeamsPacket(teamName, info));
     }
 
+    private TeamsPacket.UpdateTeamAction createUpdateAction() {
+        return new TeamsPacket.UpdateTeamAction(teamDisplayName, friendlyFlags,
+                nameTagVisibility, collisionRule, teamColor, prefix, suffix);
+    }
+
     @Override
     public Collection<Player> getPlayers() {
         if (!this.isPlayerMembersUpToDate) {
@@ -38,6 +38,7 @@ public final class TeamManager {
     protected void registerNewTeam(Team team) {
         this.teams.add(team);
         PacketSendingUtils.broadcastPlayPacket(team.createTeamsCreationPacket());
+        team.markSent();
     }
 
     /**
@@ -60,6 +61,7 @@ public final class TeamManager {
      */
     public boolean deleteTeam(Team team) {
         // Sends to all online players a team destroy packet
+        team.markDeleted();
         PacketSendingUtils.broadcastPlayPacket(team.createTeamDestructionPacket());
         return this.teams.remove(team);
     }
@@ -3,10 +3,14 @@
 package net.minestom.server.snapshot;
 
 import net.minestom.server.MinecraftServer;
+import net.minestom.server.timer.ExecutionType;
+import net.minestom.server.timer.Task;
+import net.minestom.server.timer.TaskSchedule;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.UnknownNullability;
 
 import java.util.Collection;
+import java.util.function.Consumer;
 
 /**
  * Represents the complete state of the server at a given moment.
@@ -23,4 +27,20 @@ public sealed interface ServerSnapshot extends Snapshot
     static ServerSnapshot update() {
         return SnapshotUpdater.update(MinecraftServer.process());
     }
+
+    /**
+     * Takes a snapshot at the end of the tick every {@code period}.
+     * <p>
+     * Chunk data left unmodified since the previous snapshot is shared instead of copied, making frequent snapshots cheap.
+     * The consumer runs during the tick, snapshots are immutable and can be handed to another thread for processing.
+     *
+     * @param period   the interval between two snapshots
+     * @param consumer the snapshot consumer
+     * @return the scheduled task, to cancel to stop taking snapshots
+     */
+    @ApiStatus.Experimental
+    static Task schedule(TaskSchedule period, Consumer<ServerSnapshot> consumer) {
+        return MinecraftServer.getSchedulerManager().scheduleTask(() -> consumer.accept(update()),
+                TaskSchedule.immediate(), period, ExecutionType.TICK_END);
+    }
 }
@@ -5,6 +5,7 @@ import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.UnknownNullability;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -145,6 +146,26 @@ public sealed interface Acquirable<T> permits AcquirableImpl {
         }
     }
 
+    /**
+     * Queues {@code consumer} to be executed by the thread owning the acquirable element, without locking it.
+     * <p>
+     * Executed immediately if the element is already owned by the current thread, otherwise during the next safe point
+     * of the owning thread (between two ticked elements) along with the other queued callbacks.
+     * Dependent stages of the returned future without an explicit executor run on the owning thread.
+     *
+     * @param consumer the callback to execute on the owning thread
+     * @return a future completed once the callback has been executed
+     */
+    CompletableFuture<Void> post(Consumer<T> consumer);
+
+    /**
+     * Same as {@link #post(Consumer)} but completes the future with the result of {@code function}.
+     *
+     * @param function the function to execute on the owning thread
+     * @return a future completed with the result of the function
+     */
+    <R> CompletableFuture<R> ask(Function<T, R> function);
+
 
     /**
      * Unwrap the contained object unsafely.
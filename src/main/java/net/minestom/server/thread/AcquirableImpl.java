@@ -5,9 +5,11 @@ import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.UnknownNullability;
 
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 final class AcquirableImpl<T> implements Acquirable<T> {
     private static final boolean ASSERTIONS_ENABLED = AcquirableImpl.class.desiredAssertionStatus();
@@ -89,6 +91,29 @@ final class AcquirableImpl<T> implements Acquirable<T> {
         return false;
     }
 
+    @Override
+    public CompletableFuture<Void> post(Consumer<T> consumer) {
+        return ask(value -> {
+            consumer.accept(value);
+            return null;
+        });
+    }
+
+    @Override
+    public <R> CompletableFuture<R> ask(Function<T, R> function) {
+        final Message<T, R> message = new Message<>(this, function);
+        final TickThread assignedThread = this.assignedThread;
+        if (assignedThread == null) {
+            assertInitThread();
+            message.execute();
+        } else if (isOwnedImpl(assignedThread)) {
+            message.execute();
+        } else {
+            assignedThread.post(message);
+        }
+        return message.future;
+    }
+
     @Override
     public T unwrap() {
         return value;
@@ -147,4 +172,44 @@ final class AcquirableImpl<T> implements Acquirable<T> {
             GLOBAL_LOCK.unlock();
         }
     }
+
+    /**
+     * Callback queued in the mailbox of the {@link TickThread} owning its target.
+     */
+    static final class Message<T, R> {
+        private final AcquirableImpl<T> target;
+        private final Function<T, R> function;
+        private final CompletableFuture<R> future = new CompletableFuture<>();
+
+        Message(AcquirableImpl<T> target, Function<T, R> function) {
+            this.target = target;
+            this.function = function;
+        }
+
+        /**
+         * Executes the message if its target is still assigned to {@code thread}, forwards it to its new thread otherwise.
+         *
+         * @param thread the thread whose mailbox contained the message
+         */
+        void deliver(TickThread thread) {
+            final TickThread assignedThread = target.assignedThread;
+            if (assignedThread != null && assignedThread != thread) {
+                // The element moved since the message has been posted
+                assignedThread.post(this);
+                return;
+            }
+            execute();
+        }
+
+        void execute() {
+            final R result;
+            try {
+                result = function.apply(target.unwrap());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+                return;
+            }
+            future.complete(result);
+        }
+    }
 }
@@ -1,9 +1,13 @@
 package net.minestom.server.thread;
 
 import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
 import net.minestom.server.Tickable;
 import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.EntityPhysicsBatch;
 import net.minestom.server.instance.Chunk;
+import org.jctools.queues.MessagePassingQueue;
+import org.jctools.queues.MpscUnboundedArrayQueue;
 import org.jetbrains.annotations.ApiStatus;
 
 import java.util.ArrayList;
@@ -22,6 +26,8 @@ import java.util.concurrent.locks.ReentrantLock;
 @ApiStatus.Internal
 public class TickThread extends MinestomThread {
     private final ReentrantLock lock = new ReentrantLock();
+    private final MessagePassingQueue<AcquirableImpl.Message<?, ?>> mailbox = new MpscUnboundedArrayQueue<>(64);
+    private final EntityPhysicsBatch physicsBatch = ServerFlag.BATCHED_PHYSICS ? new EntityPhysicsBatch() : null;
     private volatile boolean stop;
 
     private final AtomicReference<CountDownLatch> latchRef = new AtomicReference<>();
@@ -51,7 +57,9 @@ public class TickThread extends MinestomThread {
             final ReentrantLock lock = this.lock;
             lock.lock();
             try {
+                processMailbox();
                 tick();
+                processMailbox();
             } catch (Exception e) {
                 MinecraftServer.getExceptionManager().handleException(e);
             } finally {
@@ -71,12 +79,21 @@ public class TickThread extends MinestomThread {
             assert entry.thread() == this;
             final List<Tickable> elements = entry.elements();
             if (elements.isEmpty()) continue;
+            if (physicsBatch != null) {
+                try {
+                    physicsBatch.step(elements);
+                } catch (Throwable e) {
+                    MinecraftServer.getExceptionManager().handleException(e);
+                }
+            }
             for (Tickable element : elements) {
                 if (lock.hasQueuedThreads()) {
                     lock.unlock();
                     // #acquire() callbacks
                     lock.lock();
                 }
+                // #post() callbacks
+                if (!mailbox.isEmpty()) processMailbox();
                 try {
                     assert assertElement(element);
                     element.tick(tickTime);
@@ -107,7 +124,8 @@ public class TickThread extends MinestomThread {
             return;
         }
         if (stop || entries.isEmpty()) {
-            // Nothing to tick
+            // Nothing to tick, the elements targeted by the pending messages have moved or been removed
+            processMailbox();
             latch.countDown();
             return;
         }
@@ -116,6 +134,17 @@ public class TickThread extends MinestomThread {
         LockSupport.unpark(this);
     }
 
+    /**
+     * Queues a message to be executed during the next safe point of this thread.
+     */
+    void post(AcquirableImpl.Message<?, ?> message) {
+        this.mailbox.relaxedOffer(message);
+    }
+
+    private void processMailbox() {
+        this.mailbox.drain(message -> message.deliver(this));
+    }
+
     /**
      * Gets the lock used to ensure the safety of entity acquisition.
      *
@@ -35,6 +35,13 @@ public sealed interface Scheduler extends Executor permits SchedulerImpl, Schedu
      */
     void processTickEnd();
 
+    /**
+     * Cancels all the tasks submitted to this scheduler so far.
+     * <p>
+     * Tasks submitted afterward are unaffected.
+     */
+    void cancelAll();
+
     /**
      * Submits a new task with custom scheduling logic.
      * <p>
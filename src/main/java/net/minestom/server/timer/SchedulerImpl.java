@@ -1,33 +1,26 @@
 package net.minestom.server.timer;
 
-import it.unimi.dsi.fastutil.ints.Int2ObjectAVLTreeMap;
 import net.minestom.server.MinecraftServer;
 import org.jctools.queues.MpscUnboundedArrayQueue;
 
-import java.time.Duration;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 final class SchedulerImpl implements Scheduler {
     private static final AtomicInteger TASK_COUNTER = new AtomicInteger();
-    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(r -> {
-        Thread thread = new Thread(r);
-        thread.setDaemon(true);
-        return thread;
-    });
+    private static final long ORIGIN = System.nanoTime();
 
     private final MpscUnboundedArrayQueue<TaskImpl> tasksToExecute = new MpscUnboundedArrayQueue<>(64);
     private final MpscUnboundedArrayQueue<TaskImpl> tickEndTasksToExecute = new MpscUnboundedArrayQueue<>(64);
-    // Tasks scheduled on a certain tick/tick end
-    private final Int2ObjectAVLTreeMap<List<TaskImpl>> tickStartTaskQueue = new Int2ObjectAVLTreeMap<>();
-    private final Int2ObjectAVLTreeMap<List<TaskImpl>> tickEndTaskQueue = new Int2ObjectAVLTreeMap<>();
+    // Tasks to add to (or remove from if cancelled) the wheels during the next processing
+    private final MpscUnboundedArrayQueue<TaskImpl> tasksToSchedule = new MpscUnboundedArrayQueue<>(64);
+    // Tasks scheduled on a certain tick/time
+    private final TimingWheel tickWheel = new TimingWheel();
+    private final TimingWheel durationWheel = new TimingWheel();
+    // Incremented to cancel all the existing tasks
+    private final AtomicInteger generation = new AtomicInteger();
 
-    private int tickState;
+    private volatile long tickState;
 
     @Override
     public void process() {
@@ -40,24 +33,37 @@ final class SchedulerImpl implements Scheduler {
     }
 
     private void processTick(int tickDelta) {
-        processTickTasks(tickStartTaskQueue, tasksToExecute, tickDelta);
+        this.tickState += tickDelta;
+        processWheels();
+        runTasks(tasksToExecute);
     }
 
     @Override
     public void processTickEnd() {
-        processTickTasks(tickEndTaskQueue, tickEndTasksToExecute, 0);
+        processWheels();
+        runTasks(tickEndTasksToExecute);
     }
 
-    private void processTickTasks(Int2ObjectAVLTreeMap<List<TaskImpl>> targetTaskQueue, MpscUnboundedArrayQueue<TaskImpl> targetTasksToExecute, int tickDelta) {
-        synchronized (this) {
-            this.tickState += tickDelta;
-            int tickToProcess;
-            while (!targetTaskQueue.isEmpty() && (tickToProcess = targetTaskQueue.firstIntKey()) <= tickState) {
-                final List<TaskImpl> tickScheduledTasks = targetTaskQueue.remove(tickToProcess);
-                if (tickScheduledTasks != null) tickScheduledTasks.forEach(targetTasksToExecute::relaxedOffer);
-            }
+    @Override
+    public void cancelAll() {
+        this.generation.incrementAndGet();
+    }
+
+    private void processWheels() {
+        if (!tasksToSchedule.isEmpty()) tasksToSchedule.drain(this::scheduleTask);
+        if (!tickWheel.isEmpty()) tickWheel.advance(tickState, this::safeExecute);
+        if (!durationWheel.isEmpty()) durationWheel.advance(currentMillis(), this::safeExecute);
+    }
+
+    private void scheduleTask(TaskImpl task) {
+        if (!task.isAlive()) {
+            // Cancelled task
+            final TimingWheel wheel = task.wheel;
+            if (wheel != null) wheel.remove(task);
+            return;
         }
-        runTasks(targetTasksToExecute);
+        final TimingWheel wheel = task.durationBased ? durationWheel : tickWheel;
+        if (!wheel.add(task, task.deadline)) safeExecute(task);
     }
 
     private void runTasks(MpscUnboundedArrayQueue<TaskImpl> targetQueue) {
@@ -84,12 +90,22 @@ final class SchedulerImpl implements Scheduler {
             this.tasksToExecute.relaxedOffer(task);
     }
 
+    void cancelTask(TaskImpl task) {
+        // Remove the task from its wheel
+        this.tasksToSchedule.relaxedOffer(task);
+    }
+
+    int generation() {
+        return generation.get();
+    }
+
     private void safeExecute(TaskImpl task) {
+        if (!task.isAlive()) return;
         // Prevent the task from being executed in the current thread
         // By either adding the task to the execution queue or submitting it to the pool
         switch (task.executionType()) {
-            case TICK_START -> tasksToExecute.offer(task);
-            case TICK_END -> tickEndTasksToExecute.offer(task);
+            case TICK_START -> tasksToExecute.relaxedOffer(task);
+            case TICK_END -> tickEndTasksToExecute.relaxedOffer(task);
         }
     }
 
@@ -104,23 +120,19 @@ final class SchedulerImpl implements Scheduler {
 
         switch (schedule) {
             case TaskScheduleImpl.DurationSchedule durationSchedule -> {
-                final Duration duration = durationSchedule.duration();
-                SCHEDULER.schedule(() -> safeExecute(task), duration.toMillis(), TimeUnit.MILLISECONDS);
+                task.durationBased = true;
+                task.deadline = currentMillis() + durationSchedule.duration().toMillis();
+                this.tasksToSchedule.relaxedOffer(task);
             }
             case TaskScheduleImpl.TickSchedule tickSchedule -> {
-                synchronized (this) {
-                    final int target = tickState + tickSchedule.tick();
-                    var targetTaskQueue = switch (task.executionType()) {
-                        case TICK_START -> tickStartTaskQueue;
-                        case TICK_END -> tickEndTaskQueue;
-                    };
-                    targetTaskQueue.computeIfAbsent(target, i -> new ArrayList<>()).add(task);
-                }
+                task.durationBased = false;
+                task.deadline = tickState + tickSchedule.tick();
+                this.tasksToSchedule.relaxedOffer(task);
             }
             case TaskScheduleImpl.FutureSchedule futureSchedule ->
                     futureSchedule.future().thenRun(() -> safeExecute(task));
             case TaskScheduleImpl.Park ignored -> task.parked = true;
-            case TaskScheduleImpl.Stop ignored -> task.cancel();
+            case TaskScheduleImpl.Stop ignored -> task.alive = false;
             case TaskScheduleImpl.Immediate ignored -> {
                 if (task.executionType() == ExecutionType.TICK_END) {
                     tickEndTasksToExecute.relaxedOffer(task);
@@ -128,4 +140,8 @@ final class SchedulerImpl implements Scheduler {
             }
         }
     }
+
+    private static long currentMillis() {
+        return (System.nanoTime() - ORIGIN) / 1_000_000;
+    }
 }
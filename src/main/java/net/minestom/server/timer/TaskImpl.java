@@ -21,10 +21,19 @@ final class TaskImpl implements Task {
     private final Supplier<TaskSchedule> task;
     private final ExecutionType executionType;
     private final SchedulerImpl owner;
+    private final int generation;
 
     volatile boolean alive;
     volatile boolean parked;
 
+    // Scheduling state, handed over to the processing thread through the owner queue
+    long deadline;
+    boolean durationBased;
+    // Timing wheel state, only accessed by the processing thread
+    TimingWheel wheel;
+    int slot;
+    TaskImpl previous, next;
+
     TaskImpl(int id,
              Supplier<TaskSchedule> task,
              ExecutionType executionType,
@@ -33,6 +42,7 @@ final class TaskImpl implements Task {
         this.task = task;
         this.executionType = executionType;
         this.owner = owner;
+        this.generation = owner.generation();
         this.alive = true;
     }
 
@@ -52,12 +62,14 @@ final class TaskImpl implements Task {
 
     @Override
     public void cancel() {
+        if (!alive) return;
         this.alive = false;
+        this.owner.cancelTask(this);
     }
 
     @Override
     public boolean isAlive() {
-        return alive;
+        return alive && generation == owner.generation();
     }
 
     public int id() {
@@ -0,0 +1,133 @@
+package net.minestom.server.timer;
+
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel holding tasks until their deadline, in ticks or milliseconds.
+ * <p>
+ * Each level has 64 slots, each slot covering 64 times the range of a slot in the level below.
+ * Tasks are moved down a level every time their slot is reached, and expire once in the first level.
+ * Slots are intrusive lists, making insertion and removal constant time.
+ * <p>
+ * Not thread-safe, only used by the thread processing the scheduler.
+ */
+final class TimingWheel {
+    private static final int BITS = 6;
+    private static final int SLOTS = 1 << BITS;
+    private static final int MASK = SLOTS - 1;
+    // Enough levels for any positive deadline
+    private static final int LEVELS = (Long.SIZE - 2) / BITS + 1;
+
+    private final TaskImpl[][] slots = new TaskImpl[LEVELS][];
+    private final long[] occupied = new long[LEVELS];
+    private long current;
+    private int size;
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Adds a task to the wheel.
+     *
+     * @param task     the task to add, must not be part of a wheel
+     * @param deadline the time at which the task expires
+     * @return false if the deadline has already been reached, in which case the task is not added
+     */
+    boolean add(TaskImpl task, long deadline) {
+        if (deadline <= current) return false;
+        // Level of the highest slot differing from the current time
+        final int level = (Long.SIZE - 1 - Long.numberOfLeadingZeros(deadline ^ current)) / BITS;
+        final int slot = (int) (deadline >>> (level * BITS)) & MASK;
+        TaskImpl[] heads = slots[level];
+        if (heads == null) slots[level] = heads = new TaskImpl[SLOTS];
+        final TaskImpl head = heads[slot];
+        task.wheel = this;
+        task.deadline = deadline;
+        task.slot = level << BITS | slot;
+        task.previous = null;
+        task.next = head;
+        if (head != null) head.previous = task;
+        heads[slot] = task;
+        occupied[level] |= 1L << slot;
+        size++;
+        return true;
+    }
+
+    void remove(TaskImpl task) {
+        if (task.wheel != this) return;
+        final int level = task.slot >>> BITS;
+        final int slot = task.slot & MASK;
+        final TaskImpl previous = task.previous;
+        final TaskImpl next = task.next;
+        if (previous != null) {
+            previous.next = next;
+        } else {
+            slots[level][slot] = next;
+            if (next == null) occupied[level] &= ~(1L << slot);
+        }
+        if (next != null) next.previous = previous;
+        unlink(task);
+        size--;
+    }
+
+    /**
+     * Moves the wheel forward, tasks are expired in deadline order.
+     *
+     * @param time    the new time, lower values are ignored
+     * @param expired consumer of the expired tasks, removed from the wheel
+     */
+    void advance(long time, Consumer<TaskImpl> expired) {
+        while (current < time) {
+            final long next = nextDeadline();
+            if (next > time) {
+                // Nothing to expire, slots are still ahead of the new time
+                this.current = time;
+                return;
+            }
+            this.current = next;
+            // Cascade every level whose slot starts at this time
+            int level = 0;
+            do {
+                expireSlot(level, (int) (next >>> (level * BITS)) & MASK, expired);
+            } while (++level < LEVELS && (next & ((1L << (level * BITS)) - 1)) == 0);
+        }
+    }
+
+    private void expireSlot(int level, int slot, Consumer<TaskImpl> expired) {
+        final long bit = 1L << slot;
+        if ((occupied[level] & bit) == 0) return;
+        occupied[level] &= ~bit;
+        TaskImpl task = slots[level][slot];
+        slots[level][slot] = null;
+        while (task != null) {
+            final TaskImpl next = task.next;
+            unlink(task);
+            size--;
+            // Move down the task, or expire it if its deadline is reached
+            if (!add(task, task.deadline)) expired.accept(task);
+            task = next;
+        }
+    }
+
+    /**
+     * Gets the start time of the closest occupied slot.
+     * <p>
+     * Occupied slots are always ahead of the current time in their level, so the first occupied level is the closest.
+     */
+    private long nextDeadline() {
+        for (int level = 0; level < LEVELS; level++) {
+            final long mask = occupied[level];
+            if (mask == 0) continue;
+            final int shift = level * BITS;
+            return ((current >>> shift) & ~MASK | Long.numberOfTrailingZeros(mask)) << shift;
+        }
+        return Long.MAX_VALUE;
+    }
+
+    private static void unlink(TaskImpl task) {
+        task.wheel = null;
+        task.previous = null;
+        task.next = null;
+    }
+}
@@ -3,7 +3,6 @@ package net.minestom.server.utils;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.longs.LongArrayList;
-import it.unimi.dsi.fastutil.longs.LongList;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.ServerFlag;
 import net.minestom.server.Viewable;
@@ -13,20 +12,36 @@ import net.minestom.server.network.ConnectionState;
 import net.minestom.server.network.NetworkBuffer;
 import net.minestom.server.network.packet.PacketWriting;
 import net.minestom.server.network.packet.server.BufferedPacket;
+import net.minestom.server.network.packet.server.SendablePacket;
 import net.minestom.server.network.packet.server.ServerPacket;
-import net.minestom.server.network.player.PlayerConnection;
 import net.minestom.server.network.player.PlayerSocketConnection;
+import org.jctools.queues.MessagePassingQueue;
+import org.jctools.queues.MpscUnboundedArrayQueue;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Nullable;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @ApiStatus.Internal
 public final class PacketViewableUtils {
+    private static final ObjectPool<NetworkBuffer> POOL = ObjectPool.pool(
+            () -> NetworkBuffer.resizableBuffer(ServerFlag.POOLED_BUFFER_SIZE, MinecraftServer.process()),
+            NetworkBuffer::clear);
     // Viewable packets
-    private static volatile Map<Viewable, ViewableStorage> storageMap = new WeakHashMap<>();
+    private static final Map<Object, ViewableStorage> STORAGES = new ConcurrentHashMap<>();
+    private static final ThreadLocal<LookupKey> LOOKUP = ThreadLocal.withInitial(LookupKey::new);
+    private static final ReferenceQueue<Viewable> COLLECTED = new ReferenceQueue<>();
+    // Storages with pending packets
+    private static final MessagePassingQueue<ViewableStorage> ACTIVE = new MpscUnboundedArrayQueue<>(1024);
 
     public static void prepareViewablePacket(Viewable viewable, ServerPacket serverPacket,
                                              @Nullable Entity entity) {
@@ -45,70 +60,165 @@ public final class PacketViewableUtils {
     }
 
     private static ViewableStorage retrieveStorage(Viewable viewable) {
-        Map<Viewable, ViewableStorage> map = storageMap;
-        ViewableStorage storage = map.get(viewable);
-        if (storage == null) {
-            synchronized (PacketViewableUtils.class) {
-                map = storageMap;
-                storage = map.get(viewable);
-                if (storage == null) {
-                    storage = new ViewableStorage();
-                    map = new WeakHashMap<>(map);
-                    map.put(viewable, storage);
-                    storageMap = map;
-                }
-            }
-        }
-        return storage;
+        final LookupKey lookup = LOOKUP.get();
+        lookup.viewable = viewable;
+        final ViewableStorage storage = STORAGES.get(lookup);
+        lookup.viewable = null;
+        if (storage != null) return storage;
+        return STORAGES.computeIfAbsent(new ViewableKey(viewable, COLLECTED), ViewableStorage::new);
     }
 
+    /**
+     * Sends the packets appended since the last flush.
+     * <p>
+     * The buffer of each storage is handed over to its viewers as an immutable segment instead of being copied,
+     * and recycled once written or discarded by every connection. All the segments of a player are queued at once.
+     */
     public static void flush() {
         if (!ServerFlag.VIEWABLE_PACKET) return;
-        Map<Viewable, ViewableStorage> map = storageMap;
-        map.entrySet().parallelStream().forEach(entry ->
-                entry.getValue().process(entry.getKey()));
+        // Forget the storages of collected viewables
+        Reference<? extends Viewable> reference;
+        while ((reference = COLLECTED.poll()) != null) STORAGES.remove((ViewableKey) reference);
+        // Gather the segments of every player
+        final Map<PlayerSocketConnection, List<SendablePacket>> writes = new IdentityHashMap<>();
+        ACTIVE.drain(storage -> {
+            final Segment segment = storage.seal();
+            if (segment == null) return;
+            final Viewable viewable = storage.key.get();
+            if (viewable != null) {
+                for (Player player : viewable.getViewers()) {
+                    if (player.getPlayerConnection() instanceof PlayerSocketConnection connection) {
+                        segment.appendTo(player, writes.computeIfAbsent(connection, c -> new ArrayList<>()));
+                    }
+                }
+            }
+            segment.release();
+        });
+        writes.forEach(PlayerSocketConnection::sendPackets);
     }
 
     public static void prepareViewablePacket(Viewable viewable, ServerPacket serverPacket) {
         prepareViewablePacket(viewable, serverPacket, null);
     }
 
+    /**
+     * Weak identity key of a storage.
+     */
+    private static final class ViewableKey extends WeakReference<Viewable> {
+        private final int hash;
+
+        ViewableKey(Viewable viewable, @Nullable ReferenceQueue<Viewable> queue) {
+            super(viewable, queue);
+            this.hash = System.identityHashCode(viewable);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            final Viewable viewable = get();
+            if (viewable == null) return false;
+            return switch (obj) {
+                case ViewableKey other -> viewable == other.get();
+                case LookupKey lookup -> viewable == lookup.viewable;
+                default -> false;
+            };
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Strong identity key reused by each thread to find existing storages, avoiding a weak reference per packet.
+     * Only ever compared with {@link ViewableKey}, never stored in the map.
+     */
+    private static final class LookupKey {
+        private @Nullable Viewable viewable;
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof ViewableKey key && viewable != null && viewable == key.get();
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(viewable);
+        }
+    }
+
     private static final class ViewableStorage {
-        private static final ObjectPool<NetworkBuffer> POOL = ObjectPool.pool(
-                () -> NetworkBuffer.resizableBuffer(ServerFlag.POOLED_BUFFER_SIZE, MinecraftServer.process()),
-                NetworkBuffer::clear);
+        private final ViewableKey key;
+        private @Nullable NetworkBuffer buffer;
         // Player id -> list of offsets to ignore (32:32 bits)
-        private final Int2ObjectMap<LongArrayList> entityIdMap = new Int2ObjectOpenHashMap<>();
-        private final NetworkBuffer buffer = POOL.getAndRegister(this);
+        private Int2ObjectMap<LongArrayList> entityIdMap;
+
+        ViewableStorage(ViewableKey key) {
+            this.key = key;
+        }
 
         private synchronized void append(ServerPacket serverPacket, @Nullable Player exception) {
+            NetworkBuffer buffer = this.buffer;
+            if (buffer == null) {
+                // First packet since the last flush
+                this.buffer = buffer = POOL.get();
+                ACTIVE.relaxedOffer(this);
+            }
             final long start = buffer.writeIndex();
             // Viewable storage is only used for play packets, so fine to assume this.
             PacketWriting.writeFramedPacket(buffer, ConnectionState.PLAY, serverPacket, MinecraftServer.getCompressionThreshold());
             final long end = buffer.writeIndex();
             if (exception != null) {
                 final long offsets = start << 32 | end & 0xFFFFFFFFL;
-                LongList list = entityIdMap.computeIfAbsent(exception.getEntityId(), id -> new LongArrayList());
-                list.add(offsets);
+                if (entityIdMap == null) entityIdMap = new Int2ObjectOpenHashMap<>();
+                entityIdMap.computeIfAbsent(exception.getEntityId(), id -> new LongArrayList()).add(offsets);
             }
         }
 
-        private synchronized void process(Viewable viewable) {
-            if (buffer.writeIndex() == 0) return;
-            NetworkBuffer copy = buffer.copy(0, buffer.writeIndex());
-            copy.readOnly();
-            viewable.getViewers().forEach(player -> processPlayer(player, copy));
-            this.buffer.clear();
-            this.entityIdMap.clear();
+        /**
+         * Hands over the pending packets, the next append starts a new buffer.
+         *
+         * @return the pending packets, null if none
+         */
+        private synchronized @Nullable Segment seal() {
+            final NetworkBuffer buffer = this.buffer;
+            if (buffer == null) return null;
+            this.buffer = null;
+            final Int2ObjectMap<LongArrayList> entityIdMap = this.entityIdMap;
+            this.entityIdMap = null;
+            if (buffer.writeIndex() == 0) {
+                POOL.add(buffer);
+                return null;
+            }
+            return new Segment(buffer, entityIdMap);
         }
+    }
 
-        private void processPlayer(Player player, NetworkBuffer buffer) {
-            final long capacity = buffer.capacity();
-            final PlayerConnection connection = player.getPlayerConnection();
-            final LongArrayList pairs = entityIdMap.get(player.getEntityId());
+    /**
+     * Immutable packets of a storage, shared by all its viewers.
+     * <p>
+     * Returned to the pool once released by the flush and every connection it has been queued to, including the ones
+     * closed before writing it.
+     */
+    private static final class Segment {
+        private final NetworkBuffer buffer;
+        private final long length;
+        private final @Nullable Int2ObjectMap<LongArrayList> entityIdMap;
+        private final AtomicInteger references = new AtomicInteger(1);
+        private final Runnable release = this::release;
+
+        Segment(NetworkBuffer buffer, @Nullable Int2ObjectMap<LongArrayList> entityIdMap) {
+            this.buffer = buffer;
+            this.length = buffer.writeIndex();
+            this.entityIdMap = entityIdMap;
+        }
+
+        void appendTo(Player player, List<SendablePacket> packets) {
+            final LongArrayList pairs = entityIdMap != null ? entityIdMap.get(player.getEntityId()) : null;
             if (pairs == null) {
                 // No range exception, write the whole buffer
-                writeTo(connection, buffer, 0, capacity);
+                append(packets, 0, length);
                 return;
             }
             // Player has range exception(s)
@@ -118,18 +228,19 @@ public final class PacketViewableUtils {
             for (int i = 0; i < pairs.size(); ++i) {
                 final long offsets = elements[i];
                 final int start = (int) (offsets >> 32);
-                if (start != lastWrite) writeTo(connection, buffer, lastWrite, start - lastWrite);
+                if (start != lastWrite) append(packets, lastWrite, start - lastWrite);
                 lastWrite = (int) offsets; // End = last 32 bits
             }
-            if (capacity != lastWrite) writeTo(connection, buffer, lastWrite, capacity - lastWrite);
+            if (length != lastWrite) append(packets, lastWrite, length - lastWrite);
         }
 
-        private static void writeTo(PlayerConnection connection, NetworkBuffer buffer, long offset, long length) {
-            if (connection instanceof PlayerSocketConnection socketConnection) {
-                socketConnection.sendPacket(new BufferedPacket(buffer, offset, length));
-                return;
-            }
-            // TODO for non-socket connection
+        private void append(List<SendablePacket> packets, long offset, long length) {
+            references.incrementAndGet();
+            packets.add(new BufferedPacket(buffer, offset, length, release));
+        }
+
+        void release() {
+            if (references.decrementAndGet() == 0) POOL.add(buffer);
         }
     }
 }
@@ -3,6 +3,7 @@ package net.minestom.server.utils.chunk;
 import net.minestom.server.coordinate.CoordConversion;
 import net.minestom.server.instance.Chunk;
 import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.Section;
 import net.minestom.server.instance.block.Block;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.UnknownNullability;
@@ -27,6 +28,31 @@ public final class ChunkCache implements Block.Getter {
 
     @Override
     public @UnknownNullability Block getBlock(int x, int y, int z, Condition condition) {
+        final Chunk chunk = chunkAt(x, z);
+        if (chunk != null) {
+            synchronized (chunk) {
+                return chunk.getBlock(x, y, z, condition);
+            }
+        } else return defaultBlock;
+    }
+
+    /**
+     * Gets the collision of a block without retrieving its shape.
+     *
+     * @see Chunk#getCollision(int, int, int)
+     */
+    public int getCollision(int x, int y, int z) {
+        final Chunk chunk = chunkAt(x, z);
+        if (chunk != null) {
+            synchronized (chunk) {
+                return chunk.getCollision(x, y, z);
+            }
+        } else if (defaultBlock != null) {
+            return Section.collision(defaultBlock);
+        } else return Section.PARTIAL_COLLISION; // Let the caller retrieve the block
+    }
+
+    private Chunk chunkAt(int x, int z) {
         Chunk chunk = this.chunk;
         final int chunkX = CoordConversion.globalToChunk(x);
         final int chunkZ = CoordConversion.globalToChunk(z);
@@ -34,10 +60,6 @@ public final class ChunkCache implements Block.Getter {
                 chunk.getChunkX() != chunkX || chunk.getChunkZ() != chunkZ) {
             this.chunk = chunk = this.instance.getChunk(chunkX, chunkZ);
         }
-        if (chunk != null) {
-            synchronized (chunk) {
-                return chunk.getBlock(x, y, z, condition);
-            }
-        } else return defaultBlock;
+        return chunk;
     }
 }
@@ -5,11 +5,14 @@ import it.unimi.dsi.fastutil.objects.Object2BooleanOpenHashMap;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.command.CommandSender;
 import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Pos;
 import net.minestom.server.coordinate.Vec;
 import net.minestom.server.entity.Entity;
 import net.minestom.server.entity.EntityType;
 import net.minestom.server.entity.GameMode;
 import net.minestom.server.entity.Player;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.EntityTracker;
 import net.minestom.server.instance.Instance;
 import net.minestom.server.network.ConnectionManager;
 import net.minestom.server.utils.MathUtils;
@@ -19,6 +22,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
 
 // TODO
 
@@ -28,6 +32,7 @@ import java.util.concurrent.ThreadLocalRandom;
  */
 public class EntityFinder {
     private static final ConnectionManager CONNECTION_MANAGER = MinecraftServer.getConnectionManager();
+    private static final double RANGE_MARGIN = 1e-6;
 
     private TargetSelector targetSelector;
 
@@ -140,107 +145,36 @@ public class EntityFinder {
 
         final Point pos = startPosition != null ? startPosition : (self != null ? self.getPosition() : Vec.ZERO);
 
-        List<Entity> result = findTarget(instance, targetSelector, pos, self);
-        // Fast exit if there is nothing to process
-        if (result.isEmpty())
-            return result;
-
-        // Distance argument
-        if (distance != null) {
-            final int minDistance = distance.min();
-            final int maxDistance = distance.max();
-            result = result.stream()
-                    .filter(entity -> MathUtils.isBetween(entity.getPosition().distanceSquared(pos), minDistance * minDistance, maxDistance * maxDistance))
-                    .toList();
-        }
-
-        // Diff X/Y/Z
-        if (dx != null || dy != null || dz != null) {
-            result = result.stream().filter(entity -> {
-                final var entityPosition = entity.getPosition();
-                if (dx != null && !MathUtils.isBetweenUnordered(
-                        entityPosition.x(),
-                        pos.x(), dx))
-                    return false;
-
-                if (dy != null && !MathUtils.isBetweenUnordered(
-                        entityPosition.y(),
-                        pos.y(), dy))
-                    return false;
-
-                if (dz != null && !MathUtils.isBetweenUnordered(
-                        entityPosition.z(),
-                        pos.z(), dz))
-                    return false;
-
-                return true;
-            }).toList();
-        }
-
-        // Entity type
-        if (!entityTypes.isEmpty()) {
-            result = result.stream()
-                    .filter(entity -> filterToggleableMap(entity.getEntityType(), entityTypes))
-                    .toList();
-        }
-
-        // GameMode
-        if (!gameModes.isEmpty()) {
-            result = result.stream()
-                    .filter(Player.class::isInstance)
-                    .filter(entity -> filterToggleableMap(((Player) entity).getGameMode(), gameModes))
-                    .toList();
-        }
-
-        // Level
-        if (level != null) {
-            final int minLevel = level.min();
-            final int maxLevel = level.max();
-            result = result.stream()
-                    .filter(Player.class::isInstance)
-                    .filter(entity -> MathUtils.isBetween(((Player) entity).getLevel(), minLevel, maxLevel))
-                    .toList();
-        }
-
-        // Name
-        if (!names.isEmpty()) {
-            result = result.stream()
-                    .filter(Player.class::isInstance)
-                    .filter(entity -> filterToggleableMap(((Player) entity).getUsername(), names))
-                    .toList();
+        // @p, @n and @r pick among the entities matching the other arguments
+        EntitySort sort = entitySort;
+        int limit = this.limit != null ? this.limit : Integer.MAX_VALUE;
+        if (targetSelector == TargetSelector.NEAREST_PLAYER || targetSelector == TargetSelector.NEAREST_ENTITY ||
+                targetSelector == TargetSelector.RANDOM_PLAYER) {
+            if (sort == EntitySort.ARBITRARY)
+                sort = targetSelector == TargetSelector.RANDOM_PLAYER ? EntitySort.RANDOM : EntitySort.NEAREST;
+            if (this.limit == null) limit = 1;
         }
 
-        // UUID
-        if (!uuids.isEmpty()) {
-            result = result.stream()
-                    .filter(entity -> filterToggleableMap(entity.getUuid(), uuids))
-                    .toList();
-        }
-
-
-        // Sort & limit
-        if (entitySort != EntitySort.ARBITRARY || limit != null) {
-            result = result.stream()
-                    .sorted((ent1, ent2) -> switch (entitySort) {
-                        case ARBITRARY, RANDOM ->
-                            // RANDOM is handled below
-                                1;
-                        case FURTHEST -> pos.distanceSquared(ent1.getPosition()) >
-                                pos.distanceSquared(ent2.getPosition()) ?
-                                1 : 0;
-                        case NEAREST -> pos.distanceSquared(ent1.getPosition()) <
-                                pos.distanceSquared(ent2.getPosition()) ?
-                                1 : 0;
-                    })
-                    .limit(limit != null ? limit : Integer.MAX_VALUE)
-                    .toList();
-
-            if (entitySort == EntitySort.RANDOM) {
-                Collections.shuffle(result);
+        final Selection selection = new Selection(pos, sort, limit);
+        final Consumer<Entity> consumer = entity -> {
+            if (test(entity, pos)) selection.accept(entity);
+        };
+        if (targetSelector == TargetSelector.SELF) {
+            if (self != null) consumer.accept(self);
+        } else {
+            final EntityTracker.Target<? extends Entity> target = target();
+            if (instance != null) {
+                query(instance, target, pos, consumer);
+            } else if (target == EntityTracker.Target.PLAYERS) {
+                CONNECTION_MANAGER.getOnlinePlayers().forEach(consumer);
+            } else {
+                // Get entities from every instance
+                for (Instance inst : MinecraftServer.getInstanceManager().getInstances()) {
+                    query(inst, target, pos, consumer);
+                }
             }
         }
-
-        return result;
+        return selection.result();
     }
 
     public List<Entity> find(CommandSender sender) {
@@ -306,41 +240,161 @@ public class EntityFinder {
     private static class ToggleableMap<T> extends Object2BooleanOpenHashMap<T> {
     }
 
-    private static List<Entity> findTarget(@Nullable Instance instance,
-                                                             TargetSelector targetSelector,
-                                                             Point startPosition, @Nullable Entity self) {
-        final var players = instance != null ? instance.getPlayers() : CONNECTION_MANAGER.getOnlinePlayers();
-        if (targetSelector == TargetSelector.NEAREST_PLAYER) {
-            return players.stream()
-                    .min(Comparator.comparingDouble(p -> p.getPosition().distanceSquared(startPosition)))
-                    .<List<Entity>>map(Collections::singletonList).orElse(List.of());
-        } else if (targetSelector == TargetSelector.NEAREST_ENTITY) {
-            List<Entity> entities = findTarget(instance, TargetSelector.ALL_ENTITIES, startPosition, self);
-
-            return entities.stream()
-                    .min(Comparator.comparingDouble(p -> p.getPosition().distanceSquared(startPosition)))
-                    .map(Collections::singletonList).orElse(List.of());
-        } else if (targetSelector == TargetSelector.RANDOM_PLAYER) {
-            final int index = ThreadLocalRandom.current().nextInt(players.size());
-            final Player player = players.stream().skip(index).findFirst().orElseThrow();
-            return List.of(player);
-        } else if (targetSelector == TargetSelector.ALL_PLAYERS) {
-            return List.copyOf(players);
-        } else if (targetSelector == TargetSelector.ALL_ENTITIES) {
-            if (instance != null) {
-                return List.copyOf(instance.getEntities());
+    /**
+     * Picks the narrowest tracker target able to contain every matching entity.
+     */
+    private EntityTracker.Target<? extends Entity> target() {
+        if (targetSelector == TargetSelector.NEAREST_PLAYER || targetSelector == TargetSelector.RANDOM_PLAYER ||
+                targetSelector == TargetSelector.ALL_PLAYERS) {
+            return EntityTracker.Target.PLAYERS;
+        }
+        // These arguments only match players
+        if (!gameModes.isEmpty() || level != null || !names.isEmpty()) return EntityTracker.Target.PLAYERS;
+        for (var entry : Object2BooleanMaps.fastIterable(entityTypes)) {
+            if (!entry.getBooleanValue()) continue;
+            // Filter on the entity type rather than the class, NPCs are usually plain entities of the player type
+            return EntityTracker.Target.of(entry.getKey());
+        }
+        return EntityTracker.Target.ENTITIES;
+    }
+
+    /**
+     * Feeds the entities of an instance which may match, using a range query when the distance or
+     * the volume arguments cover fewer chunks than there are entities to scan.
+     */
+    private <T extends Entity> void query(Instance instance, EntityTracker.Target<T> target,
+                                          Point pos, Consumer<? super T> consumer) {
+        final EntityTracker tracker = instance.getEntityTracker();
+        final Set<T> entities = tracker.entities(target);
+        // Smallest sphere containing the searched region
+        Point center = pos;
+        double radius = distance != null ? distance.max() : Double.POSITIVE_INFINITY;
+        if (dx != null && dy != null && dz != null) {
+            final Vec corner = new Vec(dx, dy, dz);
+            final double boxRadius = pos.distance(corner) / 2 + RANGE_MARGIN;
+            if (boxRadius < radius) {
+                center = corner.add(pos).mul(0.5);
+                radius = boxRadius;
+            }
+        }
+        final long chunkRange = (long) (radius / Chunk.CHUNK_SECTION_SIZE) + 1;
+        if (radius < Double.POSITIVE_INFINITY && (2 * chunkRange + 1) * (2 * chunkRange + 1) <= entities.size()) {
+            tracker.nearbyEntities(center, radius, target, consumer::accept);
+        } else {
+            entities.forEach(consumer);
+        }
+    }
+
+    private boolean test(Entity entity, Point pos) {
+        final Pos position = entity.getPosition();
+
+        // Distance argument
+        if (distance != null) {
+            final double minDistance = Math.max(0, distance.min());
+            final double maxDistance = distance.max();
+            if (!MathUtils.isBetween(position.distanceSquared(pos), minDistance * minDistance, maxDistance * maxDistance))
+                return false;
+        }
+
+        // Diff X/Y/Z
+        if (dx != null && !MathUtils.isBetweenUnordered(position.x(), pos.x(), dx))
+            return false;
+        if (dy != null && !MathUtils.isBetweenUnordered(position.y(), pos.y(), dy))
+            return false;
+        if (dz != null && !MathUtils.isBetweenUnordered(position.z(), pos.z(), dz))
+            return false;
+
+        // Entity type
+        if (!entityTypes.isEmpty() && !filterToggleableMap(entity.getEntityType(), entityTypes))
+            return false;
+
+        // GameMode, level & name
+        if (!gameModes.isEmpty() || level != null || !names.isEmpty()) {
+            if (!(entity instanceof Player player))
+                return false;
+            if (!gameModes.isEmpty() && !filterToggleableMap(player.getGameMode(), gameModes))
+                return false;
+            if (level != null && !MathUtils.isBetween(player.getLevel(), level.min(), level.max()))
+                return false;
+            if (!names.isEmpty() && !filterToggleableMap(player.getUsername(), names))
+                return false;
+        }
+
+        // UUID
+        return uuids.isEmpty() || filterToggleableMap(entity.getUuid(), uuids);
+    }
+
+    /**
+     * Sorts and limits the matching entities as they are found.
+     * <p>
+     * Sorting by distance with a limit only keeps the best candidates in a bounded heap,
+     * random selection with a limit uses reservoir sampling.
+     */
+    private static final class Selection implements Consumer<Entity> {
+        private final Point origin;
+        private final EntitySort sort;
+        private final int limit;
+        private final Comparator<Candidate> order;
+
+        private final List<Entity> entities = new ArrayList<>();
+        private final List<Candidate> candidates = new ArrayList<>();
+        private final @Nullable PriorityQueue<Candidate> heap; // Worst kept candidate first
+        private int seen;
+
+        Selection(Point origin, EntitySort sort, int limit) {
+            this.origin = origin;
+            this.sort = sort;
+            this.limit = limit;
+            final Comparator<Candidate> nearest = Comparator.comparingDouble(Candidate::distanceSquared);
+            this.order = sort == EntitySort.FURTHEST ? nearest.reversed() : nearest;
+            final boolean bounded = limit != Integer.MAX_VALUE &&
+                    (sort == EntitySort.NEAREST || sort == EntitySort.FURTHEST);
+            this.heap = bounded ? new PriorityQueue<>(Math.min(limit, 64), order.reversed()) : null;
+        }
+
+        @Override
+        public void accept(Entity entity) {
+            switch (sort) {
+                case ARBITRARY -> {
+                    if (entities.size() < limit) entities.add(entity);
+                }
+                case RANDOM -> {
+                    final int index = seen++;
+                    if (index < limit) {
+                        entities.add(entity);
+                    } else {
+                        final int replaced = ThreadLocalRandom.current().nextInt(index + 1);
+                        if (replaced < limit) entities.set(replaced, entity);
+                    }
+                }
+                case NEAREST, FURTHEST -> {
+                    final Candidate candidate = new Candidate(entity, origin.distanceSquared(entity.getPosition()));
+                    if (heap == null) {
+                        candidates.add(candidate);
+                    } else if (heap.size() < limit) {
+                        heap.add(candidate);
+                    } else if (order.compare(candidate, heap.peek()) < 0) {
+                        heap.poll();
+                        heap.add(candidate);
+                    }
+                }
             }
-            // Get entities from every instance
-            var instances = MinecraftServer.getInstanceManager().getInstances();
-            List<Entity> entities = new ArrayList<>();
-            for (Instance inst : instances) {
-                entities.addAll(inst.getEntities());
+        }
+
+        List<Entity> result() {
+            switch (sort) {
+                case RANDOM -> Collections.shuffle(entities);
+                case NEAREST, FURTHEST -> {
+                    if (heap != null) candidates.addAll(heap);
+                    candidates.sort(order);
+                    for (Candidate candidate : candidates) entities.add(candidate.entity());
+                }
             }
-            return entities;
-        } else if (targetSelector == TargetSelector.SELF) {
-            return self != null ? List.of(self) : List.of();
+            return List.copyOf(entities);
+        }
+
+        private record Candidate(Entity entity, double distanceSquared) {
         }
-        throw new IllegalStateException("Weird thing happened: " + targetSelector);
     }
 
     private static <T> boolean filterToggleableMap(T value, ToggleableMap<T> map) {
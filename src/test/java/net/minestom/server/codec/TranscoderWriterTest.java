@@ -0,0 +1,113 @@
+package net.minestom.server.codec;
+
+import net.kyori.adventure.nbt.BinaryTag;
+import net.kyori.adventure.nbt.ByteBinaryTag;
+import net.kyori.adventure.nbt.IntBinaryTag;
+import net.kyori.adventure.nbt.StringBinaryTag;
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.utils.json.JsonUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static net.minestom.server.codec.CodecAssertions.assertOk;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TranscoderWriterTest {
+
+    record Inner(int value, List<String> names) {
+        static final Codec<Inner> CODEC = StructCodec.struct(
+                "value", Codec.INT, Inner::value,
+                "names", Codec.STRING.list(), Inner::names,
+                Inner::new);
+    }
+
+    record Outer(String name, boolean flag, long big, double precise, Inner inner,
+                 List<Inner> inners, Map<String, Integer> scores, String missing) {
+        static final Codec<Outer> CODEC = StructCodec.struct(
+                "name", Codec.STRING, Outer::name,
+                "flag", Codec.BOOLEAN, Outer::flag,
+                "big", Codec.LONG, Outer::big,
+                "precise", Codec.DOUBLE, Outer::precise,
+                "inner", Inner.CODEC, Outer::inner,
+                "inners", Inner.CODEC.list(), Outer::inners,
+                "scores", Codec.STRING.mapValue(Codec.INT), Outer::scores,
+                "missing", Codec.STRING.optional(), Outer::missing,
+                Outer::new);
+    }
+
+    private static final Outer VALUE = new Outer("outer \"quoted\"\n", true, Long.MAX_VALUE, 0.25,
+            new Inner(5, List.of("a", "é")), List.of(new Inner(1, List.of()), new Inner(2, List.of("b"))),
+            Map.of("first", 1, "second", 2), null);
+
+    @Test
+    void nbtMatchesTree() {
+        final BinaryTag expected = assertOk(Outer.CODEC.encode(Transcoder.NBT, VALUE));
+        final byte[] bytes = assertOk(Outer.CODEC.encodeNbtBytes(null, VALUE));
+        assertEquals(expected, readNbt(bytes));
+        assertEquals(VALUE, assertOk(Outer.CODEC.decode(Transcoder.NBT, readNbt(bytes))));
+    }
+
+    @Test
+    void nbtHeterogeneousList() {
+        final var coder = TranscoderNbtWriterImpl.INSTANCE;
+        final var wrapper = coder.createMap().put("", coder.createInt(3)).build();
+        final var list = coder.createList(3)
+                .add(coder.createString("text"))
+                .add(coder.createByte((byte) 1))
+                .add(wrapper)
+                .build();
+
+        final var expected = Transcoder.NBT.createList(3)
+                .add(StringBinaryTag.stringBinaryTag("text"))
+                .add(ByteBinaryTag.byteBinaryTag((byte) 1))
+                .add(Transcoder.NBT.createMap().put("", IntBinaryTag.intBinaryTag(3)).build())
+                .build();
+        assertArrayEquals(NetworkBuffer.makeArray(NetworkBuffer.NBT, expected), list.toByteArray());
+    }
+
+    @Test
+    void nbtNested() {
+        final Codec<List<Map<String, List<String>>>> codec = Codec.STRING.mapValue(Codec.STRING.list()).list();
+        final List<Map<String, List<String>>> value = List.of(
+                Map.of("\0key", List.of("a\0", "\uD83D\uDE00")),
+                Map.of("é", List.of(), "key", List.of("x".repeat(300))));
+        final BinaryTag expected = assertOk(codec.encode(Transcoder.NBT, value));
+        final byte[] bytes = assertOk(codec.encodeNbtBytes(null, value));
+        assertEquals(expected, readNbt(bytes));
+    }
+
+    @Test
+    void nbtDecode() {
+        final var encoded = assertOk(Outer.CODEC.encode(TranscoderNbtWriterImpl.INSTANCE, VALUE));
+        assertEquals(VALUE, assertOk(Outer.CODEC.decode(TranscoderNbtWriterImpl.INSTANCE, encoded)));
+    }
+
+    @Test
+    void jsonMatchesTree() {
+        final var expected = assertOk(Outer.CODEC.encode(Transcoder.JSON, VALUE));
+        final String json = assertOk(Outer.CODEC.encodeJsonString(null, VALUE));
+        assertEquals(expected, JsonUtil.fromJson(json));
+    }
+
+    @Test
+    void jsonDecode() {
+        final var encoded = assertOk(Outer.CODEC.encode(TranscoderJsonWriterImpl.INSTANCE, VALUE));
+        assertEquals(VALUE, assertOk(Outer.CODEC.decode(TranscoderJsonWriterImpl.INSTANCE, encoded)));
+    }
+
+    @Test
+    void jsonNonFinite() {
+        final var tree = assertOk(Codec.DOUBLE.encode(Transcoder.JSON, Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> JsonUtil.toJson(tree));
+        assertThrows(IllegalArgumentException.class, () -> Codec.DOUBLE.encodeJsonString(null, Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> Codec.FLOAT.encodeJsonString(null, Float.POSITIVE_INFINITY));
+    }
+
+    private static BinaryTag readNbt(byte[] bytes) {
+        return NetworkBuffer.wrap(bytes, 0, bytes.length).read(NetworkBuffer.NBT);
+    }
+}
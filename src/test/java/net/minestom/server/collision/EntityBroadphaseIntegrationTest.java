@@ -0,0 +1,116 @@
+package net.minestom.server.collision;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.EntityType;
+import net.minestom.server.instance.Instance;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class EntityBroadphaseIntegrationTest {
+
+    @Test
+    public void query(Env env) {
+        var instance = env.createFlatInstance();
+        var first = spawn(instance, new Pos(0, 42, 0));
+        var second = spawn(instance, new Pos(50, 42, -50));
+
+        assertEquals(Set.of(first), query(instance, -1, 41, -1, 1, 43, 1));
+        assertEquals(Set.of(second), query(instance, 49, 41, -51, 51, 43, -49));
+        assertEquals(Set.of(first, second), query(instance, -100, 0, -100, 100, 100, 100));
+        assertEquals(Set.of(), query(instance, 10, 41, 10, 11, 43, 11));
+    }
+
+    @Test
+    public void moved(Env env) {
+        var instance = env.createFlatInstance();
+        var entity = spawn(instance, new Pos(0, 42, 0));
+        // Build the grid
+        assertEquals(Set.of(entity), query(instance, -1, 41, -1, 1, 43, 1));
+
+        entity.teleport(new Pos(30, 42, 30)).join();
+        assertEquals(Set.of(), query(instance, -1, 41, -1, 1, 43, 1));
+        assertEquals(Set.of(entity), query(instance, 29, 41, 29, 31, 43, 31));
+
+        // Same result once the grid is rebuilt
+        instance.getEntityBroadphase().refresh();
+        assertEquals(Set.of(), query(instance, -1, 41, -1, 1, 43, 1));
+        assertEquals(Set.of(entity), query(instance, 29, 41, 29, 31, 43, 31));
+    }
+
+    @Test
+    public void movedDuringRefresh(Env env) {
+        var instance = env.createFlatInstance();
+        var moveDuringBuild = new AtomicBoolean();
+        var entity = new Entity(EntityType.ZOMBIE) {
+            @Override
+            public BoundingBox getBoundingBox() {
+                // Read by the build right after the position
+                if (moveDuringBuild.compareAndSet(true, false)) refreshPosition(new Pos(8, 42, 8));
+                return super.getBoundingBox();
+            }
+        };
+        entity.setInstance(instance, new Pos(0, 42, 0)).join();
+        assertEquals(Set.of(entity), query(instance, -1, 41, -1, 1, 43, 1));
+
+        moveDuringBuild.set(true);
+        instance.getEntityBroadphase().refresh();
+        assertFalse(moveDuringBuild.get());
+        assertEquals(Set.of(), query(instance, -1, 41, -1, 1, 43, 1));
+        assertEquals(Set.of(entity), query(instance, 7, 41, 7, 9, 43, 9));
+    }
+
+    @Test
+    public void spawnAndRemove(Env env) {
+        var instance = env.createFlatInstance();
+        var first = spawn(instance, new Pos(0, 42, 0));
+        assertEquals(Set.of(first), query(instance, -1, 41, -1, 1, 43, 1));
+
+        var second = spawn(instance, new Pos(0.5, 42, 0.5));
+        assertEquals(Set.of(first, second), query(instance, -1, 41, -1, 1, 43, 1));
+
+        first.remove();
+        assertEquals(Set.of(second), query(instance, -1, 41, -1, 1, 43, 1));
+    }
+
+    @Test
+    public void boundingBox(Env env) {
+        var instance = env.createFlatInstance();
+        var entity = spawn(instance, new Pos(0, 42, 0));
+        assertEquals(Set.of(), query(instance, 5, 41, -1, 6, 43, 1));
+
+        entity.setBoundingBox(12, 1, 1);
+        assertEquals(Set.of(entity), query(instance, 5, 41, -1, 6, 43, 1));
+    }
+
+    private static Entity spawn(Instance instance, Pos position) {
+        var entity = new Entity(EntityType.ZOMBIE);
+        entity.setInstance(instance, position).join();
+        return entity;
+    }
+
+    private static Set<Entity> query(Instance instance,
+                                     double minX, double minY, double minZ,
+                                     double maxX, double maxY, double maxZ) {
+        Set<Entity> result = new HashSet<>();
+        instance.getEntityBroadphase().query(minX, minY, minZ, maxX, maxY, maxZ,
+                entity -> assertTrue(result.add(entity), "duplicate candidate"));
+        // Candidates must be checked against the current position
+        result.removeIf(entity -> {
+            final Pos position = entity.getPosition();
+            final BoundingBox box = entity.getBoundingBox();
+            return position.x() + box.minX() > maxX || position.x() + box.maxX() < minX ||
+                    position.y() + box.minY() > maxY || position.y() + box.maxY() < minY ||
+                    position.z() + box.minZ() > maxZ || position.z() + box.maxZ() < minZ;
+        });
+        return result;
+    }
+}
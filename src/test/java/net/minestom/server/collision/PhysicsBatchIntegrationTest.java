@@ -0,0 +1,70 @@
+package net.minestom.server.collision;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.block.Block;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class PhysicsBatchIntegrationTest {
+    private static final BoundingBox BOUNDING_BOX = new BoundingBox(0.25, 0.25, 0.25);
+    private static final Aerodynamics AERODYNAMICS = new Aerodynamics(0.04, 0.98, 0.98);
+
+    @Test
+    public void freeFall(Env env) {
+        var instance = env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+        var batch = new PhysicsBatch();
+        final int index = batch.add(new Pos(0.5, 60, 0.5), new Vec(0.1, 0, 0), BOUNDING_BOX, AERODYNAMICS, false, true, false);
+        batch.step(instance, instance.getWorldBorder());
+
+        // Same result as the individual simulation
+        var result = PhysicsUtils.simulateMovement(new Pos(0.5, 60, 0.5), new Vec(0.1, 0, 0), BOUNDING_BOX,
+                instance.getWorldBorder(), instance, AERODYNAMICS, false, true, false, false, null);
+        assertEquals(result.newPosition().x(), batch.x(index), Vec.EPSILON);
+        assertEquals(result.newPosition().y(), batch.y(index), Vec.EPSILON);
+        assertEquals(result.newPosition().z(), batch.z(index), Vec.EPSILON);
+        assertEquals(result.newVelocity().x(), batch.velocityX(index), Vec.EPSILON);
+        assertEquals(result.newVelocity().y(), batch.velocityY(index), Vec.EPSILON);
+        assertEquals(result.newVelocity().z(), batch.velocityZ(index), Vec.EPSILON);
+        assertFalse(batch.isOnGround(index));
+    }
+
+    @Test
+    public void landing(Env env) {
+        var instance = env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+        var batch = new PhysicsBatch();
+        final int first = batch.add(new Pos(0.5, 42, 0.5), new Vec(0, -0.5, 0), BOUNDING_BOX, AERODYNAMICS, false, true, false);
+        final int second = batch.add(new Pos(1.5, 45, 0.5), new Vec(0, -0.5, 0), BOUNDING_BOX, AERODYNAMICS, false, true, false);
+        for (int i = 0; i < 20; i++) batch.step(instance, instance.getWorldBorder());
+        assertEquals(40, batch.y(first), Vec.EPSILON);
+        assertEquals(40, batch.y(second), Vec.EPSILON);
+        assertTrue(batch.isOnGround(first));
+        assertTrue(batch.isOnGround(second));
+    }
+
+    @Test
+    public void wall(Env env) {
+        var instance = env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+        instance.setBlock(2, 40, 0, Block.STONE);
+        var batch = new PhysicsBatch();
+        final int index = batch.add(new Pos(1.5, 40, 0.5), new Vec(0.5, 0, 0), BOUNDING_BOX, AERODYNAMICS, true, true, true);
+        batch.step(instance, instance.getWorldBorder());
+        assertEquals(2 - BOUNDING_BOX.width() / 2, batch.x(index), Vec.EPSILON);
+        assertEquals(40, batch.y(index), Vec.EPSILON);
+        assertEquals(0, batch.velocityX(index));
+
+        // Batches are reusable
+        batch.clear();
+        assertEquals(0, batch.size());
+        assertEquals(0, batch.add(new Pos(1.5, 41, 0.5), new Vec(0.5, 0, 0), BOUNDING_BOX, AERODYNAMICS, true, true, false));
+        batch.step(instance, instance.getWorldBorder());
+        assertEquals(2, batch.x(0), Vec.EPSILON);
+    }
+}
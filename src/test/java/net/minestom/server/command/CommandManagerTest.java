@@ -3,9 +3,14 @@ package net.minestom.server.command;
 import net.minestom.server.command.builder.Command;
 import net.minestom.server.command.builder.CommandResult;
 import net.minestom.server.command.builder.arguments.ArgumentType;
+import net.minestom.server.entity.Player;
 import net.minestom.server.network.packet.server.play.DeclareCommandsPacket;
+import net.minestom.server.network.player.GameProfile;
 import org.junit.jupiter.api.Test;
 
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -103,6 +108,31 @@ public class CommandManagerTest {
         assertTrue(checkAB.get());
     }
 
+    @Test
+    public void testDeclareCommandsPacketCache() {
+        var manager = new CommandManager();
+        var first = new Player(null, new GameProfile(UUID.randomUUID(), "first"));
+        var second = new Player(null, new GameProfile(UUID.randomUUID(), "second"));
+        var third = new Player(null, new GameProfile(UUID.randomUUID(), "third"));
+        Set<CommandSender> allowed = new HashSet<>(Set.of(first, second));
+
+        var command = new Command("foo");
+        command.setCondition((sender, commandString) -> allowed.contains(sender));
+        manager.register(command, new Command("bar"));
+
+        var packet = manager.declareCommandsPacket(first);
+        assertSame(packet, manager.declareCommandsPacket(second));
+        assertNotSame(packet, manager.declareCommandsPacket(third));
+
+        // Conditions are evaluated again
+        allowed.remove(second);
+        assertSame(manager.declareCommandsPacket(third), manager.declareCommandsPacket(second));
+
+        // Registration invalidates the cache
+        manager.register(new Command("baz"));
+        assertNotSame(packet, manager.declareCommandsPacket(first));
+    }
+
     private static void assertNodeEquals(DeclareCommandsPacket.Node node, byte flags, int[] children, int redirectedNode,
                                          String name, String parser, byte[] properties, String suggestionsType) {
         assertEquals(flags, node.flags);
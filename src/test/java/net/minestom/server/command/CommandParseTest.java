@@ -4,6 +4,7 @@ import net.minestom.server.command.builder.arguments.ArgumentType;
 import org.junit.jupiter.api.Test;
 
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static net.minestom.server.command.builder.arguments.ArgumentType.Literal;
@@ -125,6 +126,35 @@ public class CommandParseTest {
         assertSyntaxError(foo, "bar");
     }
 
+    @Test
+    public void cachedParse() {
+        final AtomicBoolean b = new AtomicBoolean();
+        final AtomicInteger parseCount = new AtomicInteger();
+        var foo = Graph.merge(Graph.builder(Literal("foo"))
+                .append(Word("first").map(input -> {
+                    parseCount.incrementAndGet();
+                    return input;
+                }))
+                .append(ArgumentType.Integer("second"), createExecutor(b))
+                .build());
+        final CommandParser.Cache cache = CommandParser.cache();
+        final ServerSender sender = new ServerSender();
+
+        var result = CommandParser.parser().parse(sender, foo, "foo a 1", cache);
+        assertInstanceOf(CommandParser.Result.KnownCommand.Valid.class, result);
+        assertEquals(1, parseCount.get());
+        // Only the last word changed
+        result = CommandParser.parser().parse(sender, foo, "foo a 12", cache);
+        assertInstanceOf(CommandParser.Result.KnownCommand.Valid.class, result);
+        assertEquals(1, parseCount.get());
+        result.executable().execute(null);
+        assertTrue(b.get());
+
+        result = CommandParser.parser().parse(sender, foo, "foo b 12", cache);
+        assertInstanceOf(CommandParser.Result.KnownCommand.Valid.class, result);
+        assertEquals(2, parseCount.get());
+    }
+
     private static void assertSyntaxError(Graph graph, String input) {
         assertInstanceOf(CommandParser.Result.KnownCommand.Invalid.class, parseCommand(graph, input));
     }
@@ -0,0 +1,91 @@
+package net.minestom.server.entity;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.network.packet.server.play.EntityPositionAndRotationPacket;
+import net.minestom.server.network.packet.server.play.EntityPositionSyncPacket;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class EntityMovementLodIntegrationTest {
+
+    @Test
+    public void interval() {
+        var lod = new EntityMovementLod(new EntityMovementLod.Tier(64, 8), new EntityMovementLod.Tier(16, 2));
+        assertEquals(1, lod.interval(0));
+        assertEquals(1, lod.interval(15 * 15));
+        assertEquals(2, lod.interval(16 * 16));
+        assertEquals(2, lod.interval(63 * 63));
+        assertEquals(8, lod.interval(100 * 100));
+    }
+
+    @Test
+    public void distantViewerMerged(Env env) {
+        EntityMovementLod.register(EntityType.ARMADILLO, new EntityMovementLod(new EntityMovementLod.Tier(16, 4)));
+        try {
+            var instance = env.createFlatInstance();
+            var near = env.createConnection();
+            var far = env.createConnection();
+            near.connect(instance, new Pos(0, 40, 4));
+            far.connect(instance, new Pos(0, 40, 48));
+
+            var entity = new Entity(EntityType.ARMADILLO);
+            entity.setNoGravity(true);
+            entity.setInstance(instance, new Pos(0, 40, 0)).join();
+            env.tick();
+
+            var nearTracker = near.trackIncoming(EntityPositionAndRotationPacket.class);
+            var farTracker = far.trackIncoming(EntityPositionAndRotationPacket.class);
+            for (int i = 1; i <= 8; i++) {
+                entity.refreshPosition(new Pos(i * 0.25, 40, 0));
+                env.tick();
+            }
+            // Let the distant viewer catch up
+            for (int i = 0; i < 4; i++) env.tick();
+            nearTracker.assertCount(8);
+            final int farCount = farTracker.collect().size();
+            assertTrue(farCount >= 2 && farCount <= 3, "Unexpected update count: " + farCount);
+            // Merged deltas add up to the same movement
+            double farDelta = 0;
+            for (var packet : farTracker.collect()) farDelta += packet.deltaX() / (32d * 128);
+            double nearDelta = 0;
+            for (var packet : nearTracker.collect()) nearDelta += packet.deltaX() / (32d * 128);
+            assertEquals(nearDelta, farDelta, 1 / (32d * 128));
+        } finally {
+            EntityMovementLod.register(EntityType.ARMADILLO, null);
+        }
+    }
+
+    @Test
+    public void unregisterSynchronizes(Env env) {
+        EntityMovementLod.register(EntityType.ARMADILLO, new EntityMovementLod(new EntityMovementLod.Tier(16, 100)));
+        try {
+            var instance = env.createFlatInstance();
+            var far = env.createConnection();
+            far.connect(instance, new Pos(0, 40, 48));
+
+            var entity = new Entity(EntityType.ARMADILLO);
+            entity.setNoGravity(true);
+            entity.setInstance(instance, new Pos(0, 40, 0)).join();
+            env.tick();
+
+            var syncTracker = far.trackIncoming(EntityPositionSyncPacket.class);
+            entity.refreshPosition(new Pos(1, 40, 0));
+            env.tick();
+            entity.refreshPosition(new Pos(2, 40, 0));
+            env.tick();
+
+            // The distant viewer lagging behind receives the current position once the entity leaves the level of detail
+            EntityMovementLod.register(EntityType.ARMADILLO, null);
+            env.tick();
+            var packets = syncTracker.collect();
+            assertFalse(packets.isEmpty());
+            assertEquals(new Pos(2, 40, 0), packets.getLast().position());
+        } finally {
+            EntityMovementLod.register(EntityType.ARMADILLO, null);
+        }
+    }
+}
@@ -1,11 +1,15 @@
 package net.minestom.server.entity;
 
+import net.minestom.server.Tickable;
 import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
 import net.minestom.server.instance.block.Block;
 import net.minestom.testing.Env;
 import net.minestom.testing.EnvTest;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @EnvTest
@@ -29,4 +33,20 @@ public class EntityPhysicsIntegrationTest
             assertTrue(entity.onGround, "entity needs to be grounded on tick: " + entity.getAliveTicks());
         }
     }
+
+    @Test
+    public void batchedBlockPlacedAfterStep(Env env) {
+        var instance = env.createFlatInstance();
+        var entity = new Entity(EntityType.ITEM);
+        entity.setInstance(instance, new Pos(1.5, 40, 0.5)).join();
+        entity.setNoGravity(true);
+        entity.setVelocity(new Vec(10, 0, 0));
+
+        var batch = new EntityPhysicsBatch();
+        batch.step(List.<Tickable>of(entity));
+        // Placed between the batched step and the entity tick, must not be crossed
+        instance.setBlock(2, 40, 0, Block.STONE);
+        entity.movementTick();
+        assertEquals(2 - entity.getBoundingBox().width() / 2, entity.getPosition().x(), Vec.EPSILON);
+    }
 }
@@ -0,0 +1,78 @@
+package net.minestom.server.entity.ai;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GoalSchedulerTest {
+
+    @Test
+    public void interval() {
+        var clock = new GoalScheduler.Clock(4, 8, -1);
+        var scheduler = new GoalScheduler(clock);
+        int viewed = 0, unviewed = 0;
+        for (int i = 0; i < 32; i++) {
+            if (scheduler.shouldSelect(1, true)) viewed++;
+            if (scheduler.shouldSelect(1, false)) unviewed++;
+            clock.nextTick();
+        }
+        assertEquals(8, viewed);
+        assertEquals(4, unviewed);
+    }
+
+    @Test
+    public void phase() {
+        var clock = new GoalScheduler.Clock(4, 4, -1);
+        var first = new GoalScheduler(clock);
+        var second = new GoalScheduler(clock);
+        for (int i = 0; i < 8; i++) {
+            assertFalse(first.shouldSelect(0, true) && second.shouldSelect(1, true));
+            clock.nextTick();
+        }
+    }
+
+    @Test
+    public void budget() {
+        var clock = new GoalScheduler.Clock(1, 1, 2);
+        var schedulers = new GoalScheduler[6];
+        for (int i = 0; i < schedulers.length; i++) schedulers[i] = new GoalScheduler(clock);
+        int[] selections = new int[schedulers.length];
+        for (int tick = 0; tick < 60; tick++) {
+            int selected = 0;
+            for (int i = 0; i < schedulers.length; i++) {
+                if (schedulers[i].shouldSelect(i, true)) {
+                    selections[i]++;
+                    selected++;
+                }
+            }
+            assertTrue(selected <= 2);
+            clock.nextTick();
+        }
+        // Round-robin
+        for (int count : selections) assertTrue(count >= 18 && count <= 21, "selections: " + count);
+    }
+
+    @Test
+    public void burst() {
+        var clock = new GoalScheduler.Clock(1, 1, 2);
+        // Idle ticks, the budget is not accumulated
+        for (int tick = 0; tick < 5; tick++) clock.nextTick();
+        var schedulers = new GoalScheduler[10];
+        for (int i = 0; i < schedulers.length; i++) schedulers[i] = new GoalScheduler(clock);
+        boolean[] selected = new boolean[schedulers.length];
+        int remaining = schedulers.length;
+        for (int tick = 0; tick < 20 && remaining > 0; tick++) {
+            int count = 0;
+            for (int i = 0; i < schedulers.length; i++) {
+                if (!selected[i] && schedulers[i].shouldSelect(i, true)) {
+                    selected[i] = true;
+                    count++;
+                }
+            }
+            assertTrue(count <= 2, "selected: " + count);
+            remaining -= count;
+            clock.nextTick();
+        }
+        assertEquals(0, remaining);
+    }
+}
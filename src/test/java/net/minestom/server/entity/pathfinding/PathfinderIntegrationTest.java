@@ -16,6 +16,7 @@ import java.util.List;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 @EnvTest
@@ -130,6 +131,34 @@ public class PathfinderIntegrationTest {
         validateNodes(nav.getNodes(), i);
     }
 
+    @Test
+    public void testRepeatedRequests(Env env) {
+        var i = env.createFlatInstance();
+
+        ChunkRange.chunksInRange(0, 0, 10, (x, z) -> {
+            i.loadChunk(x, z).join();
+        });
+
+        var zombie = new LivingEntity(EntityType.ZOMBIE);
+        zombie.setInstance(i, new Pos(0, 40, 0));
+
+        Navigator nav = new Navigator(zombie);
+        // Requests received while computing are merged, the latest one is computed next
+        for (int j = 0; j < 10; j++) {
+            assertTrue(nav.setPathTo(new Pos(0, 40, 10)));
+        }
+        assertTrue(nav.setPathTo(new Pos(10, 40, 0)));
+        while (nav.getState() == PPath.State.CALCULATING) {
+        }
+        validateNodes(nav.getNodes(), i);
+
+        // Picked up by the navigator tick
+        do {
+            nav.tick();
+        } while (nav.getNodes().getLast().blockX() != 10);
+        validateNodes(nav.getNodes(), i);
+    }
+
     @Test
     public void testPFNodeEqual(Env env) {
         PNode node1 = new PNode(new Pos(0.777, 0, 0), 2, 0, PNode.Type.WALK, null);
@@ -6,12 +6,13 @@ import net.minestom.server.coordinate.Pos;
 import net.minestom.server.coordinate.Vec;
 import net.minestom.server.entity.Player;
 import net.minestom.server.event.player.PlayerMoveEvent;
+import net.minestom.server.event.player.PlayerTickEndEvent;
 import net.minestom.server.instance.Chunk;
 import net.minestom.server.instance.Instance;
+import net.minestom.server.listener.manager.MovementCoalescer;
 import net.minestom.server.message.ChatMessageType;
 import net.minestom.server.network.packet.client.common.ClientSettingsPacket;
-import net.minestom.server.network.packet.client.play.ClientPlayerPositionPacket;
-import net.minestom.server.network.packet.client.play.ClientTeleportConfirmPacket;
+import net.minestom.server.network.packet.client.play.*;
 import net.minestom.server.network.packet.server.play.ChunkDataPacket;
 import net.minestom.server.network.packet.server.play.EntityPositionPacket;
 import net.minestom.server.network.packet.server.play.PlayerPositionAndLookPacket;
@@ -24,12 +25,16 @@ import net.minestom.testing.EnvTest;
 import net.minestom.testing.TestConnection;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 @EnvTest
 public class PlayerMovementIntegrationTest {
@@ -200,4 +205,55 @@ public class PlayerMovementIntegrationTest {
             assertEquals(Vec.ZERO, packet.delta());
         });
     }
+
+    @Test
+    public void coalescedMovement(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        var p1 = connection.connect(instance, new Pos(0, 40, 0));
+        p1.refreshReceivedTeleportId(p1.getLastSentTeleportId());
+        var coalescer = new MovementCoalescer(p1.getPlayerConnection());
+
+        AtomicInteger moveCount = new AtomicInteger();
+        List<Pos> tickEndPositions = new ArrayList<>();
+        instance.eventNode().addListener(PlayerMoveEvent.class, event -> moveCount.incrementAndGet());
+        instance.eventNode().addListener(PlayerTickEndEvent.class, event -> tickEndPositions.add(event.getPlayer().getPosition()));
+
+        // A burst of client ticks results in a single move, the tick ends are replayed after it
+        coalescer.process(new ClientPlayerPositionPacket(new Pos(0.2, 40, 0), true, false));
+        coalescer.process(new ClientPlayerRotationPacket(90, 10, true, false));
+        coalescer.process(new ClientTickEndPacket());
+        coalescer.process(new ClientPlayerPositionPacket(new Pos(0.4, 40, 0), true, true));
+        coalescer.process(new ClientTickEndPacket());
+        coalescer.process(new ClientPlayerPositionPacket(new Pos(0.6, 40, 0), true, false));
+        coalescer.process(new ClientTickEndPacket());
+        assertEquals(0, moveCount.get());
+        assertEquals(List.of(), tickEndPositions);
+        coalescer.flush();
+        assertEquals(1, moveCount.get());
+        final Pos merged = new Pos(0.6, 40, 0, 90, 10);
+        assertEquals(List.of(merged, merged, merged), tickEndPositions);
+
+        // On-ground changes are never merged, tick ends stay after their movement
+        tickEndPositions.clear();
+        coalescer.process(new ClientPlayerPositionPacket(new Pos(1, 41, 0), false, false));
+        coalescer.process(new ClientTickEndPacket());
+        coalescer.process(new ClientPlayerPositionPacket(new Pos(1, 40, 0), true, false));
+        coalescer.process(new ClientTickEndPacket());
+        coalescer.process(new ClientPlayerPositionPacket(new Pos(1, 40.5, 0), false, false));
+        coalescer.process(new ClientTickEndPacket());
+        coalescer.flush();
+        assertEquals(4, moveCount.get());
+        assertEquals(List.of(new Pos(1, 41, 0, 90, 10), new Pos(1, 40, 0, 90, 10), new Pos(1, 40.5, 0, 90, 10)),
+                tickEndPositions);
+        assertFalse(p1.isOnGround());
+
+        // Other packets are processed in order
+        coalescer.process(new ClientPlayerPositionPacket(new Pos(1.2, 40, 0), true, false));
+        coalescer.process(new ClientTeleportConfirmPacket(p1.getLastSentTeleportId()));
+        coalescer.process(new ClientPlayerPositionStatusPacket(true, false));
+        coalescer.flush();
+        assertEquals(5, moveCount.get());
+        assertEquals(new Pos(1.2, 40, 0, 90, 10), p1.getPosition());
+    }
 }
@@ -0,0 +1,182 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.EntityType;
+import net.minestom.server.tag.Tag;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class ChunkTicketsIntegrationTest {
+
+    @Test
+    public void disabled(Env env) {
+        var instance = (InstanceContainer) env.createFlatInstance(IChunkLoader.noop());
+        var chunk = instance.loadChunk(5, 5).join();
+        tick(env, 40);
+        assertTrue(chunk.isLoaded());
+    }
+
+    @Test
+    public void evict(Env env) {
+        List<Chunk> saved = new ArrayList<>();
+        var instance = (InstanceContainer) env.createFlatInstance(new IChunkLoader() {
+            @Override
+            public Chunk loadChunk(Instance instance, int chunkX, int chunkZ) {
+                return null;
+            }
+
+            @Override
+            public void saveChunk(Chunk chunk) {
+                saved.add(chunk);
+            }
+        });
+        var tickets = instance.getChunkTickets();
+        tickets.setGracePeriod(20);
+        var chunk = instance.loadChunk(5, 5).join();
+        assertEquals(1, tickets.loadedChunks());
+
+        tick(env, 20);
+        assertTrue(chunk.isLoaded());
+        assertEquals(0, tickets.tickingChunks());
+        assertEquals(1, tickets.pendingChunks());
+
+        tick(env, 20);
+        assertFalse(chunk.isLoaded());
+        assertNull(instance.getChunk(5, 5));
+        assertEquals(List.of(chunk), saved);
+        assertEquals(0, tickets.loadedChunks());
+    }
+
+    @Test
+    public void tagChangedDuringSave(Env env) throws InterruptedException {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var instance = (InstanceContainer) env.createFlatInstance(new IChunkLoader() {
+            @Override
+            public Chunk loadChunk(Instance instance, int chunkX, int chunkZ) {
+                return null;
+            }
+
+            @Override
+            public void saveChunks(Collection<Chunk> chunks) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+
+            @Override
+            public void saveChunk(Chunk chunk) {
+            }
+
+            @Override
+            public boolean supportsParallelSaving() {
+                return true;
+            }
+        });
+        var tickets = instance.getChunkTickets();
+        tickets.setGracePeriod(0);
+        var chunk = instance.loadChunk(5, 5).join();
+
+        tick(env, 20);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        // Not part of the save, the chunk must stay loaded
+        chunk.setTag(Tag.Integer("modified"), 1);
+        release.countDown();
+        for (int i = 0; i < 10; i++) {
+            Thread.sleep(10);
+            env.tick();
+        }
+        assertTrue(chunk.isLoaded());
+    }
+
+    @Test
+    public void pluginTicket(Env env) {
+        var instance = (InstanceContainer) env.createFlatInstance(IChunkLoader.noop());
+        var tickets = instance.getChunkTickets();
+        tickets.setGracePeriod(0);
+        var chunk = instance.loadChunk(5, 5).join();
+        tickets.addTicket(5, 5);
+        tickets.addTicket(5, 5);
+        assertTrue(tickets.hasTicket(5, 5));
+
+        tick(env, 40);
+        assertTrue(chunk.isLoaded());
+        assertEquals(1, tickets.tickingChunks());
+
+        assertTrue(tickets.removeTicket(5, 5));
+        tick(env, 20);
+        assertTrue(chunk.isLoaded());
+
+        assertTrue(tickets.removeTicket(5, 5));
+        assertFalse(tickets.removeTicket(5, 5));
+        assertFalse(tickets.hasTicket(5, 5));
+        tick(env, 20);
+        assertFalse(chunk.isLoaded());
+    }
+
+    @Test
+    public void timedTicket(Env env) {
+        var instance = (InstanceContainer) env.createFlatInstance(IChunkLoader.noop());
+        var tickets = instance.getChunkTickets();
+        tickets.setGracePeriod(0);
+        var chunk = instance.loadChunk(5, 5).join();
+        tickets.addTimedTicket(5, 5, 30);
+
+        tick(env, 20);
+        assertTrue(chunk.isLoaded());
+
+        tick(env, 20);
+        assertFalse(chunk.isLoaded());
+    }
+
+    @Test
+    public void entityTicket(Env env) {
+        var instance = (InstanceContainer) env.createFlatInstance(IChunkLoader.noop());
+        var tickets = instance.getChunkTickets();
+        tickets.setGracePeriod(0);
+        var entity = new Entity(EntityType.ZOMBIE);
+        entity.setInstance(instance, new Pos(80, 40, 80)).join();
+        var chunk = instance.getChunk(5, 5);
+        assertNotNull(chunk);
+
+        tick(env, 40);
+        assertTrue(chunk.isLoaded());
+
+        entity.remove();
+        tick(env, 20);
+        assertFalse(chunk.isLoaded());
+    }
+
+    @Test
+    public void playerTicket(Env env) {
+        var instance = (InstanceContainer) env.createFlatInstance(IChunkLoader.noop());
+        var tickets = instance.getChunkTickets();
+        tickets.setGracePeriod(0);
+        var player = env.createPlayer(instance, new Pos(0, 40, 0));
+        final int range = player.effectiveViewDistance();
+        var far = instance.loadChunk(range + 10, 0).join();
+
+        tick(env, 20);
+        assertTrue(tickets.hasTicket(range, range));
+        assertTrue(instance.getChunk(range, range).isLoaded());
+        assertFalse(far.isLoaded());
+    }
+
+    private static void tick(Env env, int ticks) {
+        for (int i = 0; i < ticks; i++) env.tick();
+    }
+}
@@ -4,6 +4,7 @@ import net.minestom.server.coordinate.BlockVec;
 import net.minestom.server.coordinate.Vec;
 import net.minestom.server.entity.Entity;
 import net.minestom.server.entity.EntityType;
+import net.minestom.server.tag.Tag;
 import org.junit.jupiter.api.Test;
 
 import java.util.HashSet;
@@ -246,4 +247,53 @@ public class EntityTrackerTest {
         assertThrows(Exception.class, () -> entities.add(new Entity(EntityType.ZOMBIE)));
         assertThrows(Exception.class, () -> chunkEntities.add(new Entity(EntityType.ZOMBIE)));
     }
+
+    @Test
+    public void typeTarget() {
+        var zombie = new Entity(EntityType.ZOMBIE);
+        var cow = new Entity(EntityType.COW);
+        EntityTracker tracker = EntityTracker.newTracker();
+        tracker.register(zombie, Vec.ZERO, EntityTracker.Target.ENTITIES, null);
+
+        var zombies = EntityTracker.Target.of(EntityType.ZOMBIE);
+        assertSame(zombies, EntityTracker.Target.of(EntityType.ZOMBIE));
+        // Built on first use
+        assertEquals(Set.of(zombie), tracker.entities(zombies));
+
+        tracker.register(cow, Vec.ZERO, EntityTracker.Target.ENTITIES, null);
+        assertEquals(Set.of(zombie), tracker.entities(zombies));
+
+        tracker.move(zombie, new Vec(32, 0, 32), EntityTracker.Target.ENTITIES, null);
+        assertTrue(tracker.chunkEntities(Vec.ZERO, zombies).isEmpty());
+        assertEquals(1, tracker.chunkEntities(new Vec(32, 0, 32), zombies).size());
+        Set<Entity> nearby = new HashSet<>();
+        tracker.nearbyEntities(new Vec(30, 0, 30), 5, zombies, nearby::add);
+        assertEquals(Set.of(zombie), nearby);
+
+        tracker.unregister(zombie, EntityTracker.Target.ENTITIES, null);
+        assertTrue(tracker.entities(zombies).isEmpty());
+        assertTrue(tracker.chunkEntities(new Vec(32, 0, 32), zombies).isEmpty());
+    }
+
+    @Test
+    public void predicateTarget() {
+        var tag = Tag.Boolean("tracked");
+        var target = EntityTracker.Target.withTag(tag);
+        var ent1 = new Entity(EntityType.ZOMBIE);
+        var ent2 = new Entity(EntityType.ZOMBIE);
+        ent1.setTag(tag, true);
+        EntityTracker tracker = EntityTracker.newTracker();
+        assertTrue(tracker.entities(target).isEmpty());
+
+        tracker.register(ent1, Vec.ZERO, EntityTracker.Target.ENTITIES, null);
+        tracker.register(ent2, Vec.ZERO, EntityTracker.Target.ENTITIES, null);
+        assertEquals(Set.of(ent1), tracker.entities(target));
+
+        ent2.setTag(tag, true);
+        tracker.refresh(ent2);
+        ent1.removeTag(tag);
+        tracker.refresh(ent1);
+        assertEquals(Set.of(ent2), tracker.entities(target));
+        assertEquals(1, tracker.chunkEntities(Vec.ZERO, target).size());
+    }
 }
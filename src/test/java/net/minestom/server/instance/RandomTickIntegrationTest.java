@@ -0,0 +1,66 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.block.BlockHandler;
+import net.minestom.server.instance.block.BlockManager;
+import net.minestom.server.instance.block.RandomTickHandler;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class RandomTickIntegrationTest {
+
+    @Test
+    public void growth(Env env) {
+        var instance = env.createFlatInstance();
+        instance.setRandomTickSpeed(4096);
+        var blockPosition = new Vec(8, 40, 8);
+        instance.loadChunk(blockPosition).join();
+        instance.setBlock(blockPosition, Block.WHEAT);
+        var chunk = instance.getChunkAt(blockPosition);
+        assertNotNull(chunk);
+
+        AtomicInteger ticks = new AtomicInteger();
+        var handler = new RandomTickHandler() {
+            @Override
+            public void randomTick(BlockHandler.Tick tick) {
+                ticks.incrementAndGet();
+                assertFalse(Thread.holdsLock(chunk), "Handlers must not hold the chunk lock");
+                assertEquals(blockPosition, tick.getBlockPosition().asVec());
+                final int age = Integer.parseInt(tick.getBlock().getProperty("age"));
+                tick.getInstance().setBlock(tick.getBlockPosition(), tick.getBlock().withProperty("age", String.valueOf(age + 1)));
+            }
+
+            @Override
+            public boolean isRandomlyTicking(Block state) {
+                return !state.getProperty("age").equals("7");
+            }
+        };
+        final BlockManager blockManager = MinecraftServer.getBlockManager();
+        blockManager.registerRandomTickHandler(Block.WHEAT, handler);
+        try {
+            assertSame(handler, blockManager.getRandomTickHandler(Block.WHEAT));
+            assertNull(blockManager.getRandomTickHandler(Block.WHEAT.withProperty("age", "7")));
+
+            for (int i = 0; i < 200; i++) chunk.tick(0);
+            // Fully grown wheat is no longer ticked
+            assertEquals(7, ticks.get());
+            assertEquals("7", instance.getBlock(blockPosition).getProperty("age"));
+
+            instance.setBlock(blockPosition, Block.WHEAT);
+            instance.setRandomTickSpeed(0);
+            for (int i = 0; i < 20; i++) chunk.tick(0);
+            assertEquals(7, ticks.get());
+        } finally {
+            blockManager.unregisterRandomTickHandler(Block.WHEAT);
+        }
+        assertNull(blockManager.getRandomTickHandler(Block.WHEAT));
+    }
+}
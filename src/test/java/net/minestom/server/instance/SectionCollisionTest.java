@@ -0,0 +1,58 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.instance.block.Block;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SectionCollisionTest {
+
+    @Test
+    public void blocks() {
+        assertEquals(Section.NO_COLLISION, Section.collision(Block.AIR));
+        assertEquals(Section.NO_COLLISION, Section.collision(Block.SHORT_GRASS));
+        assertEquals(Section.FULL_COLLISION, Section.collision(Block.STONE));
+        assertEquals(Section.PARTIAL_COLLISION, Section.collision(Block.STONE_SLAB));
+        assertEquals(Section.PARTIAL_COLLISION, Section.collision(Block.OAK_FENCE));
+        assertEquals(Section.PARTIAL_COLLISION, Section.collision(Block.OAK_STAIRS));
+    }
+
+    @Test
+    public void uniform() {
+        Section section = new Section();
+        assertEquals(Section.NO_COLLISION, section.collision(0, 0, 0));
+        section.blockPalette().fill(Block.STONE.stateId());
+        assertEquals(Section.FULL_COLLISION, section.collision(15, 15, 15));
+    }
+
+    @Test
+    public void incremental() {
+        Section section = new Section();
+        assertEquals(Section.NO_COLLISION, section.collision(1, 2, 3));
+
+        section.blockPalette().set(1, 2, 3, Block.STONE.stateId());
+        section.updateCollision(1, 2, 3, Block.STONE.stateId());
+        assertEquals(Section.FULL_COLLISION, section.collision(1, 2, 3));
+        assertEquals(Section.NO_COLLISION, section.collision(3, 2, 1));
+
+        section.blockPalette().set(3, 2, 1, Block.STONE_SLAB.stateId());
+        section.updateCollision(3, 2, 1, Block.STONE_SLAB.stateId());
+        assertEquals(Section.PARTIAL_COLLISION, section.collision(3, 2, 1));
+
+        section.blockPalette().set(1, 2, 3, Block.AIR.stateId());
+        section.updateCollision(1, 2, 3, Block.AIR.stateId());
+        assertEquals(Section.NO_COLLISION, section.collision(1, 2, 3));
+    }
+
+    @Test
+    public void rebuild() {
+        Section section = new Section();
+        assertEquals(Section.NO_COLLISION, section.collision(0, 0, 0));
+        // Modified without notifying the section
+        section.blockPalette().set(0, 0, 0, Block.STONE.stateId());
+        section.blockPalette().set(15, 15, 15, Block.OAK_FENCE.stateId());
+        assertEquals(Section.FULL_COLLISION, section.collision(0, 0, 0));
+        assertEquals(Section.PARTIAL_COLLISION, section.collision(15, 15, 15));
+        assertEquals(Section.NO_COLLISION, section.collision(8, 8, 8));
+    }
+}
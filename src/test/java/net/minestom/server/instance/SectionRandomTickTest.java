@@ -0,0 +1,75 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.block.RandomTickHandler;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SectionRandomTickTest {
+    private static final RandomTickHandler HANDLER = tick -> {
+    };
+
+    @Test
+    public void empty() {
+        Section section = new Section();
+        assertEquals(0, section.randomTickCount(new RandomTickHandler[0]));
+        assertEquals(0, section.randomTickCount(handlers(Block.WHEAT)));
+        assertFalse(section.isRandomlyTicking(0, 0, 0));
+    }
+
+    @Test
+    public void uniform() {
+        Section section = new Section();
+        section.blockPalette().fill(Block.STONE.stateId());
+        assertEquals(0, section.randomTickCount(handlers(Block.WHEAT)));
+        section.blockPalette().fill(Block.WHEAT.stateId());
+        assertEquals(4096, section.randomTickCount(handlers(Block.WHEAT)));
+        assertTrue(section.isRandomlyTicking(15, 15, 15));
+    }
+
+    @Test
+    public void incremental() {
+        final RandomTickHandler[] handlers = handlers(Block.WHEAT);
+        Section section = new Section();
+        assertEquals(0, section.randomTickCount(handlers));
+
+        section.blockPalette().set(1, 2, 3, Block.WHEAT.stateId());
+        section.updateRandomTick(1, 2, 3, Block.WHEAT.stateId());
+        assertEquals(1, section.randomTickCount(handlers));
+        assertTrue(section.isRandomlyTicking(1, 2, 3));
+        assertFalse(section.isRandomlyTicking(3, 2, 1));
+
+        section.blockPalette().set(3, 2, 1, Block.STONE.stateId());
+        section.updateRandomTick(3, 2, 1, Block.STONE.stateId());
+        assertEquals(1, section.randomTickCount(handlers));
+
+        section.blockPalette().set(1, 2, 3, Block.AIR.stateId());
+        section.updateRandomTick(1, 2, 3, Block.AIR.stateId());
+        assertEquals(0, section.randomTickCount(handlers));
+        assertFalse(section.isRandomlyTicking(1, 2, 3));
+    }
+
+    @Test
+    public void rebuild() {
+        Section section = new Section();
+        assertEquals(0, section.randomTickCount(handlers(Block.WHEAT)));
+        // Modified without notifying the section
+        section.blockPalette().set(0, 0, 0, Block.WHEAT.stateId());
+        section.blockPalette().set(15, 15, 15, Block.OAK_LEAVES.stateId());
+        assertEquals(1, section.randomTickCount(handlers(Block.WHEAT)));
+        assertTrue(section.isRandomlyTicking(0, 0, 0));
+        // Handlers changed
+        assertEquals(2, section.randomTickCount(handlers(Block.WHEAT, Block.OAK_LEAVES)));
+        assertTrue(section.isRandomlyTicking(15, 15, 15));
+        assertFalse(section.isRandomlyTicking(8, 8, 8));
+    }
+
+    private static RandomTickHandler[] handlers(Block... blocks) {
+        RandomTickHandler[] handlers = new RandomTickHandler[Block.statesCount()];
+        for (Block block : blocks) {
+            for (Block state : block.possibleStates()) handlers[state.stateId()] = HANDLER;
+        }
+        return handlers;
+    }
+}
@@ -158,4 +158,47 @@ class BlockHandlerIntegrationTest {
         chunk.tick(0);
         assertFalse(ticked.get(), "Chunk ticked block when it no longer exists!");
     }
+
+    @Test
+    void testParallelTick(Env env) {
+        var instance = env.createFlatInstance();
+        var blockPosition = new BlockVec(64, 40, -64);
+        var above = blockPosition.add(0, 1, 0);
+
+        AtomicBoolean ticked = new AtomicBoolean(false);
+        var handler = new BlockHandler() {
+            @Override
+            public void tick(ParallelTick tick) {
+                ticked.set(true);
+                var view = tick.getChunkView();
+                assertTrue(view.getBlock(tick.getBlockPosition()).compare(Block.STONE));
+                assertNull(view.getBlock(tick.getBlockPosition().add(16, 0, 0), Block.Getter.Condition.NONE),
+                        "View must be limited to the chunk");
+                if (view.getBlock(above).isAir()) tick.setBlock(above, Block.DIRT);
+            }
+
+            @Override
+            public Key getKey() {
+                return Key.key("minestom:test");
+            }
+
+            @Override
+            public boolean isTickable() {
+                return true;
+            }
+
+            @Override
+            public boolean isParallelTickable() {
+                return true;
+            }
+        };
+
+        instance.setBlock(blockPosition, Block.STONE.withHandler(handler));
+        var chunk = instance.getChunk(4, -4);
+        assertNotNull(chunk);
+        chunk.tick(0);
+
+        assertTrue(ticked.get());
+        assertEquals(Block.DIRT, instance.getBlock(above));
+    }
 }
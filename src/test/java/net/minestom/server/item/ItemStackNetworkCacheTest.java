@@ -0,0 +1,62 @@
+package net.minestom.server.item;
+
+import net.kyori.adventure.text.Component;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.component.DataComponent;
+import net.minestom.server.component.DataComponents;
+import net.minestom.server.network.NetworkBuffer;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ItemStackNetworkCacheTest {
+
+    static {
+        MinecraftServer.init();
+    }
+
+    @Test
+    public void identity() {
+        var cache = new ItemStackNetworkCache<String>(16);
+        var item = ItemStack.of(Material.STONE);
+        var equalItem = ItemStack.of(Material.STONE);
+        assertNull(cache.get(item, null));
+
+        cache.put(item, null, "stone");
+        assertEquals("stone", cache.get(item, null));
+        assertNull(cache.get(equalItem, null), "Cache must be identity based");
+        assertNull(cache.get(item, MinecraftServer.process()), "Cache must be registry aware");
+    }
+
+    @Test
+    public void capacity() {
+        assertEquals(1, new ItemStackNetworkCache<>(1).capacity());
+        assertEquals(8, new ItemStackNetworkCache<>(5).capacity());
+        assertEquals(4096, new ItemStackNetworkCache<>(4096).capacity());
+    }
+
+    @Test
+    public void sameBytes() {
+        var cache = new ItemStackNetworkCache<byte[]>(16);
+        var cachedType = ItemStackImpl.networkType(DataComponent.PATCH_NETWORK_TYPE, cache);
+        var uncachedType = ItemStackImpl.networkType(DataComponent.PATCH_NETWORK_TYPE, null);
+        var item = ItemStack.builder(Material.DIAMOND_SWORD)
+                .amount(3)
+                .set(DataComponents.CUSTOM_NAME, Component.text("Sword"))
+                .set(DataComponents.LORE, List.of(Component.text("line")))
+                .build();
+
+        var registries = MinecraftServer.process();
+        var expected = NetworkBuffer.makeArray(uncachedType, item, registries);
+        assertArrayEquals(expected, NetworkBuffer.makeArray(cachedType, item, registries));
+        assertNotNull(cache.get(item, registries));
+        // Second write is served from the cache
+        assertArrayEquals(expected, NetworkBuffer.makeArray(cachedType, item, registries));
+
+        var buffer = NetworkBuffer.resizableBuffer(registries);
+        buffer.write(cachedType, item);
+        assertEquals(item, buffer.read(uncachedType));
+    }
+}
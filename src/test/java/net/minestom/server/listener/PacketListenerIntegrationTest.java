@@ -3,13 +3,18 @@ package net.minestom.server.listener;
 import net.minestom.server.coordinate.Pos;
 import net.minestom.server.entity.GameMode;
 import net.minestom.server.event.player.PlayerGameModeRequestEvent;
+import net.minestom.server.listener.manager.PacketListenerManager;
+import net.minestom.server.network.ConnectionState;
+import net.minestom.server.network.packet.client.ClientPacket;
 import net.minestom.server.network.packet.client.play.ClientChangeGameModePacket;
 import net.minestom.testing.Env;
 import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -32,6 +37,23 @@ public class PacketListenerIntegrationTest {
         player.tick(0);
     }
 
+    @Test
+    public void unknownPacketListener(Env env) {
+        var player = env.createPlayer(env.createFlatInstance(), new Pos(0, 41, 0));
+        var manager = new PacketListenerManager();
+        var count = new AtomicInteger();
+        // Packets outside the vanilla registry are still accepted
+        manager.setListener(ConnectionState.LOGIN, CustomPacket.class, (packet, connection) -> count.incrementAndGet());
+        manager.processClientPacket(new CustomPacket(), player.getPlayerConnection(), ConnectionState.LOGIN);
+        assertEquals(1, count.get());
+        // Only in the state they were registered for
+        manager.processClientPacket(new CustomPacket(), player.getPlayerConnection(), ConnectionState.STATUS);
+        assertEquals(1, count.get());
+    }
+
+    private record CustomPacket() implements ClientPacket {
+    }
+
     // Junit does not support @EnumSource with the same enum value for both
     private static Stream<Arguments> gameModePairs() {
         return Stream.of(GameMode.values())
@@ -0,0 +1,55 @@
+package net.minestom.server.map;
+
+import net.minestom.server.map.framebuffers.DirectFramebuffer;
+import net.minestom.server.map.framebuffers.LargeDirectFramebuffer;
+import net.minestom.server.network.packet.server.play.MapDataPacket;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FramebufferTest {
+
+    @Test
+    public void updatePacket() {
+        var framebuffer = new DirectFramebuffer();
+        var sent = new byte[Framebuffer.WIDTH * Framebuffer.HEIGHT];
+        assertNull(framebuffer.prepareUpdatePacket(1, sent));
+
+        final byte red = MapColors.COLOR_RED.baseColor();
+        framebuffer.set(10, 20, red).set(30, 5, red);
+        var content = framebuffer.prepareUpdatePacket(1, sent).colorContent();
+        assertEquals(10, content.x());
+        assertEquals(5, content.z());
+        assertEquals(21, content.columns());
+        assertEquals(16, content.rows());
+        assertEquals(21 * 16, content.data().length);
+        assertEquals(red, content.data()[15 * 21]); // (10, 20)
+        assertEquals(red, content.data()[20]); // (30, 5)
+        assertEquals(red, sent[Framebuffer.index(10, 20)]);
+
+        // Already sent
+        assertNull(framebuffer.prepareUpdatePacket(1, sent));
+
+        framebuffer.set(10, 20, MapColors.NONE.multiply71());
+        content = framebuffer.prepareUpdatePacket(1, sent).colorContent();
+        assertEquals(10, content.x());
+        assertEquals(20, content.z());
+        assertEquals(1, content.columns());
+        assertEquals(1, content.rows());
+    }
+
+    @Test
+    public void largeUpdatePacket() {
+        var framebuffer = new LargeDirectFramebuffer(256, 256);
+        var sent = new byte[Framebuffer.WIDTH * Framebuffer.HEIGHT];
+        assertNull(framebuffer.prepareUpdatePacket(1, 128, 0, sent));
+
+        framebuffer.setMapColor(200, 100, MapColors.GRASS.baseColor());
+        assertNull(framebuffer.prepareUpdatePacket(1, 0, 0, new byte[sent.length]));
+        MapDataPacket packet = framebuffer.prepareUpdatePacket(1, 128, 0, sent);
+        assertNotNull(packet);
+        assertEquals(72, packet.colorContent().x());
+        assertEquals(100, packet.colorContent().z());
+        assertArrayEquals(new byte[]{MapColors.GRASS.baseColor()}, packet.colorContent().data());
+    }
+}
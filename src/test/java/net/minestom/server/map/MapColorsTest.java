@@ -0,0 +1,25 @@
+package net.minestom.server.map;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class MapColorsTest {
+
+    @Test
+    public void rgbTable() {
+        final byte[] table = MapColors.computeRGBTable();
+        final Random random = new Random(0);
+        for (int i = 0; i < 10_000; i++) {
+            final int rgb = random.nextInt(0x1000000);
+            assertEquals(MapColors.closestColor(rgb).getIndex(), table[rgb], "rgb " + Integer.toHexString(rgb));
+        }
+        for (MapColors color : MapColors.values()) {
+            if (color == MapColors.NONE) continue;
+            final int rgb = (color.red() << 16) | (color.green() << 8) | color.blue();
+            assertEquals(color.baseColor(), table[rgb]);
+        }
+    }
+}
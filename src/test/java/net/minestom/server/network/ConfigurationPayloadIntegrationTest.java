@@ -0,0 +1,49 @@
+package net.minestom.server.network;
+
+import net.kyori.adventure.key.Key;
+import net.minestom.server.event.player.PlayerPacketOutEvent;
+import net.minestom.server.gamedata.DataPack;
+import net.minestom.server.network.packet.server.BufferedPacket;
+import net.minestom.server.world.DimensionType;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class ConfigurationPayloadIntegrationTest {
+
+    @Test
+    public void cached(Env env) {
+        var connection = env.process().connection();
+        BufferedPacket payload = connection.configurationPayload(env.process(), true);
+        assertNotNull(payload);
+        assertSame(payload, connection.configurationPayload(env.process(), true));
+    }
+
+    @Test
+    public void registryChange(Env env) {
+        var connection = env.process().connection();
+        BufferedPacket payload = connection.configurationPayload(env.process(), true);
+        assertNotNull(payload);
+
+        env.process().dimensionType().register(Key.key("minestom:payload_test"),
+                DimensionType.builder().ambientLight(2f).build(), DataPack.MINESTOM_UNNAMED);
+        BufferedPacket updated = connection.configurationPayload(env.process(), true);
+        assertNotNull(updated);
+        assertNotSame(payload, updated);
+        // The new dimension is part of the payload
+        assertTrue(updated.length() > payload.length());
+        assertSame(updated, connection.configurationPayload(env.process(), true));
+    }
+
+    @Test
+    public void outgoingListener(Env env) {
+        var connection = env.process().connection();
+        env.process().eventHandler().addListener(PlayerPacketOutEvent.class, event -> {
+        });
+        // Packets are sent one by one for their events to be called
+        assertNull(connection.configurationPayload(env.process(), true));
+    }
+}
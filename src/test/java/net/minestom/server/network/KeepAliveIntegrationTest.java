@@ -0,0 +1,121 @@
+package net.minestom.server.network;
+
+import net.minestom.server.ServerFlag;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.Player;
+import net.minestom.server.network.packet.server.common.DisconnectPacket;
+import net.minestom.server.network.packet.server.common.KeepAlivePacket;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class KeepAliveIntegrationTest {
+    private static final long TICK = TimeUnit.SECONDS.toNanos(1) / ServerFlag.SERVER_TICKS_PER_SECOND;
+    private static final long DELAY = TimeUnit.MILLISECONDS.toNanos(ServerFlag.KEEP_ALIVE_DELAY);
+    private static final long KICK = TimeUnit.MILLISECONDS.toNanos(ServerFlag.KEEP_ALIVE_KICK);
+
+    @Test
+    public void wheelDeadline(Env env) {
+        var player = env.createPlayer(env.createFlatInstance(), Pos.ZERO);
+        var wheel = new KeepAliveWheel(TICK, DELAY);
+        List<Long> processed = new ArrayList<>();
+        wheel.add(player);
+
+        // New players are processed on the next tick
+        wheel.tick(0, (p, now) -> {
+            processed.add(now);
+            return now + 10 * TICK;
+        });
+        assertEquals(List.of(0L), processed);
+
+        // Not visited before its deadline
+        for (long now = TICK; now < 10 * TICK; now += TICK) {
+            wheel.tick(now, (p, time) -> fail("Processed before its deadline"));
+        }
+        wheel.tick(10 * TICK, (p, now) -> {
+            processed.add(now);
+            return KeepAliveWheel.STOP;
+        });
+        assertEquals(List.of(0L, 10 * TICK), processed);
+
+        // Stopped players are never processed again
+        for (long now = 11 * TICK; now < 40 * TICK; now += TICK) {
+            wheel.tick(now, (p, time) -> fail("Processed after being stopped"));
+        }
+    }
+
+    @Test
+    public void wheelRemove(Env env) {
+        var player = env.createPlayer(env.createFlatInstance(), Pos.ZERO);
+        var wheel = new KeepAliveWheel(TICK, DELAY);
+        wheel.add(player);
+        wheel.tick(0, (p, now) -> now + TICK);
+        wheel.remove(player);
+        for (long now = TICK; now < 10 * TICK; now += TICK) {
+            wheel.tick(now, (p, time) -> fail("Processed after removal"));
+        }
+    }
+
+    @Test
+    public void sendAndKick(Env env) {
+        var connection = env.createConnection();
+        var player = connection.connect(env.createFlatInstance(), Pos.ZERO);
+        var manager = env.process().connection();
+
+        final long start = System.nanoTime();
+        manager.tick(start);
+        // As if a keep alive had just been answered
+        player.refreshKeepAlive(start);
+        player.refreshAnswerKeepAlive(true);
+
+        var keepAlives = connection.trackIncoming(KeepAlivePacket.class);
+        manager.tick(start + DELAY);
+        keepAlives.assertEmpty();
+        final long sent = start + DELAY + TICK;
+        manager.tick(sent);
+        keepAlives.assertSingle(packet -> assertEquals(sent, packet.id()));
+
+        // Never answered, kicked once the kick delay elapsed
+        keepAlives = connection.trackIncoming(KeepAlivePacket.class);
+        var disconnects = connection.trackIncoming(DisconnectPacket.class);
+        for (long now = sent + TICK; now < sent + KICK; now += TICK) {
+            manager.tick(now);
+        }
+        disconnects.assertEmpty();
+        assertTrue(player.isOnline());
+        manager.tick(sent + KICK);
+        disconnects.assertCount(1);
+        keepAlives.assertEmpty();
+    }
+
+    @Test
+    public void answered(Env env) {
+        var connection = env.createConnection();
+        Player player = connection.connect(env.createFlatInstance(), Pos.ZERO);
+        var manager = env.process().connection();
+
+        final long start = System.nanoTime();
+        manager.tick(start);
+        player.refreshKeepAlive(start);
+        player.refreshAnswerKeepAlive(true);
+
+        var keepAlives = connection.trackIncoming(KeepAlivePacket.class);
+        var disconnects = connection.trackIncoming(DisconnectPacket.class);
+        // A keep alive every delay as long as they are answered
+        long now = start;
+        for (int i = 0; i < 3; i++) {
+            now += DELAY + TICK;
+            manager.tick(now);
+            player.refreshAnswerKeepAlive(true);
+        }
+        keepAlives.assertCount(3);
+        disconnects.assertEmpty();
+    }
+}
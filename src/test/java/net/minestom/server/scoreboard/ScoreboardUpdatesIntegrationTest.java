@@ -0,0 +1,137 @@
+package net.minestom.server.scoreboard;
+
+import net.kyori.adventure.text.Component;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.network.packet.server.play.ScoreboardObjectivePacket;
+import net.minestom.server.network.packet.server.play.TeamsPacket;
+import net.minestom.server.network.packet.server.play.UpdateScorePacket;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class ScoreboardUpdatesIntegrationTest {
+
+    @Test
+    public void markOnce() {
+        AtomicBoolean dirty = new AtomicBoolean();
+        AtomicInteger flushes = new AtomicInteger();
+        Runnable flusher = () -> {
+            dirty.set(false);
+            flushes.incrementAndGet();
+        };
+        ScoreboardUpdates.mark(dirty, flusher);
+        ScoreboardUpdates.mark(dirty, flusher);
+        ScoreboardUpdates.flush();
+        assertEquals(1, flushes.get());
+
+        ScoreboardUpdates.mark(dirty, flusher);
+        ScoreboardUpdates.flush();
+        assertEquals(2, flushes.get());
+    }
+
+    @Test
+    public void sidebarCoalescing() {
+        Sidebar sidebar = new Sidebar(Component.text("title"));
+        sidebar.createLine(new Sidebar.ScoreboardLine("line", Component.text("a"), 1));
+
+        // Reverted changes are dropped
+        sidebar.updateLineContent("line", Component.text("b"));
+        sidebar.updateLineContent("line", Component.text("a"));
+        sidebar.setTitle(Component.text("other"));
+        sidebar.setTitle(Component.text("title"));
+        assertTrue(sidebar.collectChanges().isEmpty());
+
+        // Only the latest values are sent
+        sidebar.updateLineContent("line", Component.text("b"));
+        sidebar.updateLineScore("line", 5);
+        sidebar.updateLineScore("line", 6);
+        var packets = sidebar.collectChanges();
+        assertEquals(2, packets.size());
+        assertInstanceOf(TeamsPacket.class, packets.get(0));
+        var score = assertInstanceOf(UpdateScorePacket.class, packets.get(1));
+        assertEquals(6, score.score());
+        assertTrue(sidebar.collectChanges().isEmpty());
+    }
+
+    @Test
+    public void tabListCoalescing() {
+        TabList tabList = new TabList("test", ScoreboardObjectivePacket.Type.INTEGER);
+        tabList.setType(ScoreboardObjectivePacket.Type.HEARTS);
+        tabList.setType(ScoreboardObjectivePacket.Type.INTEGER);
+        assertNull(tabList.collectChange());
+
+        tabList.setType(ScoreboardObjectivePacket.Type.HEARTS);
+        var packet = tabList.collectChange();
+        assertNotNull(packet);
+        assertEquals(ScoreboardObjectivePacket.Type.HEARTS, packet.type());
+        assertNull(tabList.collectChange());
+    }
+
+    @Test
+    public void teamCoalescing(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        connection.connect(instance, new Pos(0, 40, 0));
+        var team = env.process().team().createTeam("coalesced");
+        env.tick();
+
+        var tracker = connection.trackIncoming(TeamsPacket.class);
+        team.updatePrefix(Component.text("a"));
+        team.updatePrefix(Component.text("b"));
+        env.tick();
+        tracker.assertSingle(packet -> {
+            var action = assertInstanceOf(TeamsPacket.UpdateTeamAction.class, packet.action());
+            assertEquals(Component.text("b"), action.teamPrefix());
+        });
+
+        tracker = connection.trackIncoming(TeamsPacket.class);
+        team.updatePrefix(Component.text("c"));
+        team.updatePrefix(Component.text("b"));
+        env.tick();
+        tracker.assertEmpty();
+    }
+
+    @Test
+    public void teamImmediateUpdate(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        connection.connect(instance, new Pos(0, 40, 0));
+        var team = env.process().team().createTeam("immediate");
+        env.tick();
+
+        var tracker = connection.trackIncoming(TeamsPacket.class);
+        team.updatePrefix(Component.text("a"));
+        // Sent right away, the pending update has nothing left to send
+        team.sendUpdatePacket();
+        tracker.assertSingle(packet -> {
+            var action = assertInstanceOf(TeamsPacket.UpdateTeamAction.class, packet.action());
+            assertEquals(Component.text("a"), action.teamPrefix());
+        });
+        tracker = connection.trackIncoming(TeamsPacket.class);
+        env.tick();
+        tracker.assertEmpty();
+    }
+
+    @Test
+    public void teamDeletedWhileDirty(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        connection.connect(instance, new Pos(0, 40, 0));
+        var teamManager = env.process().team();
+        var team = teamManager.createTeam("deleted");
+        env.tick();
+
+        var tracker = connection.trackIncoming(TeamsPacket.class);
+        team.updatePrefix(Component.text("a"));
+        teamManager.deleteTeam(team);
+        env.tick();
+        // No update may follow the destruction
+        tracker.assertSingle(packet -> assertInstanceOf(TeamsPacket.RemoveTeamAction.class, packet.action()));
+    }
+}
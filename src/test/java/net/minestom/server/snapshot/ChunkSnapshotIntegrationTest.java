@@ -5,7 +5,7 @@ import net.minestom.testing.EnvTest;
 import net.minestom.server.instance.block.Block;
 import org.junit.jupiter.api.Test;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 @EnvTest
 public class ChunkSnapshotIntegrationTest {
@@ -23,4 +23,23 @@ public class ChunkSnapshotIntegrationTest {
         var chunk = inst.chunks().iterator().next();
         assertEquals(Block.STONE, chunk.getBlock(0, 0, 0));
     }
+
+    @Test
+    public void incremental(Env env) {
+        var instance = env.createFlatInstance();
+        instance.setBlock(0, 0, 0, Block.STONE);
+        var first = (SnapshotImpl.Chunk) ServerSnapshot.update().instances().iterator().next().chunks().iterator().next();
+
+        instance.setBlock(0, 0, 0, Block.DIRT);
+        var second = (SnapshotImpl.Chunk) ServerSnapshot.update().instances().iterator().next().chunks().iterator().next();
+
+        // Previous snapshots are left untouched
+        assertEquals(Block.STONE, first.getBlock(0, 0, 0));
+        assertEquals(Block.DIRT, second.getBlock(0, 0, 0));
+        // Only the modified section has been copied
+        final int modified = -first.minSection();
+        assertNotSame(first.sections()[modified], second.sections()[modified]);
+        assertSame(first.sections()[modified + 1], second.sections()[modified + 1]);
+        assertSame(first.blockEntries(), second.blockEntries());
+    }
 }
@@ -4,10 +4,10 @@ import net.minestom.server.entity.Entity;
 import net.minestom.server.entity.EntityType;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicReference;
 
-import static org.junit.jupiter.api.Assertions.assertNotEquals;
-import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.*;
 
 public class AcquirableTest {
 
@@ -42,4 +42,40 @@ public class AcquirableTest {
 
         assertNotEquals(firstThread, secondThread);
     }
+
+    @Test
+    public void post() {
+        AtomicReference<TickThread> tickThread = new AtomicReference<>();
+        Entity entity = new Entity(EntityType.ZOMBIE) {
+            @Override
+            public void tick(long time) {
+                super.tick(time);
+                tickThread.set(acquirable().assignedThread());
+            }
+        };
+        Object partition = new Object();
+
+        ThreadDispatcher<Object, Entity> dispatcher = ThreadDispatcher.dispatcher(ThreadProvider.counter(), 2);
+        dispatcher.start();
+        dispatcher.createPartition(partition);
+        dispatcher.updateElement(entity, partition);
+        dispatcher.updateAndAwait(System.nanoTime());
+        assertNotNull(tickThread.get());
+
+        // Queued until the next tick of the owning thread
+        AtomicReference<Thread> executor = new AtomicReference<>();
+        CompletableFuture<Void> posted = entity.acquirable().post(e -> executor.set(Thread.currentThread()));
+        CompletableFuture<Integer> asked = entity.acquirable().ask(e -> e.getEntityId());
+        CompletableFuture<Object> failed = entity.acquirable().ask(e -> {
+            throw new IllegalStateException();
+        });
+        assertFalse(posted.isDone());
+
+        dispatcher.updateAndAwait(System.nanoTime());
+        assertTrue(posted.isDone());
+        assertSame(tickThread.get(), executor.get());
+        assertEquals(entity.getEntityId(), asked.join());
+        assertTrue(failed.isCompletedExceptionally());
+        dispatcher.shutdown();
+    }
 }
@@ -43,6 +43,54 @@ public class TestScheduler {
         assertTrue(result.get(), "Tick task must be executed after 1 second");
     }
 
+    @Test
+    public void delayedTickTasks() {
+        Scheduler scheduler = Scheduler.newScheduler();
+        int[] delays = {1, 2, 63, 64, 65, 100, 4095, 4096, 4097, 10_000, 300_000};
+        long[] executions = new long[delays.length];
+        AtomicInteger tick = new AtomicInteger();
+        for (int i = 0; i < delays.length; i++) {
+            final int index = i;
+            scheduler.buildTask(() -> executions[index] = tick.get())
+                    .delay(TaskSchedule.tick(delays[i]))
+                    .schedule();
+        }
+        Task cancelled = scheduler.buildTask(() -> fail("Cancelled task should never be executed"))
+                .delay(TaskSchedule.tick(5000))
+                .schedule();
+        for (int i = 1; i <= 300_000; i++) {
+            tick.set(i);
+            scheduler.processTick();
+            if (i == 10) cancelled.cancel();
+        }
+        for (int i = 0; i < delays.length; i++) {
+            assertEquals(delays[i], executions[i], "Task with a delay of " + delays[i] + " ticks executed on the wrong tick");
+        }
+    }
+
+    @Test
+    public void cancelAll() {
+        Scheduler scheduler = Scheduler.newScheduler();
+        AtomicBoolean result = new AtomicBoolean(false);
+        var tickTask = scheduler.buildTask(() -> fail("Cancelled task should never be executed"))
+                .delay(TaskSchedule.tick(5))
+                .schedule();
+        var parkedTask = scheduler.buildTask(() -> fail("Cancelled task should never be executed"))
+                .delay(TaskSchedule.park())
+                .schedule();
+        scheduler.cancelAll();
+        assertFalse(tickTask.isAlive());
+        assertFalse(parkedTask.isAlive());
+
+        var task = scheduler.buildTask(() -> result.set(true))
+                .delay(TaskSchedule.tick(5))
+                .schedule();
+        parkedTask.unpark();
+        for (int i = 0; i < 5; i++) scheduler.processTick();
+        assertTrue(result.get(), "Tasks submitted after cancelAll() should be executed");
+        assertFalse(task.isAlive());
+    }
+
     @Test
     public void immediateTask() {
         Scheduler scheduler = Scheduler.newScheduler();
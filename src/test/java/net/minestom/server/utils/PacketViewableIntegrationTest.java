@@ -0,0 +1,109 @@
+package net.minestom.server.utils;
+
+import net.kyori.adventure.text.Component;
+import net.minestom.server.Viewable;
+import net.minestom.server.entity.Player;
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.network.packet.server.BufferedPacket;
+import net.minestom.server.network.packet.server.SendablePacket;
+import net.minestom.server.network.packet.server.play.SystemChatPacket;
+import net.minestom.server.network.player.GameProfile;
+import net.minestom.server.network.player.PlayerSocketConnection;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class PacketViewableIntegrationTest {
+
+    @Test
+    public void sharedSegment(Env env) throws IOException {
+        var first = new CapturingConnection();
+        var second = new CapturingConnection();
+        var viewable = new TestViewable(Set.of(player(first), player(second)));
+
+        PacketViewableUtils.prepareViewablePacket(viewable, new SystemChatPacket(Component.text("first"), false));
+        PacketViewableUtils.prepareViewablePacket(viewable, new SystemChatPacket(Component.text("second"), false));
+        PacketViewableUtils.flush();
+
+        // Both packets are queued at once, sharing the same buffer
+        var firstPacket = assertInstanceOf(BufferedPacket.class, assertSingle(first.packets));
+        var secondPacket = assertInstanceOf(BufferedPacket.class, assertSingle(second.packets));
+        assertSame(firstPacket.buffer(), secondPacket.buffer());
+        assertEquals(firstPacket.length(), secondPacket.length());
+        final NetworkBuffer buffer = firstPacket.buffer();
+        assertEquals(firstPacket.length(), buffer.writeIndex());
+
+        // Only recycled once every connection is done with it
+        firstPacket.written();
+        assertEquals(firstPacket.length(), buffer.writeIndex());
+        secondPacket.written();
+        assertEquals(0, buffer.writeIndex());
+    }
+
+    @Test
+    public void releaseOnClose() throws IOException {
+        var connection = new PlayerSocketConnection(SocketChannel.open(), null, Thread.currentThread(), Thread.currentThread());
+        var released = new AtomicInteger();
+        var buffer = NetworkBuffer.resizableBuffer();
+        connection.sendPacket(new BufferedPacket(buffer, 0, 0, released::incrementAndGet));
+        assertEquals(0, released.get());
+
+        connection.releasePackets();
+        assertEquals(1, released.get());
+
+        // Never queued once closed
+        connection.sendPacket(new BufferedPacket(buffer, 0, 0, released::incrementAndGet));
+        assertEquals(2, released.get());
+    }
+
+    private static Player player(PlayerSocketConnection connection) {
+        return new Player(connection, new GameProfile(UUID.randomUUID(), "viewer"));
+    }
+
+    private static SendablePacket assertSingle(List<SendablePacket> packets) {
+        assertEquals(1, packets.size());
+        return packets.getFirst();
+    }
+
+    private static final class CapturingConnection extends PlayerSocketConnection {
+        final List<SendablePacket> packets = new ArrayList<>();
+
+        CapturingConnection() throws IOException {
+            super(SocketChannel.open(), null, Thread.currentThread(), Thread.currentThread());
+        }
+
+        @Override
+        public void sendPackets(Collection<SendablePacket> packets) {
+            this.packets.addAll(packets);
+        }
+    }
+
+    private record TestViewable(Set<Player> viewers) implements Viewable {
+        @Override
+        public boolean addViewer(Player player) {
+            return false;
+        }
+
+        @Override
+        public boolean removeViewer(Player player) {
+            return false;
+        }
+
+        @Override
+        public Set<Player> getViewers() {
+            return viewers;
+        }
+    }
+}
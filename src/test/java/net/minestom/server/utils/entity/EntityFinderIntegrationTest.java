@@ -0,0 +1,119 @@
+package net.minestom.server.utils.entity;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.EntityType;
+import net.minestom.server.entity.GameMode;
+import net.minestom.server.utils.Range;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class EntityFinderIntegrationTest {
+
+    @Test
+    public void nearestWithLimit(Env env) {
+        var instance = env.createFlatInstance();
+        List<Entity> entities = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            var entity = new Entity(EntityType.ZOMBIE);
+            entity.setInstance(instance, new Pos(i * 3, 40, 0)).join();
+            entities.add(entity);
+        }
+        var finder = new EntityFinder()
+                .setTargetSelector(EntityFinder.TargetSelector.ALL_ENTITIES)
+                .setStartPosition(new Pos(10, 40, 0))
+                .setEntitySort(EntityFinder.EntitySort.NEAREST)
+                .setLimit(3);
+        assertEquals(List.of(entities.get(3), entities.get(4), entities.get(2)), finder.find(instance, null));
+
+        finder.setEntitySort(EntityFinder.EntitySort.FURTHEST);
+        assertEquals(List.of(entities.get(19), entities.get(18), entities.get(17)), finder.find(instance, null));
+
+        finder.setEntitySort(EntityFinder.EntitySort.RANDOM);
+        assertEquals(3, finder.find(instance, null).size());
+    }
+
+    @Test
+    public void distance(Env env) {
+        var instance = env.createFlatInstance();
+        List<Entity> entities = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            var entity = new Entity(i % 2 == 0 ? EntityType.ZOMBIE : EntityType.COW);
+            entity.setInstance(instance, new Pos(i, 40, 0)).join();
+            entities.add(entity);
+        }
+        var finder = new EntityFinder()
+                .setTargetSelector(EntityFinder.TargetSelector.ALL_ENTITIES)
+                .setStartPosition(new Pos(0, 40, 0))
+                .setDistance(new Range.Int(2, 5))
+                .setEntitySort(EntityFinder.EntitySort.NEAREST);
+        assertEquals(entities.subList(2, 6), finder.find(instance, null));
+
+        finder.setEntity(EntityType.COW, EntityFinder.ToggleableType.INCLUDE);
+        assertEquals(List.of(entities.get(3), entities.get(5)), finder.find(instance, null));
+
+        var volume = new EntityFinder()
+                .setTargetSelector(EntityFinder.TargetSelector.ALL_ENTITIES)
+                .setStartPosition(new Pos(10, 39, -1))
+                .setDifference(20, 41, 1)
+                .setEntity(EntityType.ZOMBIE, EntityFinder.ToggleableType.EXCLUDE);
+        assertEquals(5, volume.find(instance, null).size());
+    }
+
+    @Test
+    public void nearestPlayer(Env env) {
+        var instance = env.createFlatInstance();
+        var creative = env.createPlayer(instance, new Pos(20, 40, 0));
+        creative.setGameMode(GameMode.CREATIVE);
+        var survival = env.createPlayer(instance, new Pos(5, 40, 0));
+        var zombie = new Entity(EntityType.ZOMBIE);
+        zombie.setInstance(instance, new Pos(1, 40, 0)).join();
+
+        var finder = new EntityFinder()
+                .setTargetSelector(EntityFinder.TargetSelector.NEAREST_PLAYER)
+                .setStartPosition(new Pos(0, 40, 0));
+        assertEquals(List.of(survival), finder.find(instance, null));
+
+        // Filters apply before selecting the nearest player
+        finder.setGameMode(GameMode.CREATIVE, EntityFinder.ToggleableType.INCLUDE);
+        assertEquals(List.of(creative), finder.find(instance, null));
+
+        var nearestEntity = new EntityFinder()
+                .setTargetSelector(EntityFinder.TargetSelector.NEAREST_ENTITY)
+                .setStartPosition(new Pos(0, 40, 0));
+        assertEquals(List.of(zombie), nearestEntity.find(instance, null));
+        assertSame(creative, finder.findFirstPlayer(instance, null));
+    }
+
+    @Test
+    public void playerTypeEntity(Env env) {
+        var instance = env.createFlatInstance();
+        var player = env.createPlayer(instance, new Pos(5, 40, 0));
+        var npc = new Entity(EntityType.PLAYER);
+        npc.setInstance(instance, new Pos(1, 40, 0)).join();
+        var zombie = new Entity(EntityType.ZOMBIE);
+        zombie.setInstance(instance, new Pos(2, 40, 0)).join();
+
+        // Type filters match on the entity type, not only on player instances
+        var finder = new EntityFinder()
+                .setTargetSelector(EntityFinder.TargetSelector.ALL_ENTITIES)
+                .setStartPosition(new Pos(0, 40, 0))
+                .setEntitySort(EntityFinder.EntitySort.NEAREST)
+                .setEntity(EntityType.PLAYER, EntityFinder.ToggleableType.INCLUDE);
+        assertEquals(List.of(npc, player), finder.find(instance, null));
+        assertEquals(List.of(npc, player), finder.find(null, null));
+
+        // Player selectors still only match players
+        var allPlayers = new EntityFinder()
+                .setTargetSelector(EntityFinder.TargetSelector.ALL_PLAYERS)
+                .setStartPosition(new Pos(0, 40, 0));
+        assertEquals(List.of(player), allPlayers.find(instance, null));
+    }
+}